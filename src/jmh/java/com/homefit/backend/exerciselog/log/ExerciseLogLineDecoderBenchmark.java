@@ -0,0 +1,94 @@
+package com.homefit.backend.exerciselog.log;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 100만 라인짜리 합성 로그 파일에 대해 기존 정규식 파서와 {@link ExerciseLogLineDecoder}를 비교한다.
+ * 실제 로그처럼 대부분의 라인은 운동 로그 형식이 아니다. (EXERCISE_LINE_RATIO 참고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExerciseLogLineDecoderBenchmark {
+
+    private static final int LINE_COUNT = 1_000_000;
+    private static final int EXERCISE_LINE_RATIO = 10; // 10라인 중 1라인이 운동 로그
+
+    private static final String[] EXERCISES = {"Pushup", "Squat", "Burpee", "스쿼트", "런지"};
+
+    private Path logFile;
+    private List<String> lines;
+    private ExerciseLogLineDecoder decoder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("application.", ".log");
+        try (BufferedWriter writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < LINE_COUNT; i++) {
+                if (i % EXERCISE_LINE_RATIO == 0) {
+                    writer.write("[2024-09-11 10:45:32] INFO userId=" + (i % 5000) + " 운동명=" + EXERCISES[i % EXERCISES.length]
+                            + ", 횟수=" + (i % 50 + 1) + ", 소모 칼로리=" + (i % 300 + 10));
+                } else {
+                    writer.write("10:45:32.123 [http-nio-8080-exec-" + (i % 16) + "] INFO  c.h.b.exercise.service.ExerciseService - 운동 조회 요청: ID=" + i);
+                }
+                writer.newLine();
+            }
+        }
+        lines = Files.readAllLines(logFile, StandardCharsets.UTF_8);
+        decoder = new ExerciseLogLineDecoder();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(logFile);
+    }
+
+    // 기존 ExerciseLogsService.parseLogEntry 와 동일 (라인마다 Pattern.compile)
+    @Benchmark
+    public void regexPerLine(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(parseWithRegex(line));
+        }
+    }
+
+    @Benchmark
+    public void decoder(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(decoder.decode(line));
+        }
+    }
+
+    private static ExerciseLogsEntry parseWithRegex(String logLine) {
+        try {
+            Pattern pattern = Pattern.compile(
+                    "\\[(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2})\\] (INFO|WARN|ERROR) userId\\s*=\\s*(\\d+) 운동명=([가-힣a-zA-Z]+), 횟수=(\\d+), 소모 칼로리=(\\d+)"
+            );
+            Matcher matcher = pattern.matcher(logLine);
+
+            if (matcher.find()) {
+                LocalDate timestamp = LocalDate.parse(matcher.group(1).substring(0, 10));
+                return new ExerciseLogsEntry(timestamp, matcher.group(2), "ExerciseLog", logLine,
+                        Long.parseLong(matcher.group(3)), matcher.group(4),
+                        Integer.parseInt(matcher.group(5)), Integer.parseInt(matcher.group(6)));
+            }
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.homefit.backend.login.config.filter;
+
+import com.homefit.backend.login.config.provider.JwtTokenProvider;
+import com.homefit.backend.login.entity.RoleType;
+import com.homefit.backend.login.entity.User;
+import com.homefit.backend.login.service.TokenRevocationService;
+import com.homefit.backend.login.service.UserPrincipalCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.security.Key;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 처리량 비교.
+ * uncached 는 공유 파서로 매 요청 서명을 검증하고, cached 는 검증한 토큰의 claim 을 재사용한다.
+ * previousValidation 은 이전 구현처럼 요청마다 파서를 두 번 만들어 두 번 파싱하는 비용이다. (당시의 유저 DB 조회는 포함하지 않음)
+ * 클라이언트 TOKEN_COUNT 명이 각자의 토큰으로 반복 요청하는 상황을 가정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "homefit-benchmark-secret-key-homefit-benchmark-secret-key";
+    private static final int TOKEN_COUNT = 1_000;
+
+    @Param({"uncached", "cached"})
+    public String mode;
+
+    private Key key;
+    private JwtAuthenticationFilter filter;
+    private HttpServletRequest[] requests;
+    private String[] tokens;
+    private HttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, TimeUnit.HOURS.toMillis(1), "cached".equals(mode) ? TOKEN_COUNT * 2 : 0);
+        UserDetailsService userDetailsService = userName -> {
+            throw new IllegalStateException("claim 이 있는 토큰은 유저를 조회하지 않아야 합니다.");
+        };
+        UserPrincipalCache userPrincipalCache = new UserPrincipalCache(null, new SimpleMeterRegistry(), false, 0, 0);
+        // 폐기 목록은 메모리에서만 확인하므로 Redis 없이 생성
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(null);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, userPrincipalCache, tokenRevocationService);
+
+        tokens = new String[TOKEN_COUNT];
+        requests = new HttpServletRequest[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = jwtTokenProvider.generateToken(new User((long) i + 1, "user" + (i + 1), "encoded", RoleType.USER));
+            requests[i] = request("Bearer " + tokens[i]);
+        }
+        response = (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class}, (proxy, method, args) -> defaultValue(method.getReturnType()));
+        filterChain = (request, response) -> {
+        };
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private final SplittableRandom random = new SplittableRandom();
+
+        int next() {
+            return random.nextInt(TOKEN_COUNT);
+        }
+    }
+
+    @Benchmark
+    public Object filter(ThreadState state) throws ServletException, IOException {
+        filter.doFilterInternal(requests[state.next()], response, filterChain);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    @Benchmark
+    public String previousValidation(ThreadState state) {
+        String token = tokens[state.next()];
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    // Authorization 헤더만 돌려주는 요청 (나머지 메서드는 기본값)
+    private static HttpServletRequest request(String authorization) {
+        return (HttpServletRequest) Proxy.newProxyInstance(JwtAuthenticationFilterBenchmark.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getHeader") && "Authorization".equals(args[0])) {
+                        return authorization;
+                    }
+                    return defaultValue(method.getReturnType());
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
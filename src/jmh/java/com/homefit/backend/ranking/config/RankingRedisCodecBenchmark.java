@@ -0,0 +1,127 @@
+package com.homefit.backend.ranking.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 랭킹 member 직렬화 방식별 ZINCRBY, ZREVRANGE WITHSCORES 지연 시간과 할당량 비교.
+ * generic 은 기존 RedisConfig 템플릿(유저 ID 를 String.valueOf 로 바꾼 뒤 GenericToStringSerializer 사용),
+ * decimal, binary 는 RankingRedisConfig 의 Long 템플릿이다.
+ * embedded Redis 에 USER_COUNT 명을 미리 넣어 두고 측정한다.
+ * 할당량은 GC 프로파일러로 확인한다. (java -jar build/libs/*-jmh.jar RankingRedisCodecBenchmark -prof gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RankingRedisCodecBenchmark {
+
+    private static final String KEY = "user_ranking:benchmark";
+    private static final int USER_COUNT = 100_000;
+
+    @Param({"generic", "decimal", "binary"})
+    public String codec;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> genericTemplate;
+    private RedisTemplate<String, Long> rankingTemplate;
+    private RankingUserIdSerializer serializer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int port = freePort();
+        redisServer = RedisServer.builder().port(port).setting("save \"\"").build();
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        if ("generic".equals(codec)) {
+            genericTemplate = new RedisConfig().redisTemplate(connectionFactory);
+            genericTemplate.afterPropertiesSet();
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                genericTemplate.opsForZSet().add(KEY, String.valueOf(userId), userId % 1000);
+            }
+        } else {
+            RankingRedisConfig config = new RankingRedisConfig();
+            serializer = config.rankingUserIdSerializer(codec);
+            rankingTemplate = config.rankingRedisTemplate(connectionFactory, serializer);
+            rankingTemplate.afterPropertiesSet();
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                rankingTemplate.opsForZSet().add(KEY, userId, userId % 1000);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private final SplittableRandom random = new SplittableRandom();
+
+        long nextUserId() {
+            return random.nextInt(USER_COUNT);
+        }
+    }
+
+    @Benchmark
+    public Double zincrby(ThreadState state) {
+        if (genericTemplate != null) {
+            return genericTemplate.opsForZSet().incrementScore(KEY, String.valueOf(state.nextUserId()), 1);
+        }
+        return rankingTemplate.opsForZSet().incrementScore(KEY, state.nextUserId(), 1);
+    }
+
+    // 상위 50명을 읽고 유저 ID 를 Long 으로 꺼내는 비용까지 포함
+    @Benchmark
+    public void zrevrangeWithScores(Blackhole blackhole) {
+        if (genericTemplate != null) {
+            Set<ZSetOperations.TypedTuple<Object>> tuples = genericTemplate.opsForZSet().reverseRangeWithScores(KEY, 0, 49);
+            for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                blackhole.consume(Long.valueOf(String.valueOf(tuple.getValue())));
+                blackhole.consume(tuple.getScore());
+            }
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<Long>> tuples = rankingTemplate.opsForZSet().reverseRangeWithScores(KEY, 0, 49);
+        for (ZSetOperations.TypedTuple<Long> tuple : tuples) {
+            blackhole.consume(tuple.getValue());
+            blackhole.consume(tuple.getScore());
+        }
+    }
+
+    // 네트워크 없이 member 직렬화와 역직렬화만 비교
+    @Benchmark
+    public Object encodeDecode(ThreadState state) {
+        long userId = state.nextUserId();
+        if (genericTemplate != null) {
+            GenericToStringSerializer<Object> generic = (GenericToStringSerializer<Object>) genericTemplate.getValueSerializer();
+            return Long.valueOf(String.valueOf(generic.deserialize(generic.serialize(String.valueOf(userId)))));
+        }
+        return serializer.deserialize(serializer.serialize(userId));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.homefit.backend.ranking.load;
+
+import com.homefit.backend.exerciselog.log.ExerciseEventCodec;
+import com.homefit.backend.exerciselog.log.ExerciseEventRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 랭킹 API 부하 생성기.
+ * 운동을 마친 유저가 점수를 반영하고(POST /api/ranking/update), 이어서 일간 순위표와 자기 등수를 확인하는 흐름을 재현한다.
+ * 운동 완료 시각은 정해진 일정대로 보내는 open-loop 방식이라, 서버가 느려져도 요청 간격이 늘어나지 않고
+ * 지연 시간은 원래 보냈어야 할 시각부터 측정한다. (coordinated omission 방지)
+ *
+ * 트래픽은 두 가지 중 하나로 만든다.
+ * - 합성: 유저 활동량은 Zipf 분포, 시간대별 요청량은 하루 패턴(아침, 점심, 저녁 피크)을 duration 에 압축
+ * - 재생: --replay 로 지정한 운동 이벤트 로그(exercise-event.log)의 기록 시각, 유저, 횟수를 --speedup 배속으로 재생
+ *
+ * 사용 예: ./gradlew rankingLoad --args="--base-url=http://localhost:8080 --token=... --rate=300 --duration-sec=120 --p99-budget-ms=50"
+ * --p99-budget-ms 를 넘는 API 가 있으면 종료 코드 1 로 끝나므로 배포 전 회귀 확인에 사용할 수 있다.
+ */
+public class RankingLoadGenerator {
+
+    // 시간대별 상대 요청량 (0시 ~ 23시)
+    private static final double[] HOURLY_PROFILE = {
+            0.2, 0.1, 0.1, 0.1, 0.2, 0.5, 1.2, 1.8, 1.3, 0.8, 0.7, 0.9,
+            1.5, 1.2, 0.7, 0.6, 0.8, 1.1, 1.7, 2.0, 1.6, 1.1, 0.7, 0.4};
+
+    private final Map<String, String> options;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private final String baseUrl;
+    private final String token;
+    private final double leaderboardRatio;
+    private final double rankRatio;
+
+    private RankingLoadGenerator(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = option("base-url", "http://localhost:8080");
+        this.token = option("token", System.getenv().getOrDefault("HOMEFIT_TOKEN", ""));
+        this.leaderboardRatio = Double.parseDouble(option("leaderboard-ratio", "0.8"));
+        this.rankRatio = Double.parseDouble(option("rank-ratio", "0.5"));
+        for (String endpoint : List.of("update", "leaderboard", "rank")) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--이름=값 형식이어야 합니다: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        System.exit(new RankingLoadGenerator(options).run());
+    }
+
+    private int run() throws IOException, InterruptedException {
+        List<Workout> schedule = options.containsKey("replay") ? replaySchedule() : syntheticSchedule();
+        int concurrency = Integer.parseInt(option("concurrency", "64"));
+        System.out.printf("workouts=%d, concurrency=%d, target=%s%n", schedule.size(), concurrency, baseUrl);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        SplittableRandom random = new SplittableRandom(7);
+        long start = System.nanoTime();
+        for (Workout workout : schedule) {
+            long intendedStart = start + workout.offsetNanos;
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            boolean readLeaderboard = random.nextDouble() < leaderboardRatio;
+            boolean readRank = random.nextDouble() < rankRatio;
+            executor.execute(() -> complete(workout, intendedStart, readLeaderboard, readRank));
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.MINUTES);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        long budgetMillis = Long.parseLong(option("p99-budget-ms", "0"));
+        boolean withinBudget = true;
+        for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            long p99 = recorder.percentileMicros(99.0);
+            System.out.printf("RESULT endpoint=%s count=%d errors=%d rps=%.1f p50_ms=%.2f p90_ms=%.2f p99_ms=%.2f p999_ms=%.2f max_ms=%.2f%n",
+                    entry.getKey(), recorder.count(), recorder.errors.sum(), recorder.count() / elapsedSeconds,
+                    recorder.percentileMicros(50.0) / 1000.0, recorder.percentileMicros(90.0) / 1000.0, p99 / 1000.0,
+                    recorder.percentileMicros(99.9) / 1000.0, recorder.percentileMicros(100.0) / 1000.0);
+            if (budgetMillis > 0 && p99 > budgetMillis * 1000) {
+                System.out.printf("BUDGET_EXCEEDED endpoint=%s p99_ms=%.2f budget_ms=%d%n", entry.getKey(), p99 / 1000.0, budgetMillis);
+                withinBudget = false;
+            }
+        }
+        return withinBudget ? 0 : 1;
+    }
+
+    // 점수 반영 후 순위표와 자기 등수 확인 (후속 조회는 실제 사용자처럼 앞 요청이 끝난 뒤 보냄)
+    private void complete(Workout workout, long intendedStart, boolean readLeaderboard, boolean readRank) {
+        send("update", HttpRequest.newBuilder(URI.create(baseUrl + "/api/ranking/update"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"userId\":" + workout.userId + ",\"count\":" + workout.count + "}")), intendedStart);
+        if (readLeaderboard) {
+            send("leaderboard", HttpRequest.newBuilder(URI.create(baseUrl + "/api/ranking/leaderboard?period=daily&offset=0&limit=10")).GET(), System.nanoTime());
+        }
+        if (readRank) {
+            send("rank", HttpRequest.newBuilder(URI.create(baseUrl + "/api/ranking/rank?period=daily&userId=" + workout.userId)).GET(), System.nanoTime());
+        }
+    }
+
+    private void send(String endpoint, HttpRequest.Builder builder, long startNanos) {
+        LatencyRecorder recorder = recorders.get(endpoint);
+        if (!token.isEmpty()) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        try {
+            HttpResponse<Void> response = httpClient.send(builder.timeout(Duration.ofSeconds(10)).build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400) {
+                recorder.errors.increment();
+            }
+        } catch (IOException e) {
+            recorder.errors.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        recorder.record((System.nanoTime() - startNanos) / 1000);
+    }
+
+    // 평균 rate 건/초, 유저 활동량은 Zipf 분포, 요청량은 하루 패턴을 duration 에 압축
+    private List<Workout> syntheticSchedule() {
+        int users = Integer.parseInt(option("users", "100000"));
+        double rate = Double.parseDouble(option("rate", "200"));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(option("duration-sec", "60")));
+        ZipfSampler userSampler = new ZipfSampler(users, Double.parseDouble(option("zipf", "1.1")));
+        SplittableRandom random = new SplittableRandom(Long.parseLong(option("seed", "42")));
+
+        double averageProfile = Arrays.stream(HOURLY_PROFILE).average().orElse(1.0);
+        List<Workout> schedule = new ArrayList<>();
+        double offsetNanos = 0;
+        while (true) {
+            int hour = (int) (offsetNanos * HOURLY_PROFILE.length / durationNanos);
+            double currentRate = rate * HOURLY_PROFILE[Math.min(hour, HOURLY_PROFILE.length - 1)] / averageProfile;
+            // 포아송 도착 간격
+            offsetNanos += -Math.log(1 - random.nextDouble()) / currentRate * 1e9;
+            if (offsetNanos >= durationNanos) {
+                return schedule;
+            }
+            // 한 번의 운동은 보통 10~30회, 가끔 많게
+            long count = Math.max(1, Math.round(Math.exp(3.0 + 0.6 * random.nextGaussian())));
+            schedule.add(new Workout((long) offsetNanos, userSampler.next(random), count));
+        }
+    }
+
+    // 운동 이벤트 로그의 기록 시각 간격을 speedup 배속으로 재생
+    private List<Workout> replaySchedule() throws IOException {
+        double speedup = Double.parseDouble(option("speedup", "60"));
+        ExerciseEventCodec codec = new ExerciseEventCodec();
+        List<ExerciseEventRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(options.get("replay")), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                ExerciseEventRecord record = codec.decode(line);
+                if (record != null && record.getLoggedAt() != null && record.getExerciseCount() != null) {
+                    records.add(record);
+                }
+            }
+        }
+        records.sort((a, b) -> a.getLoggedAt().compareTo(b.getLoggedAt()));
+        if (records.isEmpty()) {
+            return List.of();
+        }
+
+        long firstMillis = records.get(0).getLoggedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        List<Workout> schedule = new ArrayList<>(records.size());
+        for (ExerciseEventRecord record : records) {
+            long millis = record.getLoggedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - firstMillis;
+            schedule.add(new Workout((long) (TimeUnit.MILLISECONDS.toNanos(millis) / speedup), record.getUserId(), record.getExerciseCount()));
+        }
+        return schedule;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private static class Workout {
+        private final long offsetNanos;
+        private final long userId;
+        private final long count;
+
+        private Workout(long offsetNanos, long userId, long count) {
+            this.offsetNanos = offsetNanos;
+            this.userId = userId;
+            this.count = count;
+        }
+    }
+
+    // 1..n 중 k 를 1/k^s 에 비례하는 확률로 뽑음 (누적 분포 이진 탐색)
+    private static class ZipfSampler {
+        private final double[] cumulative;
+
+        private ZipfSampler(int n, double s) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int k = 1; k <= n; k++) {
+                sum += 1.0 / Math.pow(k, s);
+                cumulative[k - 1] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        private long next(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return (index >= 0 ? index : -index - 1) + 1;
+        }
+    }
+
+    // 지연 시간(마이크로초) 표본
+    private static class LatencyRecorder {
+        private final LongAdder errors = new LongAdder();
+        private long[] samples = new long[1024];
+        private int size;
+
+        private synchronized void record(long micros) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = micros;
+        }
+
+        private synchronized long count() {
+            return size;
+        }
+
+        private synchronized long percentileMicros(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            return sorted[Math.max(0, Math.min(index, size - 1))];
+        }
+    }
+}
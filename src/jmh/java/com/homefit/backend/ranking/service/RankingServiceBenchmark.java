@@ -0,0 +1,146 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.ranking.config.RankingRedisConfig;
+import com.homefit.backend.ranking.config.RankingUserIdSerializer;
+import com.homefit.backend.ranking.dto.RankingUpdateRequestDto;
+import com.homefit.backend.ranking.repository.InMemoryRankingStore;
+import com.homefit.backend.ranking.repository.RankingStore;
+import com.homefit.backend.ranking.repository.RedisRankingStore;
+import com.homefit.backend.ranking.util.RankingWindow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RankingService 의 점수 반영, 상위 N명 조회, 등수 조회 성능 측정.
+ * store=redis 는 embedded Redis 를, store=memory 는 프로세스 내부 저장소를 사용하며
+ * 측정 전에 오늘 일간, 주간, 월간 key 에 userCount 명의 점수를 채워 둔다.
+ * 동시성은 실행 스레드 수로 조절한다. (./gradlew jmh -Pjmh.includes=RankingServiceBenchmark -Pjmh.threads=16)
+ * 1000만 명은 Redis 메모리를 약 1GB 사용하므로 필요하면 -Pjmh.userCount=1000,100000 처럼 범위를 줄여서 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RankingServiceBenchmark {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    @Param({"memory", "redis"})
+    public String store;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int userCount;
+
+    // true 면 write-behind 누적 경로를, false 면 저장소에 바로 쓰는 경로를 측정
+    @Param({"false"})
+    public boolean writeBehind;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RankingScoreAccumulator accumulator;
+    private RankingService rankingService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        RankingStore rankingStore;
+        if ("redis".equals(store)) {
+            int port = freePort();
+            redisServer = RedisServer.builder().port(port).setting("maxmemory 4gb").setting("save \"\"").build();
+            redisServer.start();
+            connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+            connectionFactory.afterPropertiesSet();
+            RankingRedisConfig config = new RankingRedisConfig();
+            RankingUserIdSerializer serializer = config.rankingUserIdSerializer("decimal");
+            RedisTemplate<String, Long> redisTemplate = config.rankingRedisTemplate(connectionFactory, serializer);
+            redisTemplate.afterPropertiesSet();
+            rankingStore = new RedisRankingStore(redisTemplate, serializer);
+        } else {
+            rankingStore = new InMemoryRankingStore();
+        }
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RankingNearCache nearCache = new RankingNearCache(rankingStore, meterRegistry, 100, 500);
+        accumulator = new RankingScoreAccumulator(rankingStore, nearCache, meterRegistry, writeBehind, 200, 1000);
+        accumulator.start();
+        RankingWindowResolver windowResolver = new RankingWindowResolver(rankingStore, 600_000, 1_000);
+        rankingService = new RankingService(rankingStore, accumulator, null, nearCache, windowResolver, null);
+
+        load(rankingStore);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        accumulator.shutdown();
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private final SplittableRandom random = new SplittableRandom();
+
+        long nextUserId(int userCount) {
+            return random.nextInt(userCount);
+        }
+
+        long nextCount() {
+            return 1 + random.nextInt(50);
+        }
+    }
+
+    @Benchmark
+    public void updateUserExerciseRanking(ThreadState state) {
+        rankingService.updateUserExerciseRanking(new RankingUpdateRequestDto(state.nextUserId(userCount), state.nextCount()));
+    }
+
+    @Benchmark
+    public Set<Object> getTopUsers() {
+        return rankingService.getTopUsers("daily", 10);
+    }
+
+    @Benchmark
+    public Long getUserRank(ThreadState state) {
+        return rankingService.getUserRank("weekly", state.nextUserId(userCount));
+    }
+
+    // 일간 버킷과 주간, 월간 key 에 유저마다 1~1000 점을 채움
+    private void load(RankingStore rankingStore) {
+        LocalDate today = LocalDate.now();
+        List<RankingWindow> materialized = RankingWindow.materializedOf(today);
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Long, Long> batch = new HashMap<>(LOAD_BATCH_SIZE * 2);
+        for (long userId = 0; userId < userCount; userId++) {
+            batch.put(userId, 1L + random.nextInt(1000));
+            if (batch.size() == LOAD_BATCH_SIZE || userId == userCount - 1) {
+                rankingStore.addUserScores(batch, RankingWindow.dayOf(today), materialized);
+                batch.clear();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
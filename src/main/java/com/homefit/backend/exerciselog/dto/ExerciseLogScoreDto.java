@@ -0,0 +1,16 @@
+package com.homefit.backend.exerciselog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 랭킹 재구성에 필요한 운동 기록 컬럼만 담은 조회 결과
+@Getter
+@AllArgsConstructor
+public class ExerciseLogScoreDto {
+
+    private Long userId;
+    private LocalDate date;
+    private Integer exerciseCount;
+}
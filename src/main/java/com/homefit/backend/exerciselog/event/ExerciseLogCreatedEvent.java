@@ -0,0 +1,35 @@
+package com.homefit.backend.exerciselog.event;
+
+import com.homefit.backend.exerciselog.entity.ExerciseLog;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+// 운동 기록 생성 이벤트 (트랜잭션 커밋 이후 집계/랭킹 갱신에 사용)
+@Getter
+@RequiredArgsConstructor
+public class ExerciseLogCreatedEvent {
+
+    private final Long exerciseLogId;
+    private final Long userId;
+    private final Long exerciseId;
+    private final Long categoryId;  // 운동의 카테고리, 없으면 null
+    private final String exerciseName;
+    private final LocalDate date;
+    private final Integer exerciseCount;
+    private final Double caloriesBurned;
+
+    public static ExerciseLogCreatedEvent from(ExerciseLog exerciseLog) {
+        return new ExerciseLogCreatedEvent(
+                exerciseLog.getId(),
+                exerciseLog.getUser().getId(),
+                exerciseLog.getExercise().getId(),
+                exerciseLog.getExercise().getExerciseCategory() != null ? exerciseLog.getExercise().getExerciseCategory().getId() : null,
+                exerciseLog.getExercise().getExerciseName(),
+                exerciseLog.getDate() != null ? exerciseLog.getDate() : LocalDate.now(),
+                exerciseLog.getExerciseCount(),
+                exerciseLog.getCaloriesBurned()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.homefit.backend.exerciselog.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 운동 기록 삭제 이벤트 (집계/랭킹은 삭제된 기록의 값을 뺌)
+@Getter
+@RequiredArgsConstructor
+public class ExerciseLogDeletedEvent {
+
+    private final ExerciseLogCreatedEvent previous;  // 삭제된 기록의 값
+}
@@ -0,0 +1,13 @@
+package com.homefit.backend.exerciselog.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 운동 기록 수정 이벤트 (집계/랭킹은 이전 값을 빼고 새 값을 더함)
+@Getter
+@RequiredArgsConstructor
+public class ExerciseLogUpdatedEvent {
+
+    private final ExerciseLogCreatedEvent previous;  // 수정 전 값
+    private final ExerciseLogCreatedEvent current;   // 수정 후 값
+}
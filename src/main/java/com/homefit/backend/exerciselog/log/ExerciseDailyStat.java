@@ -0,0 +1,71 @@
+package com.homefit.backend.exerciselog.log;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 운동 집계 테이블.
+ * 운동 기록이 커밋될 때마다 누적되며, 관리자 통계 API는 로그 파일 대신 이 테이블을 조회한다.
+ * 유니크 키에 NULL이 들어가지 않도록 "전체"를 의미하는 값은 ALL_USERS, ALL_EXERCISES 로 저장한다.
+ */
+@Getter
+@Entity
+@Table(name = "exercise_daily_stat",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_exercise_daily_stat",
+                columnNames = {"stat_date", "stat_type", "user_id", "exercise_name"}
+        ))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExerciseDailyStat {
+
+    public static final long ALL_USERS = 0L;
+    public static final String ALL_EXERCISES = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stat_type", nullable = false, length = 20)
+    private StatType statType;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "exercise_name", nullable = false)
+    private String exerciseName;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;        // 운동 기록 건수
+
+    @Column(name = "exercise_count", nullable = false)
+    private long exerciseCount;     // 운동 횟수 합계
+
+    @Column(name = "calories_burned", nullable = false)
+    private double caloriesBurned;  // 소모 칼로리 합계
+
+    public ExerciseDailyStat(LocalDate statDate, StatType statType, Long userId, String exerciseName,
+                             long entryCount, long exerciseCount, double caloriesBurned) {
+        this.statDate = statDate;
+        this.statType = statType;
+        this.userId = userId;
+        this.exerciseName = exerciseName;
+        this.entryCount = entryCount;
+        this.exerciseCount = exerciseCount;
+        this.caloriesBurned = caloriesBurned;
+    }
+
+    public enum StatType {
+        TOTAL,          // 일자 전체 합계
+        EXERCISE,       // 운동별 합계 (선호도)
+        USER,           // 유저별 합계
+        USER_EXERCISE   // 유저 x 운동별 합계
+    }
+}
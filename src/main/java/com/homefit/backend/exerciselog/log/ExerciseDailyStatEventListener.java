@@ -0,0 +1,46 @@
+package com.homefit.backend.exerciselog.log;
+
+import com.homefit.backend.exerciselog.event.ExerciseLogCreatedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogDeletedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExerciseDailyStatEventListener {
+
+    private final ExerciseDailyStatService exerciseDailyStatService;
+
+    // 운동 기록 트랜잭션이 커밋된 뒤에만 집계 (롤백된 기록은 반영하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExerciseLogCreated(ExerciseLogCreatedEvent event) {
+        try {
+            exerciseDailyStatService.record(event);
+        } catch (Exception e) {
+            log.error("운동 집계 반영 실패: exerciseLogId={}, userId={}", event.getExerciseLogId(), event.getUserId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExerciseLogUpdated(ExerciseLogUpdatedEvent event) {
+        try {
+            exerciseDailyStatService.update(event);
+        } catch (Exception e) {
+            log.error("운동 집계 수정 반영 실패: exerciseLogId={}, userId={}", event.getCurrent().getExerciseLogId(), event.getCurrent().getUserId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExerciseLogDeleted(ExerciseLogDeletedEvent event) {
+        try {
+            exerciseDailyStatService.delete(event);
+        } catch (Exception e) {
+            log.error("운동 집계 삭제 반영 실패: exerciseLogId={}, userId={}", event.getPrevious().getExerciseLogId(), event.getPrevious().getUserId(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.homefit.backend.exerciselog.log;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExerciseDailyStatRepository extends JpaRepository<ExerciseDailyStat, Long> {
+
+    List<ExerciseDailyStat> findByStatDateAndStatType(LocalDate statDate, ExerciseDailyStat.StatType statType);
+
+    Optional<ExerciseDailyStat> findByStatDateAndStatTypeAndUserIdAndExerciseName(
+            LocalDate statDate, ExerciseDailyStat.StatType statType, Long userId, String exerciseName);
+
+    // 집계 행을 원자적으로 누적 (행이 없으면 생성, 있으면 더함)
+    // VALUES(col) 은 MySQL 8.0.20 부터 deprecated 라서 행 별칭(8.0.19+)으로 새 값을 참조
+    @Modifying
+    @Query(value = "INSERT INTO exercise_daily_stat " +
+            "(stat_date, stat_type, user_id, exercise_name, entry_count, exercise_count, calories_burned) " +
+            "VALUES (:statDate, :statType, :userId, :exerciseName, :entryCount, :exerciseCount, :caloriesBurned) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "entry_count = entry_count + new.entry_count, " +
+            "exercise_count = exercise_count + new.exercise_count, " +
+            "calories_burned = calories_burned + new.calories_burned",
+            nativeQuery = true)
+    void accumulate(@Param("statDate") LocalDate statDate,
+                    @Param("statType") String statType,
+                    @Param("userId") Long userId,
+                    @Param("exerciseName") String exerciseName,
+                    @Param("entryCount") long entryCount,
+                    @Param("exerciseCount") long exerciseCount,
+                    @Param("caloriesBurned") double caloriesBurned);
+
+    // 수정, 삭제로 기록이 모두 빠진 집계 행 삭제
+    @Modifying
+    @Query("DELETE FROM ExerciseDailyStat s WHERE s.statDate = :statDate AND s.entryCount <= 0")
+    int deleteEmpty(@Param("statDate") LocalDate statDate);
+}
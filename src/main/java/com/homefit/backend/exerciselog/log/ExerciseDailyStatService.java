@@ -0,0 +1,125 @@
+package com.homefit.backend.exerciselog.log;
+
+import com.homefit.backend.exerciselog.event.ExerciseLogCreatedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogDeletedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogUpdatedEvent;
+import com.homefit.backend.exerciselog.log.ExerciseDailyStat.StatType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운동 기록 커밋 시점에 일자별 집계를 누적하고 (수정, 삭제는 이전 값을 음수로 누적하고 건수가 0 이 된 행은 삭제),
+ * 관리자 통계 API에 집계 결과를 제공한다.
+ * 조회 비용은 로그 파일 크기가 아닌 결과 크기에 비례한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExerciseDailyStatService {
+
+    private final ExerciseDailyStatRepository exerciseDailyStatRepository;
+
+    // 운동 기록 1건을 일자별 집계에 누적 (커밋 이후 호출되므로 별도 트랜잭션에서 실행)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void record(ExerciseLogCreatedEvent event) {
+        apply(event, 1);
+    }
+
+    // 수정된 기록은 이전 값을 빼고 새 값을 더함 (날짜나 운동이 바뀌면 다른 행에 반영됨)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void update(ExerciseLogUpdatedEvent event) {
+        apply(event.getPrevious(), -1);
+        apply(event.getCurrent(), 1);
+        exerciseDailyStatRepository.deleteEmpty(event.getPrevious().getDate());
+    }
+
+    // 삭제된 기록의 값을 뺌
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void delete(ExerciseLogDeletedEvent event) {
+        apply(event.getPrevious(), -1);
+        exerciseDailyStatRepository.deleteEmpty(event.getPrevious().getDate());
+    }
+
+    // sign 이 -1 이면 건수, 횟수, 칼로리를 모두 음수로 누적
+    private void apply(ExerciseLogCreatedEvent event, int sign) {
+        LocalDate date = event.getDate();
+        Long userId = event.getUserId();
+        String exerciseName = event.getExerciseName() != null ? event.getExerciseName() : ExerciseDailyStat.ALL_EXERCISES;
+        long entryCount = sign;
+        long exerciseCount = sign * (event.getExerciseCount() != null ? event.getExerciseCount() : 0L);
+        double caloriesBurned = sign * (event.getCaloriesBurned() != null ? event.getCaloriesBurned() : 0.0);
+
+        accumulate(date, StatType.TOTAL, ExerciseDailyStat.ALL_USERS, ExerciseDailyStat.ALL_EXERCISES, entryCount, exerciseCount, caloriesBurned);
+        accumulate(date, StatType.EXERCISE, ExerciseDailyStat.ALL_USERS, exerciseName, entryCount, exerciseCount, caloriesBurned);
+        accumulate(date, StatType.USER, userId, ExerciseDailyStat.ALL_EXERCISES, entryCount, exerciseCount, caloriesBurned);
+        accumulate(date, StatType.USER_EXERCISE, userId, exerciseName, entryCount, exerciseCount, caloriesBurned);
+    }
+
+    private void accumulate(LocalDate date, StatType statType, Long userId, String exerciseName, long entryCount, long exerciseCount, double caloriesBurned) {
+        exerciseDailyStatRepository.accumulate(date, statType.name(), userId, exerciseName, entryCount, exerciseCount, caloriesBurned);
+    }
+
+    // 운동 선호도 조회 (운동별 기록 건수)
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getExercisePopularity(LocalDate date) {
+        Map<String, Integer> exercisePopularity = new HashMap<>();
+        for (ExerciseDailyStat stat : exerciseDailyStatRepository.findByStatDateAndStatType(date, StatType.EXERCISE)) {
+            exercisePopularity.put(stat.getExerciseName(), (int) stat.getEntryCount());
+        }
+        return exercisePopularity;
+    }
+
+    // 유저별 운동 횟수 조회
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getUserExerciseCounts(LocalDate date) {
+        Map<Long, Integer> userExerciseCounts = new HashMap<>();
+        for (ExerciseDailyStat stat : exerciseDailyStatRepository.findByStatDateAndStatType(date, StatType.USER)) {
+            userExerciseCounts.put(stat.getUserId(), (int) stat.getExerciseCount());
+        }
+        return userExerciseCounts;
+    }
+
+    // 전체 운동 횟수 조회
+    @Transactional(readOnly = true)
+    public int getTotalExerciseCount(LocalDate date) {
+        return exerciseDailyStatRepository.findByStatDateAndStatTypeAndUserIdAndExerciseName(
+                        date, StatType.TOTAL, ExerciseDailyStat.ALL_USERS, ExerciseDailyStat.ALL_EXERCISES)
+                .map(stat -> (int) stat.getExerciseCount())
+                .orElse(0);
+    }
+
+    // 날짜별 운동 기록 조회 (기록 건수만큼 운동명을 반복)
+    @Transactional(readOnly = true)
+    public Map<LocalDate, List<String>> getExerciseByDate(LocalDate date) {
+        List<ExerciseDailyStat> stats = exerciseDailyStatRepository.findByStatDateAndStatType(date, StatType.EXERCISE);
+        if (stats.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> exercises = new ArrayList<>();
+        for (ExerciseDailyStat stat : stats) {
+            exercises.addAll(Collections.nCopies((int) stat.getEntryCount(), stat.getExerciseName()));
+        }
+        return Map.of(date, exercises);
+    }
+
+    // 유저별 운동 카운트 조회
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, Integer>> getExerciseCounts(LocalDate date) {
+        Map<Long, Map<String, Integer>> userExerciseData = new HashMap<>();
+        for (ExerciseDailyStat stat : exerciseDailyStatRepository.findByStatDateAndStatType(date, StatType.USER_EXERCISE)) {
+            userExerciseData
+                    .computeIfAbsent(stat.getUserId(), k -> new HashMap<>())
+                    .put(stat.getExerciseName(), (int) stat.getExerciseCount());
+        }
+        return userExerciseData;
+    }
+}
@@ -0,0 +1,146 @@
+package com.homefit.backend.exerciselog.log;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 운동 이벤트 레코드 코덱.
+ * 레코드를 한 줄짜리 JSON 으로 기록하고, Jackson 스트리밍 파서로 토큰 단위로 읽어 되돌린다. (정규식 없음)
+ * 필드 순서에 의존하지 않으며, 알 수 없는 필드는 건너뛴다. (여러 스레드에서 공유해도 안전)
+ */
+public class ExerciseEventCodec {
+
+    private static final String VERSION = "v";
+    private static final String LOGGED_AT = "loggedAt";
+    private static final String DATE = "date";
+    private static final String EXERCISE_LOG_ID = "exerciseLogId";
+    private static final String USER_ID = "userId";
+    private static final String EXERCISE_ID = "exerciseId";
+    private static final String EXERCISE_NAME = "exerciseName";
+    private static final String EXERCISE_COUNT = "exerciseCount";
+    private static final String CALORIES_BURNED = "caloriesBurned";
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final LongAdder decodedLines = new LongAdder();
+    private final LongAdder failedLines = new LongAdder();
+
+    public String encode(ExerciseEventRecord record) {
+        StringWriter writer = new StringWriter(160);
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeNumberField(VERSION, FORMAT_VERSION);
+            generator.writeStringField(LOGGED_AT, record.getLoggedAt().toString());
+            generator.writeStringField(DATE, record.getDate().toString());
+            writeNumber(generator, EXERCISE_LOG_ID, record.getExerciseLogId());
+            writeNumber(generator, USER_ID, record.getUserId());
+            writeNumber(generator, EXERCISE_ID, record.getExerciseId());
+            generator.writeStringField(EXERCISE_NAME, record.getExerciseName());
+            writeNumber(generator, EXERCISE_COUNT, record.getExerciseCount());
+            if (record.getCaloriesBurned() != null) {
+                generator.writeNumberField(CALORIES_BURNED, record.getCaloriesBurned());
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            // StringWriter 에 쓰는 중에는 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    public ExerciseEventRecord decode(String line) {
+        return decode(line, 0, line.length());
+    }
+
+    // seq[start, end) 구간을 한 레코드로 보고 디코딩, 형식이 맞지 않으면 null
+    public ExerciseEventRecord decode(CharSequence seq, int start, int end) {
+        ExerciseEventRecord record = parse(seq, start, end);
+        if (record == null) {
+            failedLines.increment();
+        } else {
+            decodedLines.increment();
+        }
+        return record;
+    }
+
+    public long getDecodedLines() {
+        return decodedLines.sum();
+    }
+
+    public long getFailedLines() {
+        return failedLines.sum();
+    }
+
+    private ExerciseEventRecord parse(CharSequence seq, int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = seq.charAt(i);
+        }
+
+        LocalDateTime loggedAt = null;
+        LocalDate date = null;
+        Long exerciseLogId = null;
+        Long userId = null;
+        Long exerciseId = null;
+        String exerciseName = null;
+        Integer exerciseCount = null;
+        Double caloriesBurned = null;
+
+        try (JsonParser parser = jsonFactory.createParser(chars)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case LOGGED_AT -> loggedAt = LocalDateTime.parse(parser.getText());
+                    case DATE -> date = LocalDate.parse(parser.getText());
+                    case EXERCISE_LOG_ID -> exerciseLogId = parser.getLongValue();
+                    case USER_ID -> userId = parser.getLongValue();
+                    case EXERCISE_ID -> exerciseId = parser.getLongValue();
+                    case EXERCISE_NAME -> exerciseName = parser.getText();
+                    case EXERCISE_COUNT -> exerciseCount = parser.getIntValue();
+                    case CALORIES_BURNED -> caloriesBurned = parser.getDoubleValue();
+                    default -> parser.skipChildren();
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT) {
+                return null;
+            }
+        } catch (IOException | DateTimeException e) {
+            return null;
+        }
+
+        if (date == null || userId == null || exerciseName == null) {
+            return null;
+        }
+        return new ExerciseEventRecord(loggedAt, date, exerciseLogId, userId, exerciseId, exerciseName, exerciseCount, caloriesBurned);
+    }
+
+    private static void writeNumber(JsonGenerator generator, String field, Long value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, String field, Integer value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(field, value);
+        }
+    }
+}
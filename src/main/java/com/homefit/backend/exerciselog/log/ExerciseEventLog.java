@@ -0,0 +1,102 @@
+package com.homefit.backend.exerciselog.log;
+
+import com.homefit.backend.exerciselog.event.ExerciseLogCreatedEvent;
+import com.homefit.backend.log.util.MappedLogScanner;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 운동 이벤트 로그.
+ * 운동 기록이 커밋되면 레코드 한 건을 JSON 한 줄로 전용 로거(EXERCISE_EVENT)에 남긴다.
+ * 로거는 logback-spring.xml 에서 AsyncAppender 를 거쳐 logs/exercise-event.log 에 일 단위로 롤링된다.
+ * 같은 포맷을 읽는 reader 도 함께 제공하므로, 분석 코드는 자유 형식 텍스트를 파싱할 필요가 없다.
+ */
+@Slf4j
+@Component
+public class ExerciseEventLog {
+
+    public static final String EVENT_LOGGER_NAME = "EXERCISE_EVENT";
+
+    private static final Logger eventLogger = LoggerFactory.getLogger(EVENT_LOGGER_NAME);
+    private static final String ACTIVE_FILE_NAME = "exercise-event.log";
+
+    private final String logDirectory;
+    private final MappedLogScanner mappedLogScanner;
+    private final ExerciseEventCodec codec = new ExerciseEventCodec();
+
+    public ExerciseEventLog(@Value("${log.directory}") String logDirectory, MappedLogScanner mappedLogScanner, MeterRegistry meterRegistry) {
+        this.logDirectory = logDirectory;
+        this.mappedLogScanner = mappedLogScanner;
+
+        FunctionCounter.builder("exercise.events.lines.decoded", codec, ExerciseEventCodec::getDecodedLines)
+                .description("운동 이벤트 로그에서 읽은 레코드 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("exercise.events.lines.failed", codec, ExerciseEventCodec::getFailedLines)
+                .description("운동 이벤트 로그에서 읽지 못한 라인 수")
+                .register(meterRegistry);
+    }
+
+    // 운동 기록 트랜잭션이 커밋된 뒤에만 기록 (실제 파일 쓰기는 AsyncAppender 스레드에서 처리)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExerciseLogCreated(ExerciseLogCreatedEvent event) {
+        try {
+            eventLogger.info(codec.encode(ExerciseEventRecord.from(event, LocalDateTime.now())));
+        } catch (Exception e) {
+            log.error("운동 이벤트 로그 기록 실패: exerciseLogId={}, userId={}", event.getExerciseLogId(), event.getUserId(), e);
+        }
+    }
+
+    /**
+     * date 에 기록된 레코드를 기록 순서대로 읽는다.
+     * 파일은 기록 시각 기준으로 롤링되므로 운동 날짜가 아니라 기록 시각(loggedAt)으로 거른다.
+     * 운동 날짜로 거르면 지난 날짜로 입력한 기록이나 자정 이후에 기록된 레코드는 어느 날짜로도 읽히지 않는다.
+     * (기존 텍스트 로그도 기록한 날짜의 파일로 읽으므로 같은 기준)
+     * 롤링된 파일이 있으면 그 날짜의 레코드는 모두 그 파일에 있으므로 그 파일만 읽는다.
+     * 없으면 (오늘이거나, 자정 이후 아직 기록이 없어 롤링되지 않은 경우) 현재 파일을 읽는다.
+     */
+    public List<ExerciseEventRecord> read(LocalDate date) throws IOException {
+        Path file = getRolledFile(date);
+        if (!Files.exists(file)) {
+            file = Paths.get(logDirectory, ACTIVE_FILE_NAME);
+            if (!Files.exists(file)) {
+                return new ArrayList<>();
+            }
+        }
+        return mappedLogScanner.scan(
+                file,
+                ArrayList::new,
+                (partial, seq, start, end) -> {
+                    if (start == end) {
+                        return;
+                    }
+                    ExerciseEventRecord record = codec.decode(seq, start, end);
+                    if (record != null && date.equals(record.getLoggedDate())) {
+                        partial.add(record);
+                    }
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
+    }
+
+    private Path getRolledFile(LocalDate date) {
+        return Paths.get(logDirectory, "exercise-event." + date + ".log"); // 예: exercise-event.2024-09-11.log
+    }
+}
@@ -0,0 +1,42 @@
+package com.homefit.backend.exerciselog.log;
+
+import com.homefit.backend.exerciselog.event.ExerciseLogCreatedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 운동 이벤트 로그 파일(exercise-event.log)의 한 레코드
+@Getter
+@AllArgsConstructor
+public class ExerciseEventRecord {
+
+    static final String LOGGER_NAME = "ExerciseEvent";
+
+    private final LocalDateTime loggedAt;  // 레코드를 기록한 시각
+    private final LocalDate date;          // 운동 날짜
+    private final Long exerciseLogId;
+    private final Long userId;
+    private final Long exerciseId;
+    private final String exerciseName;
+    private final Integer exerciseCount;
+    private final Double caloriesBurned;
+
+    public static ExerciseEventRecord from(ExerciseLogCreatedEvent event, LocalDateTime loggedAt) {
+        return new ExerciseEventRecord(loggedAt, event.getDate(), event.getExerciseLogId(), event.getUserId(),
+                event.getExerciseId(), event.getExerciseName(), event.getExerciseCount(), event.getCaloriesBurned());
+    }
+
+    // 기록한 날짜 (기록 시각이 없는 레코드는 운동 날짜로 대신함). 파일 롤링과 read(date) 의 기준
+    public LocalDate getLoggedDate() {
+        return loggedAt != null ? loggedAt.toLocalDate() : date;
+    }
+
+    // 기존 분석 메서드(collectXxx)에서 그대로 쓸 수 있도록 변환 (기존 텍스트 로그처럼 기록한 날짜를 timestamp 로 사용)
+    public ExerciseLogsEntry toLogsEntry() {
+        Integer calories = caloriesBurned != null ? (int) Math.round(caloriesBurned) : null;
+        String message = "userId=" + userId + " 운동명=" + exerciseName + ", 횟수=" + exerciseCount + ", 소모 칼로리=" + calories;
+        return new ExerciseLogsEntry(getLoggedDate(), "INFO", LOGGER_NAME, message, userId, exerciseName, exerciseCount, calories);
+    }
+}
@@ -0,0 +1,212 @@
+package com.homefit.backend.exerciselog.log;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 운동 로그 라인 디코더.
+ * "[yyyy-MM-dd HH:mm:ss] LEVEL userId=1 운동명=Pushup, 횟수=20, 소모 칼로리=100" 형식의 라인을
+ * 정규식 없이 문자 단위로 읽어 {@link ExerciseLogsEntry}로 변환한다.
+ * 형식이 맞지 않는 라인은 로그를 남기지 않고 카운터만 증가시킨다. (여러 스레드에서 공유해도 안전)
+ */
+public class ExerciseLogLineDecoder {
+
+    private static final String LOGGER_NAME = "ExerciseLog";
+    private static final String USER_ID = "userId";
+    private static final String EXERCISE_NAME = " 운동명=";
+    private static final String EXERCISE_COUNT = ", 횟수=";
+    private static final String CALORIES_BURNED = ", 소모 칼로리=";
+
+    // "[2024-09-11 10:45:32]" 의 길이
+    private static final int TIMESTAMP_LENGTH = 21;
+
+    private final LongAdder matchedLines = new LongAdder();
+    private final LongAdder unmatchedLines = new LongAdder();
+
+    public ExerciseLogsEntry decode(String line) {
+        return decode(line, 0, line.length());
+    }
+
+    // seq[start, end) 구간을 한 라인으로 보고 디코딩, 형식이 맞지 않으면 null
+    public ExerciseLogsEntry decode(CharSequence seq, int start, int end) {
+        ExerciseLogsEntry entry = parse(seq, start, end);
+        if (entry == null) {
+            unmatchedLines.increment();
+        } else {
+            matchedLines.increment();
+        }
+        return entry;
+    }
+
+    public long getMatchedLines() {
+        return matchedLines.sum();
+    }
+
+    public long getUnmatchedLines() {
+        return unmatchedLines.sum();
+    }
+
+    private ExerciseLogsEntry parse(CharSequence seq, int start, int end) {
+        int pos = start;
+        while (pos < end && Character.isWhitespace(seq.charAt(pos))) {
+            pos++;
+        }
+
+        // 접두어 검사: "[yyyy-MM-dd HH:mm:ss] "
+        if (end - pos < TIMESTAMP_LENGTH + 1
+                || seq.charAt(pos) != '['
+                || seq.charAt(pos + 20) != ']'
+                || seq.charAt(pos + 21) != ' '
+                || !isTimestamp(seq, pos + 1)) {
+            return null;
+        }
+
+        LocalDate timestamp;
+        try {
+            timestamp = LocalDate.of(
+                    digits(seq, pos + 1, 4),
+                    digits(seq, pos + 6, 2),
+                    digits(seq, pos + 9, 2));
+        } catch (DateTimeException e) {
+            return null;
+        }
+        pos += TIMESTAMP_LENGTH + 1;
+
+        // 로그 레벨
+        String logLevel;
+        if (startsWith(seq, pos, end, "INFO ")) {
+            logLevel = "INFO";
+        } else if (startsWith(seq, pos, end, "WARN ")) {
+            logLevel = "WARN";
+        } else if (startsWith(seq, pos, end, "ERROR ")) {
+            logLevel = "ERROR";
+        } else {
+            return null;
+        }
+        pos += logLevel.length() + 1;
+
+        // userId = 123
+        if (!startsWith(seq, pos, end, USER_ID)) {
+            return null;
+        }
+        pos = skipWhitespace(seq, pos + USER_ID.length(), end);
+        if (pos >= end || seq.charAt(pos) != '=') {
+            return null;
+        }
+        pos = skipWhitespace(seq, pos + 1, end);
+        int userIdEnd = digitsEnd(seq, pos, end);
+        if (userIdEnd == pos || userIdEnd - pos > 18) {
+            return null;
+        }
+        long userId = parseLong(seq, pos, userIdEnd);
+        pos = userIdEnd;
+
+        // 운동명=Pushup
+        if (!startsWith(seq, pos, end, EXERCISE_NAME)) {
+            return null;
+        }
+        pos += EXERCISE_NAME.length();
+        int nameEnd = pos;
+        while (nameEnd < end && isNameChar(seq.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        if (nameEnd == pos) {
+            return null;
+        }
+        int nameStart = pos;
+        pos = nameEnd;
+
+        // , 횟수=20
+        if (!startsWith(seq, pos, end, EXERCISE_COUNT)) {
+            return null;
+        }
+        pos += EXERCISE_COUNT.length();
+        int countEnd = digitsEnd(seq, pos, end);
+        if (countEnd == pos || countEnd - pos > 9) {
+            return null;
+        }
+        int exerciseCount = (int) parseLong(seq, pos, countEnd);
+        pos = countEnd;
+
+        // , 소모 칼로리=100
+        if (!startsWith(seq, pos, end, CALORIES_BURNED)) {
+            return null;
+        }
+        pos += CALORIES_BURNED.length();
+        int caloriesEnd = digitsEnd(seq, pos, end);
+        if (caloriesEnd == pos || caloriesEnd - pos > 9) {
+            return null;
+        }
+        int caloriesBurned = (int) parseLong(seq, pos, caloriesEnd);
+
+        String exerciseName = seq.subSequence(nameStart, nameEnd).toString();
+        String message = seq.subSequence(start, end).toString();
+        return new ExerciseLogsEntry(timestamp, logLevel, LOGGER_NAME, message, userId, exerciseName, exerciseCount, caloriesBurned);
+    }
+
+    // "yyyy-MM-dd HH:mm:ss" 자리수와 구분자 검사
+    private static boolean isTimestamp(CharSequence seq, int pos) {
+        for (int i = 0; i < 19; i++) {
+            char c = seq.charAt(pos + i);
+            switch (i) {
+                case 4, 7 -> {
+                    if (c != '-') return false;
+                }
+                case 10 -> {
+                    if (c != ' ') return false;
+                }
+                case 13, 16 -> {
+                    if (c != ':') return false;
+                }
+                default -> {
+                    if (c < '0' || c > '9') return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(CharSequence seq, int pos, int end, String prefix) {
+        if (end - pos < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (seq.charAt(pos + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(CharSequence seq, int pos, int end) {
+        while (pos < end && Character.isWhitespace(seq.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int digitsEnd(CharSequence seq, int pos, int end) {
+        while (pos < end && seq.charAt(pos) >= '0' && seq.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int digits(CharSequence seq, int pos, int length) {
+        return (int) parseLong(seq, pos, pos + length);
+    }
+
+    private static long parseLong(CharSequence seq, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (seq.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    // 정규식 [가-힣a-zA-Z] 과 동일
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '가' && c <= '힣');
+    }
+}
@@ -17,10 +17,10 @@ import java.util.Map;
 @RequestMapping("/api/exerciseLogs")
 @Tag(name = "운동 log API(관리자전용)", description = "운동 로그 관리자전용")
 public class ExerciseLogsController {
-    private final ExerciseLogsService exerciseLogsService;
+    private final ExerciseDailyStatService exerciseDailyStatService;
 
-    public ExerciseLogsController(ExerciseLogsService exerciseLogsService) {
-        this.exerciseLogsService = exerciseLogsService;
+    public ExerciseLogsController(ExerciseDailyStatService exerciseDailyStatService) {
+        this.exerciseDailyStatService = exerciseDailyStatService;
     }
 
     // 운동 선호도 조회
@@ -28,8 +28,7 @@ public class ExerciseLogsController {
     @GetMapping("/popularity")
     public ResponseEntity<Map<String, Integer>> getExercisePopularity(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<ExerciseLogsEntry> logEntries = exerciseLogsService.getLogEntries(date);
-        Map<String, Integer> exercisePopularity = exerciseLogsService.collectExercisePopularity(logEntries);
+        Map<String, Integer> exercisePopularity = exerciseDailyStatService.getExercisePopularity(date);
 
         // DTO로 변환하여 응답
         return ResponseEntity.ok(exercisePopularity);
@@ -40,8 +39,7 @@ public class ExerciseLogsController {
     @GetMapping("/user/counts")
     public ResponseEntity<Map<Long, Integer>> getUserExerciseCounts(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<ExerciseLogsEntry> logEntries = exerciseLogsService.getLogEntries(date);
-        Map<Long, Integer> userExerciseCounts = exerciseLogsService.collectUserExerciseCounts(logEntries);
+        Map<Long, Integer> userExerciseCounts = exerciseDailyStatService.getUserExerciseCounts(date);
 
         // DTO로 변환하여 응답
         return ResponseEntity.ok(userExerciseCounts);
@@ -52,8 +50,7 @@ public class ExerciseLogsController {
     @GetMapping("/total/count")
     public ResponseEntity<Integer> getTotalExerciseCount(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<ExerciseLogsEntry> logEntries = exerciseLogsService.getLogEntries(date);
-        int totalExerciseCount = exerciseLogsService.collectTotalExerciseCount(logEntries);
+        int totalExerciseCount = exerciseDailyStatService.getTotalExerciseCount(date);
 
         return ResponseEntity.ok(totalExerciseCount);
     }
@@ -63,8 +60,7 @@ public class ExerciseLogsController {
     @GetMapping("/by/date")
     public ResponseEntity<Map<LocalDate, List<String>>> getExerciseByDate(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<ExerciseLogsEntry> logEntries = exerciseLogsService.getLogEntries(date);
-        Map<LocalDate, List<String>> exerciseByDate = exerciseLogsService.collectExerciseByDate(logEntries);
+        Map<LocalDate, List<String>> exerciseByDate = exerciseDailyStatService.getExerciseByDate(date);
 
         return ResponseEntity.ok(exerciseByDate);
     }
@@ -74,8 +70,7 @@ public class ExerciseLogsController {
     @GetMapping("/counts")
     public ResponseEntity<Map<Long, Map<String, Integer>>> getExerciseCounts(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<ExerciseLogsEntry> logEntries = exerciseLogsService.getLogEntries(date);
-        Map<Long, Map<String, Integer>> exerciseCounts = exerciseLogsService.collectExerciseCounts(logEntries);
+        Map<Long, Map<String, Integer>> exerciseCounts = exerciseDailyStatService.getExerciseCounts(date);
 
         return ResponseEntity.ok(exerciseCounts);
     }
@@ -1,85 +1,98 @@
 package com.homefit.backend.exerciselog.log;
 
+import com.homefit.backend.log.util.MappedLogScanner;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class ExerciseLogsService {
 
     private final String logDirectory;
+    private final MappedLogScanner mappedLogScanner;
+    private final ExerciseEventLog exerciseEventLog;
+    // 형식이 맞지 않는 라인은 경고 로그 대신 unmatched 카운터로 집계
+    private final ExerciseLogLineDecoder exerciseLogLineDecoder = new ExerciseLogLineDecoder();
 
     // 생성자 주입 방식으로 logDirectory 값을 외부 설정에서 가져올 수 있도록 수정
-    public ExerciseLogsService(@Value("${log.directory}") String logDirectory) {
+    public ExerciseLogsService(@Value("${log.directory}") String logDirectory, MappedLogScanner mappedLogScanner,
+                               ExerciseEventLog exerciseEventLog, MeterRegistry meterRegistry) {
         this.logDirectory = logDirectory;
+        this.mappedLogScanner = mappedLogScanner;
+        this.exerciseEventLog = exerciseEventLog;
+
+        FunctionCounter.builder("exercise.logs.lines.matched", exerciseLogLineDecoder, ExerciseLogLineDecoder::getMatchedLines)
+                .description("운동 로그 파싱에 성공한 라인 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("exercise.logs.lines.unmatched", exerciseLogLineDecoder, ExerciseLogLineDecoder::getUnmatchedLines)
+                .description("운동 로그 형식이 아니어서 건너뛴 라인 수")
+                .register(meterRegistry);
     }
 
-    // 로그 파일에서 엔트리 읽기
+    /**
+     * 해당 날짜의 운동 로그 엔트리를 읽는다.
+     * 구조화된 운동 이벤트 로그(exercise-event.log)를 우선 사용하고, 레코드가 없으면
+     * 이전 형식의 애플리케이션 로그(application.yyyy-MM-dd.log)를 파싱한다.
+     */
     public List<ExerciseLogsEntry> getLogEntries(LocalDate date) {
+        List<ExerciseLogsEntry> eventEntries = readEventLog(date);
+        if (!eventEntries.isEmpty()) {
+            return eventEntries;
+        }
+
         String logFileName = getLogFileName(date);
-        List<ExerciseLogsEntry> logEntries = new ArrayList<>();
 
         // 파일 경로를 결합할 때, Paths.get을 사용하여 경로 구분자가 자동으로 추가되도록 수정합니다.
-        try (Stream<String> stream = Files.lines(Paths.get(logDirectory, logFileName))) {  // 경로 수정
-            stream.forEach(line -> {
-                ExerciseLogsEntry entry = parseLogEntry(line);
-                if (entry != null) {
-                    logEntries.add(entry);
-                }
-            });
+        try {
+            return scanLogFile(Paths.get(logDirectory, logFileName));
         } catch (IOException e) {
             log.error("로그 파일을 읽을 수 없습니다. 파일명: {}", logFileName, e);
             throw new RuntimeException("로그 파일을 읽을 수 없습니다.", e);
         }
+    }
 
-        return logEntries;
+    private List<ExerciseLogsEntry> readEventLog(LocalDate date) {
+        try {
+            return exerciseEventLog.read(date).stream()
+                    .map(ExerciseEventRecord::toLogsEntry)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            log.error("운동 이벤트 로그를 읽을 수 없습니다. 날짜: {}", date, e);
+            throw new RuntimeException("로그 파일을 읽을 수 없습니다.", e);
+        }
     }
 
-    private String getLogFileName(LocalDate date) {
-        return "application." + date.toString() + ".log"; // 예: application.2024-09-11.log
+    private List<ExerciseLogsEntry> scanLogFile(Path logFile) throws IOException {
+        return mappedLogScanner.scan(
+                logFile,
+                ArrayList::new,
+                (entries, seq, start, end) -> {
+                    ExerciseLogsEntry entry = exerciseLogLineDecoder.decode(seq, start, end);
+                    if (entry != null) {
+                        entries.add(entry);
+                    }
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
     }
 
-    private ExerciseLogsEntry parseLogEntry(String logLine) {
-        try {
-            // 정규식 패턴을 명확하게 하고, 예외를 처리하여 로그 파싱
-            Pattern pattern = Pattern.compile(
-                    "\\[(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2})\\] (INFO|WARN|ERROR) userId\\s*=\\s*(\\d+) 운동명=([가-힣a-zA-Z]+), 횟수=(\\d+), 소모 칼로리=(\\d+)"
-            );
-            Matcher matcher = pattern.matcher(logLine);
-
-            if (matcher.find()) {
-                String timestampStr = matcher.group(1); // "2024-09-11 10:45:32"
-                String logLevel = matcher.group(2);  // "INFO"
-                Long userId = Long.parseLong(matcher.group(3)); // 유저 ID
-                String exerciseName = matcher.group(4); // 운동 이름
-                Integer exerciseCount = Integer.parseInt(matcher.group(5)); // 운동 횟수
-                Integer caloriesBurned = Integer.parseInt(matcher.group(6)); // 소모 칼로리
-
-                LocalDate timestamp = LocalDate.parse(timestampStr.substring(0, 10)); // 날짜만 추출
-
-                return new ExerciseLogsEntry(timestamp, logLevel, "ExerciseLog", logLine, userId, exerciseName, exerciseCount, caloriesBurned);
-            } else {
-                log.warn("로그 라인을 파싱할 수 없습니다: {}", logLine);
-                return null;
-            }
-        } catch (Exception e) {
-            log.error("로그 라인 파싱 실패: {}", logLine, e);
-            return null;
-        }
+    private String getLogFileName(LocalDate date) {
+        return "application." + date.toString() + ".log"; // 예: application.2024-09-11.log
     }
 
     // 운동 선호도 수집
@@ -1,9 +1,15 @@
 package com.homefit.backend.exerciselog.repository;
 
 import com.homefit.backend.exercise.entity.Exercise;
+import com.homefit.backend.exerciselog.dto.ExerciseLogScoreDto;
 import com.homefit.backend.exerciselog.entity.ExerciseLog;
 import com.homefit.backend.login.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -11,6 +17,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ExerciseLogRepository extends JpaRepository<ExerciseLog, Long> {
@@ -28,4 +35,14 @@ public interface ExerciseLogRepository extends JpaRepository<ExerciseLog, Long>
 
     // 이 메서드를 통해 날짜와 유저로 운동 로그 목록을 조회
     List<ExerciseLog> findByUserAndDate(User user, LocalDate date);
+
+    // 기간의 운동 기록을 엔티티 없이 fetch size 단위로 스트리밍 (트랜잭션 안에서 소비하고 닫아야 함)
+    // MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 서버 커서로 나눠 읽음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.homefit.backend.exerciselog.dto.ExerciseLogScoreDto(l.user.id, l.date, l.exerciseCount) "
+            + "from ExerciseLog l where l.date between :startDate and :endDate and l.exerciseCount is not null")
+    Stream<ExerciseLogScoreDto> streamScoresByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
@@ -6,6 +6,9 @@ import com.homefit.backend.exerciselog.dto.ExerciseLogRequest;
 import com.homefit.backend.exerciselog.dto.ExerciseLogResponse;
 import com.homefit.backend.exerciselog.dto.TotalExerciseLogResponse;
 import com.homefit.backend.exerciselog.entity.ExerciseLog;
+import com.homefit.backend.exerciselog.event.ExerciseLogCreatedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogDeletedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogUpdatedEvent;
 import com.homefit.backend.exerciselog.repository.ExerciseLogRepository;
 import com.homefit.backend.exerciselog.util.TimeUtils;
 import com.homefit.backend.global.exception.model.NotFoundException;
@@ -14,6 +17,7 @@ import com.homefit.backend.login.entity.User;
 import com.homefit.backend.login.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,12 +36,15 @@ public class ExerciseLogService {
     private final ExerciseLogRepository exerciseLogRepository;
     private final UserRepository userRepository;
     private final ExerciseRepository exerciseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public ExerciseLogService(ExerciseLogRepository exerciseLogRepository, UserRepository userRepository, ExerciseRepository exerciseRepository) {
+    public ExerciseLogService(ExerciseLogRepository exerciseLogRepository, UserRepository userRepository, ExerciseRepository exerciseRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.exerciseLogRepository = exerciseLogRepository;
         this.userRepository = userRepository;
         this.exerciseRepository = exerciseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public boolean hasLogsForExercise(Long exerciseId) {
@@ -112,6 +119,7 @@ public class ExerciseLogService {
         );
 
         ExerciseLog savedLog = exerciseLogRepository.save(exerciseLog);
+        eventPublisher.publishEvent(ExerciseLogCreatedEvent.from(savedLog));
 
         // 운동 기록 생성 시 로그 기록
         log.info("유저 ID={}가 운동을 완료했습니다. 운동명={}, 운동 횟수={}, 소모 칼로리={}",
@@ -146,6 +154,9 @@ public class ExerciseLogService {
         LocalTime startTime = TimeUtils.convertStringToLocalTime(request.getStartTime());
         LocalTime endTime = TimeUtils.convertStringToLocalTime(request.getEndTime());
 
+        // 집계/랭킹에서 뺄 수정 전 값 (엔티티를 바꾸기 전에 복사)
+        ExerciseLogCreatedEvent previous = ExerciseLogCreatedEvent.from(existingLog);
+
         // 운동 기록 업데이트 (기존 기록 수정)
         existingLog.updateExerciseLog(
                 request.getDate(),
@@ -157,6 +168,7 @@ public class ExerciseLogService {
         existingLog.setExercise(exercise);
 
         ExerciseLog updatedLog = exerciseLogRepository.save(existingLog);
+        eventPublisher.publishEvent(new ExerciseLogUpdatedEvent(previous, ExerciseLogCreatedEvent.from(updatedLog)));
 
         // 운동 기록 수정 시 로그 기록
         log.info("유저 ID={}가 운동 기록을 수정했습니다. 운동명={}, 수정된 횟수={}, 수정된 소모 칼로리={}",
@@ -183,7 +195,9 @@ public class ExerciseLogService {
             throw new ValidationException("운동 기록 삭제 권한이 없습니다.");
         }
 
+        ExerciseLogCreatedEvent previous = ExerciseLogCreatedEvent.from(exerciseLog);
         exerciseLogRepository.delete(exerciseLog);
+        eventPublisher.publishEvent(new ExerciseLogDeletedEvent(previous));
         log.info("운동 기록 삭제 완료: ID={}", id);
     }
 
@@ -274,6 +288,7 @@ public class ExerciseLogService {
         );
 
         ExerciseLog savedLog = exerciseLogRepository.save(newLog);
+        eventPublisher.publishEvent(ExerciseLogCreatedEvent.from(savedLog));
         log.info("새로운 운동 기록 생성: ID={}, userId={}, exerciseId={}, exerciseCount={}, caloriesBurned={}",
                 savedLog.getId(), user.getId(), exercise.getId(), savedLog.getExerciseCount(), savedLog.getCaloriesBurned());
 
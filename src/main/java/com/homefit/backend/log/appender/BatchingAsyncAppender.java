@@ -0,0 +1,257 @@
+package com.homefit.backend.log.appender;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 스레드에서 파일/콘솔 쓰기를 하지 않도록 하는 비동기 appender.
+ * 이벤트는 고정 크기 큐(링 버퍼)에 넣기만 하고, 전용 스레드가 최대 batchSize 개씩 꺼내 연결된 appender 에 쓴 뒤
+ * 배치마다 한 번만 flush 한다. (연결된 appender 는 immediateFlush=false 로 설정해야 효과가 있다)
+ * 큐가 가득 찼을 때의 동작은 overflowPolicy 로 정한다. 기본값은 BLOCK 이다.
+ * 기존 로그 파서와 관리자 로그 조회가 INFO 로그를 읽으므로, 버리는 정책은 명시적으로 설정했을 때만 사용한다.
+ * 버린 이벤트 수는 logging.async.dropped 로 확인한다. (BatchingAsyncAppenderMetrics)
+ */
+public class BatchingAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+    public enum OverflowPolicy {
+        BLOCK,           // 자리가 날 때까지 대기 (로그 유실 없음)
+        DROP,            // 모든 레벨 버림
+        DROP_BELOW_WARN  // INFO 이하만 버리고 WARN, ERROR 는 대기
+    }
+
+    private static final int DEFAULT_QUEUE_SIZE = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder flushedBatches = new LongAdder();
+
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private int maxFlushTime = 1000;
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private Thread worker;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize < 1 || batchSize < 1) {
+            addError("queueSize 와 batchSize 는 1 이상이어야 합니다: " + getName());
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("연결된 appender 가 없습니다: " + getName());
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueSize);
+        worker = new Thread(this::drainLoop, "batching-async-appender-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+
+        // 작업 스레드가 남은 이벤트를 모두 쓰고 종료하도록 대기
+        worker.interrupt();
+        try {
+            worker.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("제한 시간 내에 큐를 비우지 못했습니다. 남은 이벤트 수: " + queue.size());
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 메시지 포맷, MDC, 스레드 이름을 요청 스레드에서 확정
+        event.prepareForDeferredProcessing();
+        if (queue.offer(event)) {
+            return;
+        }
+
+        boolean block = overflowPolicy == OverflowPolicy.BLOCK
+                || (overflowPolicy == OverflowPolicy.DROP_BELOW_WARN && event.getLevel().isGreaterOrEqual(Level.WARN));
+        if (!block) {
+            droppedEvents.increment();
+            return;
+        }
+        putWhileStarted(event);
+    }
+
+    // 자리가 날 때까지 대기, 중지되면 작업 스레드가 더 이상 큐를 비우지 않으므로 대기를 멈추고 버림
+    private void putWhileStarted(ILoggingEvent event) {
+        boolean interrupted = false;
+        try {
+            while (isStarted()) {
+                try {
+                    if (queue.offer(event, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            droppedEvents.increment();
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void drainLoop() {
+        List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+        while (isStarted()) {
+            try {
+                ILoggingEvent first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+        }
+
+        // 종료 시 남은 이벤트 처리
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+    }
+
+    private void write(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        batch.clear();
+        flush();
+        flushedBatches.increment();
+    }
+
+    // 배치 단위 flush (연결된 appender 에는 이 스레드만 쓰므로 별도 잠금 없이 호출)
+    private void flush() {
+        Iterator<Appender<ILoggingEvent>> iterator = appenders.iteratorForAppenders();
+        while (iterator.hasNext()) {
+            Appender<ILoggingEvent> appender = iterator.next();
+            if (appender instanceof OutputStreamAppender<ILoggingEvent> outputStreamAppender
+                    && outputStreamAppender.isStarted()
+                    && outputStreamAppender.getOutputStream() != null) {
+                try {
+                    outputStreamAppender.getOutputStream().flush();
+                } catch (IOException e) {
+                    addError("로그 flush 실패: " + appender.getName(), e);
+                }
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    public long getFlushedBatches() {
+        return flushedBatches.sum();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
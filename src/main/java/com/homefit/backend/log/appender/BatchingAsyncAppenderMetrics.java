@@ -0,0 +1,64 @@
+package com.homefit.backend.log.appender;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * logback 설정에 등록된 {@link BatchingAsyncAppender} 의 큐 깊이, 버린 이벤트 수, flush 횟수를 Micrometer 로 노출한다.
+ * appender 는 Spring 보다 먼저 logback 이 생성하므로 LoggerContext 에서 찾아 바인딩한다.
+ */
+@Component
+public class BatchingAsyncAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (BatchingAsyncAppender appender : findAppenders().values()) {
+            Gauge.builder("logging.async.queue.depth", appender, BatchingAsyncAppender::getQueueDepth)
+                    .description("비동기 로그 큐에 대기 중인 이벤트 수")
+                    .tag("appender", appender.getName())
+                    .register(registry);
+            Gauge.builder("logging.async.queue.capacity", appender, BatchingAsyncAppender::getQueueSize)
+                    .description("비동기 로그 큐 크기")
+                    .tag("appender", appender.getName())
+                    .register(registry);
+            FunctionCounter.builder("logging.async.dropped", appender, BatchingAsyncAppender::getDroppedEvents)
+                    .description("큐가 가득 차서 버린 로그 이벤트 수")
+                    .tag("appender", appender.getName())
+                    .register(registry);
+            FunctionCounter.builder("logging.async.flushes", appender, BatchingAsyncAppender::getFlushedBatches)
+                    .description("배치 단위로 flush 한 횟수")
+                    .tag("appender", appender.getName())
+                    .register(registry);
+        }
+    }
+
+    private static Map<String, BatchingAsyncAppender> findAppenders() {
+        Map<String, BatchingAsyncAppender> appenders = new LinkedHashMap<>();
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (!(loggerFactory instanceof LoggerContext loggerContext)) {
+            return appenders;
+        }
+        for (Logger logger : loggerContext.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof BatchingAsyncAppender appender) {
+                    appenders.putIfAbsent(appender.getName(), appender);
+                }
+            }
+        }
+        return appenders;
+    }
+}
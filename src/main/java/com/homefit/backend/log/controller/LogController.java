@@ -1,40 +1,140 @@
 package com.homefit.backend.log.controller;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.homefit.backend.log.service.LogManagementService;
+import com.homefit.backend.log.service.LogTailService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/logs")
 @RequiredArgsConstructor
 @Tag(name = "로그 API", description = "로그 조회 API")
 public class LogController {
 
+    private static final String NDJSON_FORMAT = "ndjson";
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
     private final LogManagementService logManagementService;
+    private final LogTailService logTailService;
     private final ObjectMapper objectMapper;
 
-    @Operation(summary = "로그 조회", description = "페이지네이션, 정렬, 필터링을 적용하여 로그를 JSON 형태로 반환합니다.")
+    /**
+     * 응답 본문 전체를 문자열로 만들지 않고 JsonGenerator 로 출력 스트림에 바로 쓴다.
+     * format=ndjson 이면 한 줄에 로그 하나씩 내보내고, 페이지 정보는 응답 헤더로 전달한다.
+     */
+    @Operation(summary = "로그 조회", description = "페이지네이션, 정렬, 필터링을 적용하여 로그를 JSON 형태로 반환합니다. format=ndjson 이면 줄 단위 JSON 으로 스트리밍합니다.")
     @GetMapping
-    public ResponseEntity<String> getLogs(
+    public void getLogs(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int limit,
             @RequestParam(defaultValue = "desc") String sortOrder,
-            @RequestParam(required = false) String logLevel) {
+            @RequestParam(required = false) String logLevel,
+            @RequestParam(defaultValue = "json") String format,
+            HttpServletResponse response) throws IOException {
+        LogManagementService.LogPage logPage;
         try {
-            LogManagementService.LogResponse logResponse = logManagementService.getLogsAsJson(page, limit, sortOrder, logLevel);
-            String logs = objectMapper.writeValueAsString(logResponse);
-            return ResponseEntity.ok(logs);
+            logPage = logManagementService.getLogPage(page, limit, sortOrder, logLevel);
         } catch (IOException e) {
-            return ResponseEntity.internalServerError().body("로그를 읽는 중 오류가 발생했습니다: " + e.getMessage());
+            writeError(response, e);
+            return;
+        }
+
+        boolean ndjson = NDJSON_FORMAT.equalsIgnoreCase(format);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (ndjson) {
+            response.setContentType(NDJSON_CONTENT_TYPE);
+            response.setHeader("X-Current-Page", String.valueOf(logPage.currentPage));
+            response.setHeader("X-Total-Pages", String.valueOf(logPage.totalPages));
+            response.setHeader("X-Total-Count", String.valueOf(logPage.totalLogs));
+        } else {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         }
+
+        // 실패 시 닫으면서 미완성 본문이 flush 되지 않도록 성공한 경우에만 close
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+        try {
+            if (ndjson) {
+                logManagementService.writeLogs(logPage, entry -> {
+                    generator.writeObject(entry);
+                    generator.writeRaw('\n');
+                });
+            } else {
+                // 기존 LogResponse 와 같은 필드 순서
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("logs");
+                logManagementService.writeLogs(logPage, generator::writeObject);
+                generator.writeEndArray();
+                generator.writeNumberField("currentPage", logPage.currentPage);
+                generator.writeNumberField("totalPages", logPage.totalPages);
+                generator.writeNumberField("totalLogs", logPage.totalLogs);
+                generator.writeEndObject();
+            }
+            generator.close();
+        } catch (IOException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+                writeError(response, e);
+                return;
+            }
+            // 이미 일부를 전송한 뒤에는 상태 코드를 바꿀 수 없으므로 연결을 끊는 것으로 처리
+            log.warn("로그 스트리밍 중 오류가 발생했습니다: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Operation(summary = "실시간 로그 구독", description = "로그 파일에 새로 추가되는 로그를 Server-Sent Events 로 전달합니다. logLevel 로 필터링할 수 있습니다.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLogs(@RequestParam(required = false) String logLevel) {
+        return logTailService.subscribe(logLevel);
+    }
+
+    @Operation(summary = "운동 이벤트 로그 조회", description = "구조화된 운동 이벤트 로그에서 해당 날짜의 기록을 JSON 배열로 반환합니다.")
+    @GetMapping("/exercise-events")
+    public void getExerciseEvents(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            HttpServletResponse response) throws IOException {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+        try {
+            generator.writeStartArray();
+            logManagementService.writeExerciseEvents(date, generator::writeObject);
+            generator.writeEndArray();
+            generator.close();
+        } catch (IOException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+                writeError(response, e);
+                return;
+            }
+            log.warn("운동 이벤트 로그 스트리밍 중 오류가 발생했습니다: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    private void writeError(HttpServletResponse response, IOException e) throws IOException {
+        response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("로그를 읽는 중 오류가 발생했습니다: " + e.getMessage());
     }
 }
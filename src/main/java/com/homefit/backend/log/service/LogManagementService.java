@@ -1,48 +1,177 @@
 package com.homefit.backend.log.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homefit.backend.exerciselog.log.ExerciseEventLog;
+import com.homefit.backend.exerciselog.log.ExerciseEventRecord;
+import com.homefit.backend.log.util.LogLineIndex;
+import com.homefit.backend.log.util.MappedLogScanner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LogManagementService {
 
-    private static final String LOG_FILE_PATH = "logs/application.log";
+    static final String LOG_FILE_PATH = "logs/application.log";
+    private static final String LOG_INDEX_FILE_PATH = LOG_FILE_PATH + ".idx";
+    private static final int LOG_INDEX_INTERVAL = 1000;
+
     private final ObjectMapper objectMapper;
+    private final MappedLogScanner mappedLogScanner;
+    private final ExerciseEventLog exerciseEventLog;
+    private final LogLineIndex logLineIndex = new LogLineIndex(Paths.get(LOG_FILE_PATH), Paths.get(LOG_INDEX_FILE_PATH), LOG_INDEX_INTERVAL);
 
     public LogResponse getLogsAsJson(int page, int limit, String sortOrder, String logLevel) throws IOException {
-        List<LogEntry> allLogs = Files.readAllLines(Paths.get(LOG_FILE_PATH)).stream()
-                .map(this::parseLogEntry)
-                .filter(log -> logLevel == null || logLevel.isEmpty() || logLevel.equalsIgnoreCase(log.level))
-                .collect(Collectors.toList());
+        LogPage logPage = getLogPage(page, limit, sortOrder, logLevel);
+        List<LogEntry> paginatedLogs = new ArrayList<>();
+        writeLogs(logPage, paginatedLogs::add);
+        return new LogResponse(paginatedLogs, logPage.currentPage, logPage.totalPages, logPage.totalLogs);
+    }
+
+    /**
+     * 요청한 페이지의 메타 정보(전체 건수, 페이지 수)와 읽을 라인 구간을 계산한다.
+     * 실제 로그 엔트리는 {@link #writeLogs(LogPage, LogEntryWriter)} 로 흘려보낸다.
+     */
+    public LogPage getLogPage(int page, int limit, String sortOrder, String logLevel) throws IOException {
+        if (page < 1 || limit < 1) {
+            throw new IllegalArgumentException("page 와 limit 은 1 이상이어야 합니다.");
+        }
+
+        boolean descending = "desc".equalsIgnoreCase(sortOrder);
+        boolean filtered = logLevel != null && !logLevel.isEmpty();
+        if (filtered && !LogLineIndex.isIndexedLevel(logLevel)) {
+            // 인덱싱하지 않는 레벨 값은 전체 스캔으로 처리
+            return scanLogPage(page, limit, descending, logLevel);
+        }
+
+        logLineIndex.refresh();
+        long totalLogs = filtered ? logLineIndex.getLineCount(logLevel) : logLineIndex.getLineCount();
+        int totalPages = (int) Math.ceil((double) totalLogs / limit);
+
+        // 요청한 페이지를 오름차순 라인 번호 구간 [from, to) 으로 변환
+        long skipped = (long) (page - 1) * limit;
+        long from;
+        long to;
+        if (descending) {
+            to = Math.max(totalLogs - skipped, 0);
+            from = Math.max(to - limit, 0);
+        } else {
+            from = Math.min(skipped, totalLogs);
+            to = Math.min(from + limit, totalLogs);
+        }
+
+        return new LogPage(page, totalPages, (int) totalLogs, from, to, descending, filtered ? logLevel : null, null);
+    }
+
+    /**
+     * 페이지에 해당하는 로그 엔트리를 정렬 순서대로 writer 에 전달한다.
+     * 내림차순도 인덱스 간격 단위 블록으로 나눠 뒤에서부터 읽으므로, 메모리 사용량은 limit 과 무관하게 일정하다.
+     */
+    public void writeLogs(LogPage logPage, LogEntryWriter writer) throws IOException {
+        if (logPage.scannedLogs != null) {
+            for (LogEntry log : logPage.scannedLogs) {
+                writer.write(log);
+            }
+            return;
+        }
+
+        if (!logPage.descending) {
+            readLogs(logPage.from, logPage.to - logPage.from, logPage.logLevel, writer);
+            return;
+        }
+
+        for (long blockEnd = logPage.to; blockEnd > logPage.from; ) {
+            long blockStart = Math.max(logPage.from, blockEnd - LOG_INDEX_INTERVAL);
+            List<LogEntry> block = new ArrayList<>((int) (blockEnd - blockStart));
+            readLogs(blockStart, blockEnd - blockStart, logPage.logLevel, block::add);
+            Collections.reverse(block);
+            for (LogEntry log : block) {
+                writer.write(log);
+            }
+            blockEnd = blockStart;
+        }
+    }
 
-        if ("desc".equalsIgnoreCase(sortOrder)) {
+    // 운동 이벤트 로그(exercise-event.log)의 해당 날짜 레코드를 로그 엔트리 형태로 전달
+    public void writeExerciseEvents(LocalDate date, LogEntryWriter writer) throws IOException {
+        for (ExerciseEventRecord record : exerciseEventLog.read(date)) {
+            String timestamp = record.getLoggedAt() != null ? record.getLoggedAt().toString() : record.getDate().toString();
+            writer.write(new LogEntry(timestamp, "INFO", ExerciseEventLog.EVENT_LOGGER_NAME,
+                    ExerciseEventLog.EVENT_LOGGER_NAME, record.toLogsEntry().getMessage()));
+        }
+    }
+
+    // 인덱스가 가리키는 오프셋부터 필요한 라인 수만큼만 읽음
+    private void readLogs(long lineNumber, long count, String logLevel, LogEntryWriter writer) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+        LogLineIndex.Position position = logLevel != null ? logLineIndex.locate(logLevel, lineNumber) : logLineIndex.locate(lineNumber);
+        try (FileChannel channel = FileChannel.open(Paths.get(LOG_FILE_PATH), StandardOpenOption.READ);
+             BufferedReader reader = new BufferedReader(Channels.newReader(channel.position(position.getOffset()), StandardCharsets.UTF_8))) {
+            long skip = position.getSkip();
+            long written = 0;
+            String line;
+            while (written < count && (line = reader.readLine()) != null) {
+                if (logLevel == null && skip > 0) {
+                    skip--;
+                    continue;
+                }
+                LogEntry log = parseLogEntry(line);
+                if (logLevel != null && !logLevel.equalsIgnoreCase(log.level)) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                writer.write(log);
+                written++;
+            }
+        }
+    }
+
+    private LogPage scanLogPage(int page, int limit, boolean descending, String logLevel) throws IOException {
+        List<LogEntry> allLogs = mappedLogScanner.scan(
+                Paths.get(LOG_FILE_PATH),
+                ArrayList::new,
+                (logs, seq, start, end) -> {
+                    LogEntry log = parseLogEntry(seq.subSequence(start, end).toString());
+                    if (logLevel.equalsIgnoreCase(log.level)) {
+                        logs.add(log);
+                    }
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
+
+        if (descending) {
             Collections.reverse(allLogs);
         }
 
         int totalLogs = allLogs.size();
         int totalPages = (int) Math.ceil((double) totalLogs / limit);
-        int startIndex = (page - 1) * limit;
-        int endIndex = Math.min(startIndex + limit, totalLogs);
+        int startIndex = (int) Math.min((long) (page - 1) * limit, totalLogs);
+        int endIndex = (int) Math.min((long) startIndex + limit, totalLogs);
 
-//        if (startIndex >= totalLogs) {
-//            startIndex = 0;
-//            page = 1;
-//        }
-
-        List<LogEntry> paginatedLogs = allLogs.subList(startIndex, endIndex);
-        return new LogResponse(paginatedLogs, page, totalPages, totalLogs);
+        List<LogEntry> paginatedLogs = new ArrayList<>(allLogs.subList(startIndex, endIndex));
+        return new LogPage(page, totalPages, totalLogs, startIndex, endIndex, descending, logLevel, paginatedLogs);
     }
 
-    private LogEntry parseLogEntry(String logLine) {
+    static LogEntry parseLogEntry(String logLine) {
         String[] parts = logLine.split(" ", 4);
         if (parts.length < 4) {
             return new LogEntry("Unknown", "Unknown", "Unknown", "Unknown", logLine);
@@ -75,6 +204,35 @@ public class LogManagementService {
         }
     }
 
+    @FunctionalInterface
+    public interface LogEntryWriter {
+        void write(LogEntry entry) throws IOException;
+    }
+
+    public static class LogPage {
+        public final int currentPage;
+        public final int totalPages;
+        public final int totalLogs;
+
+        private final long from;
+        private final long to;
+        private final boolean descending;
+        private final String logLevel;
+        private final List<LogEntry> scannedLogs; // 전체 스캔으로 이미 읽은 경우
+
+        private LogPage(int currentPage, int totalPages, int totalLogs, long from, long to,
+                        boolean descending, String logLevel, List<LogEntry> scannedLogs) {
+            this.currentPage = currentPage;
+            this.totalPages = totalPages;
+            this.totalLogs = totalLogs;
+            this.from = from;
+            this.to = to;
+            this.descending = descending;
+            this.logLevel = logLevel;
+            this.scannedLogs = scannedLogs;
+        }
+    }
+
     public static class LogResponse {
         public List<LogEntry> logs;
         public int currentPage;
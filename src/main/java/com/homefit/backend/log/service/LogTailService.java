@@ -0,0 +1,177 @@
+package com.homefit.backend.log.service;
+
+import com.homefit.backend.log.util.LogFileTailer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 파일 실시간 구독(SSE).
+ * 구독자 수와 관계없이 단일 스레드가 로그 파일을 한 번만 읽고, 파싱한 엔트리를 구독자별 큐에 넣는다.
+ * 전송은 구독자마다 별도 스레드가 맡으므로 느린 구독자가 다른 구독자의 전달을 막지 않는다.
+ * 큐(subscriber-queue-size)가 가득 찬 구독자는 따라오지 못하는 것으로 보고 구독을 끊는다.
+ * 구독자가 없으면 파일을 닫고, 다시 구독자가 생기면 그 시점의 파일 끝부터 따라간다.
+ */
+@Slf4j
+@Service
+public class LogTailService {
+
+    private static final String LOG_EVENT_NAME = "log";
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final LogFileTailer tailer = new LogFileTailer(Paths.get(LogManagementService.LOG_FILE_PATH));
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "log-tail");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService senders = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "log-tail-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final long pollIntervalMillis;
+    private final long emitterTimeoutMillis;
+    private final int subscriberQueueSize;
+
+    public LogTailService(@Value("${log.tail.poll-interval-ms:500}") long pollIntervalMillis,
+                          @Value("${log.tail.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                          @Value("${log.tail.subscriber-queue-size:1000}") int subscriberQueueSize) {
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.subscriberQueueSize = subscriberQueueSize;
+    }
+
+    // 빈 생성이 끝난 뒤에 폴링 시작 (생성자에서 시작하면 초기화가 끝나기 전에 작업이 돌 수 있음)
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // logLevel 이 있으면 해당 레벨의 로그만 전달
+    public SseEmitter subscribe(String logLevel) {
+        return register(new SseEmitter(emitterTimeoutMillis), logLevel);
+    }
+
+    SseEmitter register(SseEmitter emitter, String logLevel) {
+        Subscriber subscriber = new Subscriber(emitter, logLevel == null || logLevel.isEmpty() ? null : logLevel, subscriberQueueSize);
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+        subscribers.add(subscriber);
+        senders.execute(() -> sendLoop(subscriber));
+        // 구독 중인 로그 파일에 다시 쓰이지 않도록 DEBUG 로 남김
+        log.debug("로그 구독 시작: 현재 구독자 수 {}", subscribers.size());
+        return emitter;
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        subscribers.forEach(this::close);
+        subscribers.clear();
+        senders.shutdownNow();
+        tailer.close();
+    }
+
+    private void poll() {
+        if (subscribers.isEmpty()) {
+            tailer.close();
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = tailer.poll();
+        } catch (IOException e) {
+            log.warn("로그 파일을 읽는 중 오류가 발생했습니다: {}", e.getMessage());
+            tailer.close();
+            return;
+        }
+        dispatch(lines);
+    }
+
+    // 라인을 파싱해 구독자별 큐에 넣음 (큐가 가득 찬 구독자는 구독 해제)
+    void dispatch(List<String> lines) {
+        for (String line : lines) {
+            LogManagementService.LogEntry entry = LogManagementService.parseLogEntry(line);
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.logLevel != null && !subscriber.logLevel.equalsIgnoreCase(entry.level)) {
+                    continue;
+                }
+                if (!subscriber.queue.offer(entry)) {
+                    log.debug("전송이 밀린 로그 구독자의 구독을 해제합니다.");
+                    close(subscriber);
+                }
+            }
+        }
+    }
+
+    // 예외가 나면 이후 실행이 모두 취소되므로 작업 안에서 잡아서 기록
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (Exception e) {
+            log.error("로그 구독 전달 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 구독자 전용 스레드에서 큐의 엔트리를 순서대로 전송하고, 구독이 해제되면 emitter 를 완료
+    private void sendLoop(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed) {
+                LogManagementService.LogEntry entry = subscriber.queue.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                if (entry != null && !subscriber.closed) {
+                    subscriber.emitter.send(SseEmitter.event().name(LOG_EVENT_NAME).data(entry));
+                }
+            }
+            subscriber.emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자는 제거
+            close(subscriber);
+            subscriber.emitter.completeWithError(e);
+        } catch (InterruptedException e) {
+            // 종료 중 (큐 대기 중에만 인터럽트되므로 전송 중인 emitter 는 아님)
+            Thread.currentThread().interrupt();
+            close(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    // emitter 는 전송 스레드만 다루므로 여기서는 표시와 제거만 함 (전송 중인 emitter 를 건드리면 함께 멈출 수 있음)
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final String logLevel;
+        private final BlockingQueue<LogManagementService.LogEntry> queue;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, String logLevel, int queueSize) {
+            this.emitter = emitter;
+            this.logLevel = logLevel;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.homefit.backend.log.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오프셋을 기억하며 로그 파일에 새로 추가된 라인만 읽는 리더. (tail -F 와 유사)
+ * 열어 둔 FileChannel 은 파일 이름이 바뀌어도 유효하므로, TimeBasedRollingPolicy 가 파일을 롤오버하면
+ * 기존 채널에 남은 라인을 마저 읽은 뒤 새 파일을 처음부터 읽는다.
+ * 줄바꿈으로 끝나지 않은 마지막 라인은 다음 poll 때까지 보관한다. 한 스레드에서만 사용해야 한다.
+ */
+@Slf4j
+public class LogFileTailer implements Closeable {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Path logFile;
+    private final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+    private FileChannel channel;
+    private String fileIdentity;
+    private long position;
+
+    public LogFileTailer(Path logFile) {
+        this.logFile = logFile;
+    }
+
+    /**
+     * 마지막 poll 이후 추가된 완성 라인을 반환한다.
+     * 처음 호출될 때는 파일 끝에서 시작하므로 기존 내용은 반환하지 않는다.
+     */
+    public List<String> poll() throws IOException {
+        List<String> lines = new ArrayList<>();
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(logFile, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            // 롤오버 직후 새 파일이 아직 만들어지지 않은 경우
+            return lines;
+        }
+
+        String identity = LogLineIndex.identityOf(attributes);
+        if (channel == null) {
+            open(identity, attributes.size());
+            return lines;
+        }
+
+        if (!identity.equals(fileIdentity)) {
+            log.info("로그 파일이 교체되어 새 파일을 따라갑니다: {}", logFile);
+            readAvailable(lines);
+            closeChannel();
+            pending.reset();
+            open(identity, 0);
+        } else if (attributes.size() < position) {
+            // 같은 파일이 잘린(truncate) 경우
+            pending.reset();
+            position = 0;
+        }
+
+        readAvailable(lines);
+        return lines;
+    }
+
+    @Override
+    public void close() {
+        closeChannel();
+        pending.reset();
+    }
+
+    private void open(String identity, long startPosition) throws IOException {
+        channel = FileChannel.open(logFile, StandardOpenOption.READ);
+        fileIdentity = identity;
+        position = startPosition;
+    }
+
+    private void readAvailable(List<String> lines) throws IOException {
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                return;
+            }
+            int lineStart = 0;
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    pending.write(buffer.array(), lineStart, i - lineStart);
+                    lines.add(toLine(pending));
+                    pending.reset();
+                    lineStart = i + 1;
+                }
+            }
+            pending.write(buffer.array(), lineStart, read - lineStart);
+            position += read;
+        }
+    }
+
+    private static String toLine(ByteArrayOutputStream bytes) {
+        String line = bytes.toString(StandardCharsets.UTF_8);
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("로그 파일 채널을 닫을 수 없습니다: {}", logFile, e);
+        }
+        channel = null;
+        fileIdentity = null;
+    }
+}
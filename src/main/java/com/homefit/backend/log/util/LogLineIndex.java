@@ -0,0 +1,315 @@
+package com.homefit.backend.log.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로그 파일의 희소(sparse) 라인 오프셋 인덱스.
+ * N 라인마다의 바이트 오프셋과, 로그 레벨별로 해당 레벨 N 라인마다의 오프셋을 기록한다.
+ * 파일이 커지면 추가된 부분만 읽어 인덱스를 갱신하고, 롤오버로 파일이 바뀌면 처음부터 다시 만든다.
+ * 인덱스는 로그 파일 옆(예: application.log.idx)에 저장되어 재시작 후에도 재사용된다.
+ *
+ * 레벨은 LogManagementService 의 파싱 규칙과 동일하게 공백 기준 세 번째 토큰으로 판단한다.
+ */
+@Slf4j
+public class LogLineIndex {
+
+    public static final Set<String> INDEXED_LEVELS = Set.of("TRACE", "DEBUG", "INFO", "WARN", "ERROR");
+
+    private static final int MAGIC = 0x4C4F4749; // "LOGI"
+    private static final int VERSION = 1;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_LEVEL_LENGTH = 8;
+
+    private final Path logFile;
+    private final Path indexFile;
+    private final int interval;
+
+    private String fileIdentity;
+    private long indexedBytes;
+    private Checkpoints lines;
+    private final Map<String, Checkpoints> levels = new LinkedHashMap<>();
+    private boolean loaded;
+
+    public LogLineIndex(Path logFile, Path indexFile, int interval) {
+        this.logFile = logFile;
+        this.indexFile = indexFile;
+        this.interval = interval;
+        reset(null);
+    }
+
+    /**
+     * 인덱스 이후에 추가된 바이트만 읽어 인덱스를 갱신한다.
+     */
+    public synchronized void refresh() throws IOException {
+        if (!loaded) {
+            load();
+            loaded = true;
+        }
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(logFile, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            reset(null);
+            return;
+        }
+
+        String identity = identityOf(attributes);
+        if (!identity.equals(fileIdentity) || attributes.size() < indexedBytes) {
+            log.info("로그 파일이 교체되어 인덱스를 다시 생성합니다: {}", logFile);
+            reset(identity);
+        }
+        if (attributes.size() > indexedBytes) {
+            append(attributes.size());
+            save();
+        }
+    }
+
+    public synchronized long getLineCount() {
+        return lines.count;
+    }
+
+    // 지원하지 않는 레벨이면 -1
+    public synchronized long getLineCount(String level) {
+        String key = level.toUpperCase(Locale.ROOT);
+        if (!INDEXED_LEVELS.contains(key)) {
+            return -1;
+        }
+        Checkpoints checkpoints = levels.get(key);
+        return checkpoints == null ? 0 : checkpoints.count;
+    }
+
+    public static boolean isIndexedLevel(String level) {
+        return level != null && INDEXED_LEVELS.contains(level.toUpperCase(Locale.ROOT));
+    }
+
+    // lineNumber 번째(0부터) 라인을 찾기 위한 시작 오프셋과 건너뛸 라인 수
+    public synchronized Position locate(long lineNumber) {
+        return lines.locate(lineNumber, interval);
+    }
+
+    // 해당 레벨의 levelLineNumber 번째(0부터) 라인을 찾기 위한 시작 오프셋과 건너뛸 해당 레벨 라인 수
+    public synchronized Position locate(String level, long levelLineNumber) {
+        Checkpoints checkpoints = levels.get(level.toUpperCase(Locale.ROOT));
+        return checkpoints == null ? new Position(0, levelLineNumber) : checkpoints.locate(levelLineNumber, interval);
+    }
+
+    public static class Position {
+        private final long offset;
+        private final long skip;
+
+        public Position(long offset, long skip) {
+            this.offset = offset;
+            this.skip = skip;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public long getSkip() {
+            return skip;
+        }
+    }
+
+    private void reset(String identity) {
+        fileIdentity = identity;
+        indexedBytes = 0;
+        lines = new Checkpoints();
+        levels.clear();
+    }
+
+    // indexedBytes 부터 size 까지 읽으며 완성된(줄바꿈으로 끝나는) 라인만 인덱싱
+    private void append(long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            byte[] levelBytes = new byte[MAX_LEVEL_LENGTH];
+
+            long position = indexedBytes;
+            long lineStart = indexedBytes;
+            int spaces = 0;
+            int levelLength = 0;
+            boolean levelOverflow = false;
+            String lineLevel = null;
+
+            while (position < size) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), size - position));
+                int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    byte b = buffer.get(i);
+                    if (b == '\n') {
+                        addLine(lineStart, spaces >= 3 ? lineLevel : null);
+                        lineStart = position + i + 1;
+                        spaces = 0;
+                        levelLength = 0;
+                        levelOverflow = false;
+                        lineLevel = null;
+                    } else if (b == ' ' && spaces < 3) {
+                        spaces++;
+                        if (spaces == 3) {
+                            lineLevel = levelOverflow ? null : toIndexedLevel(levelBytes, levelLength);
+                        }
+                    } else if (spaces == 2) {
+                        if (levelLength < MAX_LEVEL_LENGTH) {
+                            levelBytes[levelLength++] = b;
+                        } else {
+                            levelOverflow = true;
+                        }
+                    }
+                }
+                position += read;
+            }
+            // 마지막 줄바꿈 이후의 미완성 라인은 다음 갱신 때 인덱싱
+            indexedBytes = lineStart;
+        }
+    }
+
+    private void addLine(long offset, String level) {
+        lines.add(offset, interval);
+        if (level != null) {
+            levels.computeIfAbsent(level, k -> new Checkpoints()).add(offset, interval);
+        }
+    }
+
+    private static String toIndexedLevel(byte[] bytes, int length) {
+        for (String level : INDEXED_LEVELS) {
+            if (level.length() == length && equalsIgnoreCase(level, bytes)) {
+                return level;
+            }
+        }
+        return null;
+    }
+
+    private static boolean equalsIgnoreCase(String level, byte[] bytes) {
+        for (int i = 0; i < level.length(); i++) {
+            int b = bytes[i];
+            if (b >= 'a' && b <= 'z') {
+                b -= 'a' - 'A';
+            }
+            if (b != level.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 롤오버로 파일이 바뀌었는지 판단하기 위한 식별자.
+    // creationTime 을 지원하지 않는 파일 시스템은 수정 시각을 돌려주므로 fileKey(inode) 가 있으면 그것만 사용한다.
+    static String identityOf(BasicFileAttributes attributes) {
+        Object fileKey = attributes.fileKey();
+        return fileKey != null ? fileKey.toString() : "@" + attributes.creationTime().toMillis();
+    }
+
+    private void load() {
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != interval) {
+                return;
+            }
+            String identity = in.readUTF();
+            long bytes = in.readLong();
+            Checkpoints loadedLines = Checkpoints.read(in);
+            Map<String, Checkpoints> loadedLevels = new LinkedHashMap<>();
+            int levelCount = in.readInt();
+            for (int i = 0; i < levelCount; i++) {
+                loadedLevels.put(in.readUTF(), Checkpoints.read(in));
+            }
+
+            fileIdentity = identity;
+            indexedBytes = bytes;
+            lines = loadedLines;
+            levels.putAll(loadedLevels);
+        } catch (IOException e) {
+            log.warn("로그 인덱스 파일을 읽을 수 없어 새로 생성합니다: {}", indexFile, e);
+            reset(null);
+        }
+    }
+
+    private void save() {
+        Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(interval);
+            out.writeUTF(fileIdentity);
+            out.writeLong(indexedBytes);
+            lines.write(out);
+            out.writeInt(levels.size());
+            for (Map.Entry<String, Checkpoints> entry : levels.entrySet()) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().write(out);
+            }
+        } catch (IOException e) {
+            log.warn("로그 인덱스 파일을 저장할 수 없습니다: {}", indexFile, e);
+            return;
+        }
+        try {
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("로그 인덱스 파일을 저장할 수 없습니다: {}", indexFile, e);
+        }
+    }
+
+    // interval 라인마다의 시작 오프셋과 전체 라인 수
+    private static class Checkpoints {
+        private long[] offsets = new long[16];
+        private int size;
+        private long count;
+
+        void add(long offset, int interval) {
+            if (count % interval == 0) {
+                if (size == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, size * 2);
+                }
+                offsets[size++] = offset;
+            }
+            count++;
+        }
+
+        Position locate(long lineNumber, int interval) {
+            int checkpoint = (int) Math.min(lineNumber / interval, Math.max(size - 1, 0));
+            long offset = size == 0 ? 0 : offsets[checkpoint];
+            return new Position(offset, lineNumber - (long) checkpoint * interval);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeLong(count);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeLong(offsets[i]);
+            }
+        }
+
+        static Checkpoints read(DataInputStream in) throws IOException {
+            Checkpoints checkpoints = new Checkpoints();
+            checkpoints.count = in.readLong();
+            checkpoints.size = in.readInt();
+            checkpoints.offsets = new long[Math.max(16, checkpoints.size)];
+            for (int i = 0; i < checkpoints.size; i++) {
+                checkpoints.offsets[i] = in.readLong();
+            }
+            return checkpoints;
+        }
+    }
+}
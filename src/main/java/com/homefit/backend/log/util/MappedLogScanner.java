@@ -0,0 +1,205 @@
+package com.homefit.backend.log.util;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * 로그 파일 병렬 스캐너.
+ * 파일을 메모리 매핑한 뒤 줄바꿈 경계에 맞춰 청크로 나누고, 각 청크를 ForkJoinPool 에서 파싱한다.
+ * 청크마다 부분 집계(partial)를 만들고 마지막에 파일 순서대로 병합하므로, 병합 함수가 순서를 유지하면 결과도 라인 순서를 유지한다.
+ * 청크는 한 번에 디코딩하지 않고 작업마다 재사용하는 작은 CharBuffer 로 나눠 디코딩하므로, 힙 사용량은 청크 크기와 무관하다.
+ */
+@Component
+public class MappedLogScanner {
+
+    // 청크가 너무 잘게 쪼개지지 않도록 하는 최소 크기
+    private static final long MIN_CHUNK_SIZE = 4L * 1024 * 1024;
+    // 매핑 한 번에 담을 수 있는 최대 크기 (MappedByteBuffer 는 int 인덱스)
+    private static final long MAX_CHUNK_SIZE = 256L * 1024 * 1024;
+    private static final int BOUNDARY_READ_SIZE = 8 * 1024;
+    // 청크를 나눠 디코딩할 버퍼 크기 (문자 수, 1MB). 이보다 긴 라인을 만나면 그 청크에서만 두 배씩 늘림
+    private static final int DECODE_BUFFER_CHARS = 512 * 1024;
+
+    private final ForkJoinPool pool;
+
+    public MappedLogScanner(@Value("${log.scanner.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * 라인 단위 방문자. seq[start, end) 가 한 라인이며 줄바꿈 문자는 포함하지 않는다.
+     * seq 는 visit 호출 중에만 유효하므로 (디코딩 버퍼를 재사용) 보관하려면 필요한 부분만 복사해야 한다.
+     */
+    @FunctionalInterface
+    public interface LineVisitor<A> {
+        void visit(A partial, CharSequence seq, int start, int end);
+    }
+
+    public <A> A scan(Path file, Supplier<A> partialFactory, LineVisitor<A> visitor, BinaryOperator<A> combiner) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return partialFactory.get();
+            }
+
+            List<long[]> chunks = splitChunks(channel, size);
+            try {
+                return pool.invoke(new ChunkTask<>(channel, chunks, 0, chunks.size(), partialFactory, visitor, combiner));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    // 파일을 줄바꿈에 맞춘 [start, end) 구간 목록으로 분할
+    private List<long[]> splitChunks(FileChannel channel, long size) throws IOException {
+        long target = Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * 4L));
+        long chunkSize = Math.min(target, MAX_CHUNK_SIZE);
+
+        List<long[]> chunks = new ArrayList<>();
+        long start = 0;
+        while (start < size) {
+            long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, size);
+            chunks.add(new long[]{start, end});
+            start = end;
+        }
+        return chunks;
+    }
+
+    // position 이후 처음 나오는 '\n' 다음 위치 (없으면 파일 끝)
+    private long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_READ_SIZE);
+        long pos = position;
+        while (pos < size) {
+            buffer.clear();
+            int read = channel.read(buffer, pos);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    private static final class ChunkTask<A> extends RecursiveTask<A> {
+
+        private final FileChannel channel;
+        private final List<long[]> chunks;
+        private final int from;
+        private final int to;
+        private final Supplier<A> partialFactory;
+        private final LineVisitor<A> visitor;
+        private final BinaryOperator<A> combiner;
+
+        private ChunkTask(FileChannel channel, List<long[]> chunks, int from, int to,
+                          Supplier<A> partialFactory, LineVisitor<A> visitor, BinaryOperator<A> combiner) {
+            this.channel = channel;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.partialFactory = partialFactory;
+            this.visitor = visitor;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from == 1) {
+                return scanChunk(chunks.get(from));
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask<A> left = new ChunkTask<>(channel, chunks, from, mid, partialFactory, visitor, combiner);
+            ChunkTask<A> right = new ChunkTask<>(channel, chunks, mid, to, partialFactory, visitor, combiner);
+            left.fork();
+            A rightResult = right.compute();
+            return combiner.apply(left.join(), rightResult);
+        }
+
+        private A scanChunk(long[] chunk) {
+            A partial = partialFactory.get();
+            try {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, chunk[0], chunk[1] - chunk[0]);
+                CharsetDecoder decoder = newDecoder();
+                CharBuffer chars = CharBuffer.allocate(DECODE_BUFFER_CHARS);
+                while (true) {
+                    // 청크 전체가 입력이므로 endOfInput 은 항상 true, 버퍼가 차면 OVERFLOW 로 멈춤
+                    CoderResult result = decoder.decode(mapped, chars, true);
+                    boolean done = result.isUnderflow();
+                    if (done) {
+                        decoder.flush(chars);
+                    }
+                    chars.flip();
+
+                    int length = chars.limit();
+                    int lineStart = 0;
+                    for (int i = 0; i < length; i++) {
+                        if (chars.get(i) == '\n') {
+                            visitLine(partial, chars, lineStart, i);
+                            lineStart = i + 1;
+                        }
+                    }
+                    if (done) {
+                        if (lineStart < length) {
+                            visitLine(partial, chars, lineStart, length);
+                        }
+                        break;
+                    }
+
+                    // 끝나지 않은 라인은 버퍼 앞으로 옮기고, 라인 하나가 버퍼보다 길면 버퍼를 늘림
+                    chars.position(lineStart);
+                    if (lineStart == 0 && length == chars.capacity()) {
+                        chars = CharBuffer.allocate(chars.capacity() * 2).put(chars);
+                    } else {
+                        chars.compact();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return partial;
+        }
+
+        private void visitLine(A partial, CharBuffer chars, int start, int end) {
+            if (end > start && chars.get(end - 1) == '\r') {
+                end--;
+            }
+            visitor.visit(partial, chars, start, end);
+        }
+
+        private static CharsetDecoder newDecoder() {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+    }
+}
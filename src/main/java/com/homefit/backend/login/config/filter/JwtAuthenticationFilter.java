@@ -1,6 +1,10 @@
 package com.homefit.backend.login.config.filter;
 
 import com.homefit.backend.login.config.provider.JwtTokenProvider;
+import com.homefit.backend.login.entity.UserPrincipal;
+import com.homefit.backend.login.service.TokenRevocationService;
+import com.homefit.backend.login.service.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +27,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(
@@ -32,10 +38,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         try {
             String token = getTokenFromRequest(request);
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                String username = jwtTokenProvider.getUserName(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
+            Claims claims = StringUtils.hasText(token) ? jwtTokenProvider.parseClaims(token) : null;
+            UserDetails userDetails = claims != null && !tokenRevocationService.isRevoked(claims.getId()) ? resolveUser(claims) : null;
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -49,6 +54,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /*
+     * 토큰 claim 으로 인증 주체 생성 (토큰은 한 번만 파싱하고 DB 는 조회하지 않음)
+     * 유저 ID, 역할 claim 이 없는 이전 형식의 토큰만 DB 에서 조회
+     * */
+    private UserDetails resolveUser(Claims claims) {
+        UserPrincipal principal = jwtTokenProvider.toPrincipal(claims);
+        if (principal == null) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        if (userPrincipalCache.isEnabled()) {
+            return userPrincipalCache.verify(principal, claims.getIssuedAt());
+        }
+        return principal;
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,33 +1,65 @@
 package com.homefit.backend.login.config.provider;
 
+import com.homefit.backend.login.entity.RoleType;
 import com.homefit.backend.login.entity.User;
+import com.homefit.backend.login.entity.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/*
+ * JWT 발급과 검증
+ * 파서는 한 번만 만들어 모든 요청이 공유한다. (JwtParser 는 불변이라 스레드 안전)
+ * 최근 검증한 토큰의 claim 은 서명 부분을 key 로 만료 시각까지 보관하고,
+ * 같은 토큰이 다시 오면 서명 검증과 JSON 디코딩을 건너뛴다. (jwt.verified-cache.max-size 가 0 이면 사용 안 함)
+ * */
 @Component
 public class JwtTokenProvider {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+
     private final Key key;
     private final long validityInMilliseconds;
+    private final JwtParser parser;
+    private final int verifiedCacheMaxSize;
+
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secret,
-                            @Value("${jwt.expiration}") long validityInMilliseconds) {
+                            @Value("${jwt.expiration}") long validityInMilliseconds,
+                            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.validityInMilliseconds = validityInMilliseconds;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedCacheMaxSize = verifiedCacheMaxSize;
     }
 
     public String generateToken(User user) {
+        return generateToken(user.getId(), user.getUserName(), user.getRole());
+    }
+
+    public String generateToken(UserPrincipal principal) {
+        return generateToken(principal.getId(), principal.getUsername(), principal.getRole());
+    }
+
+    private String generateToken(Long userId, String userName, RoleType role) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", user.getRole().name());
-        return createToken(claims, user.getUserName());
+        claims.put(CLAIM_USER_ID, userId);
+        claims.put(CLAIM_ROLE, role.name());
+        return createToken(claims, userName);
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
@@ -36,6 +68,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString()) // 로그아웃 시 이 토큰만 폐기하기 위한 ID
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(validity)
@@ -43,17 +76,88 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /*
+     * 서명과 만료 시간을 검증하고 claim 을 반환 (검증 실패 시 null)
+     * */
+    public Claims parseClaims(String token) {
+        if (token == null) {
+            return null;
+        }
+        String signature = verifiedCacheMaxSize > 0 ? token.substring(token.lastIndexOf('.') + 1) : null;
+        if (signature != null) {
+            VerifiedToken verified = verifiedTokens.get(signature);
+            // 서명만 같고 header, payload 가 다른 토큰에 캐시된 claim 을 돌려주지 않도록 토큰 전체를 비교
+            if (verified != null && verified.token.equals(token)) {
+                if (System.currentTimeMillis() < verified.expiresAtMillis) {
+                    return verified.claims;
+                }
+                verifiedTokens.remove(signature, verified);
+                return null;
+            }
+        }
+
+        Claims claims;
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            claims = parser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
+        if (signature != null && claims.getExpiration() != null) {
+            if (verifiedTokens.size() >= verifiedCacheMaxSize) {
+                evictVerifiedTokens();
+            }
+            verifiedTokens.put(signature, new VerifiedToken(token, claims, claims.getExpiration().getTime()));
+        }
+        return claims;
+    }
+
+    /*
+     * 검증된 claim 으로 인증 주체 생성 (DB 조회 없음)
+     * 유저 ID, 역할 claim 이 없는 이전 형식의 토큰이면 null
+     * */
+    public UserPrincipal toPrincipal(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return UserPrincipal.of(userId.longValue(), claims.getSubject(), RoleType.valueOf(role));
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
     }
 
     public String getUserName(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        return claims.getSubject();
+    }
+
+    // 만료된 토큰을 먼저 지우고, 그래도 가득 차 있으면 임의의 토큰을 제거
+    // 가득 찬 상태에서 매번 전체를 훑지 않도록 최대 크기의 90% 까지 비움
+    private void evictVerifiedTokens() {
+        long now = System.currentTimeMillis();
+        verifiedTokens.values().removeIf(verified -> verified.expiresAtMillis <= now);
+        int target = verifiedCacheMaxSize - Math.max(1, verifiedCacheMaxSize / 10);
+        Iterator<String> iterator = verifiedTokens.keySet().iterator();
+        while (verifiedTokens.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static class VerifiedToken {
+        private final String token;
+        private final Claims claims;
+        private final long expiresAtMillis;
+
+        private VerifiedToken(String token, Claims claims, long expiresAtMillis) {
+            this.token = token;
+            this.claims = claims;
+            this.expiresAtMillis = expiresAtMillis;
+        }
     }
 }
@@ -0,0 +1,175 @@
+package com.homefit.backend.login.config.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.function.Supplier;
+
+/**
+ * 작업 비용을 서버 성능에 맞추는 비밀번호 인코더.
+ * 시작할 때 해시 한 번이 target-ms 안에 끝나는 가장 큰 비용을 측정해서 새 해시에 사용한다.
+ * - bcrypt: strength (2^strength 라운드, min ~ max 사이)
+ * - argon2: 메모리를 고정하고 (memory-hard) 반복 횟수를 조절
+ * 저장된 해시는 형식으로 알고리즘을 구분하므로 ($2a$..., $argon2id$...) 기존 bcrypt 해시도 그대로 검증된다.
+ * 저장된 해시가 현재 알고리즘이 아니거나 비용이 낮으면 upgradeEncoding 이 true 를 반환하고,
+ * 로그인에 성공했을 때 DaoAuthenticationProvider 가 새 해시로 교체한다. (CustomUserDetailsService.updatePassword)
+ * 해시, 검증 시간은 auth.password.hash 타이머로 기록한다.
+ */
+@Slf4j
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    private static final int CALIBRATION_ROUNDS = 3;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+    private static final int ARGON2_MIN_ITERATIONS = 2;
+    private static final int ARGON2_MAX_ITERATIONS = 10;
+
+    private final String algorithm;
+    private final BCryptPasswordEncoder bcrypt;
+    private final Argon2PasswordEncoder argon2;
+    private final int bcryptStrength;
+    private final int argon2Iterations;
+
+    private final Timer bcryptEncodeTimer;
+    private final Timer bcryptMatchesTimer;
+    private final Timer argon2EncodeTimer;
+    private final Timer argon2MatchesTimer;
+
+    public AdaptivePasswordEncoder(MeterRegistry meterRegistry,
+                                   String algorithm,
+                                   long targetMillis,
+                                   int bcryptMinStrength,
+                                   int bcryptMaxStrength,
+                                   int argon2MemoryKib) {
+        if (!BCRYPT.equals(algorithm) && !ARGON2.equals(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 해시 알고리즘입니다: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.bcryptStrength = calibrateBcrypt(targetMillis, bcryptMinStrength, bcryptMaxStrength);
+        this.bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        if (ARGON2.equals(algorithm)) {
+            this.argon2Iterations = calibrateArgon2(targetMillis, argon2MemoryKib);
+            this.argon2 = argon2(argon2MemoryKib, argon2Iterations);
+        } else {
+            // 새 해시는 bcrypt 로 만들지만 이전에 만든 argon2 해시는 검증할 수 있어야 함
+            this.argon2Iterations = 0;
+            this.argon2 = argon2(argon2MemoryKib, ARGON2_MIN_ITERATIONS);
+        }
+        log.info("비밀번호 해시 설정: algorithm={}, bcryptStrength={}, argon2Iterations={}, argon2MemoryKib={}, target={}ms",
+                algorithm, bcryptStrength, argon2Iterations, argon2MemoryKib, targetMillis);
+
+        this.bcryptEncodeTimer = timer(meterRegistry, BCRYPT, "encode");
+        this.bcryptMatchesTimer = timer(meterRegistry, BCRYPT, "matches");
+        this.argon2EncodeTimer = timer(meterRegistry, ARGON2, "encode");
+        this.argon2MatchesTimer = timer(meterRegistry, ARGON2, "matches");
+        Gauge.builder("auth.password.work_factor", this, encoder -> ARGON2.equals(encoder.algorithm) ? encoder.argon2Iterations : encoder.bcryptStrength)
+                .description("새 비밀번호 해시의 작업 비용 (bcrypt strength 또는 argon2 반복 횟수)")
+                .tag("algorithm", algorithm)
+                .register(meterRegistry);
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public int getArgon2Iterations() {
+        return argon2Iterations;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        if (ARGON2.equals(algorithm)) {
+            return argon2EncodeTimer.record(() -> argon2.encode(rawPassword));
+        }
+        return bcryptEncodeTimer.record(() -> bcrypt.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        if (isArgon2(encodedPassword)) {
+            return record(argon2MatchesTimer, () -> argon2.matches(rawPassword, encodedPassword));
+        }
+        return record(bcryptMatchesTimer, () -> bcrypt.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        boolean storedArgon2 = isArgon2(encodedPassword);
+        if (storedArgon2 != ARGON2.equals(algorithm)) {
+            return true;
+        }
+        return storedArgon2 ? argon2.upgradeEncoding(encodedPassword) : bcrypt.upgradeEncoding(encodedPassword);
+    }
+
+    private static boolean isArgon2(String encodedPassword) {
+        return encodedPassword.startsWith("$argon2");
+    }
+
+    // 가장 낮은 strength 의 해시 시간을 재고, strength 가 1 오를 때마다 시간이 두 배가 되는 것으로 계산
+    private static int calibrateBcrypt(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        long nanos = measure(() -> encoder.encode("calibration"));
+        int strength = minStrength;
+        while (strength < maxStrength && nanos * 2 <= targetMillis * 1_000_000L) {
+            nanos *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    // 최소 반복 횟수의 해시 시간을 재고, 시간이 반복 횟수에 비례하는 것으로 계산
+    private static int calibrateArgon2(long targetMillis, int memoryKib) {
+        Argon2PasswordEncoder encoder = argon2(memoryKib, ARGON2_MIN_ITERATIONS);
+        long nanosPerIteration = Math.max(1, measure(() -> encoder.encode("calibration")) / ARGON2_MIN_ITERATIONS);
+        long iterations = targetMillis * 1_000_000L / nanosPerIteration;
+        return (int) Math.max(ARGON2_MIN_ITERATIONS, Math.min(ARGON2_MAX_ITERATIONS, iterations));
+    }
+
+    // 한 번 워밍업한 뒤 가장 빠른 시간 (다른 작업의 간섭을 줄이기 위해)
+    private static long measure(Runnable hash) {
+        hash.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            hash.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static Argon2PasswordEncoder argon2(int memoryKib, int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, ARGON2_PARALLELISM, memoryKib, iterations);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String algorithm, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("비밀번호 해시, 검증에 걸린 시간")
+                .tag("algorithm", algorithm)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static boolean record(Timer timer, Supplier<Boolean> matches) {
+        Boolean result = timer.record(matches);
+        return result != null && result;
+    }
+}
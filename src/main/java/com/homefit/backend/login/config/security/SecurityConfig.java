@@ -4,7 +4,9 @@ import com.homefit.backend.login.config.properties.CorsProperties;
 import com.homefit.backend.login.entity.RoleType;
 import com.homefit.backend.login.config.filter.JwtAuthenticationFilter;
 import com.homefit.backend.login.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,7 +16,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -50,7 +51,7 @@ public class SecurityConfig {
                                 .requestMatchers("/api/change-password").authenticated()
 
                                 // 관리자 전용 엔드포인트
-                                .requestMatchers("/api/admin/**", "/api/logs/**").hasAuthority(RoleType.ADMIN.getCode())
+                                .requestMatchers("/api/admin/**", "/api/logs/**", "/api/ranking/admin/**").hasAuthority(RoleType.ADMIN.getCode())
 
                                 // 사용자 정보 전용 엔드포인트
                                 .requestMatchers("/api/user/**").authenticated()
@@ -82,10 +83,17 @@ public class SecurityConfig {
 
     /*
      * 비밀번호 암호화 설정
+     * 시작할 때 해시 한 번이 target-ms 안에 끝나도록 비용을 맞추고, 비용이 낮은 기존 해시는 로그인 시 교체
+     * 새 해시의 알고리즘은 bcrypt 또는 argon2 (memory-hard)
      * */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${auth.password.algorithm:bcrypt}") String algorithm,
+                                           @Value("${auth.password.target-ms:250}") long targetMillis,
+                                           @Value("${auth.password.bcrypt.min-strength:10}") int bcryptMinStrength,
+                                           @Value("${auth.password.bcrypt.max-strength:14}") int bcryptMaxStrength,
+                                           @Value("${auth.password.argon2.memory-kib:19456}") int argon2MemoryKib) {
+        return new AdaptivePasswordEncoder(meterRegistry, algorithm, targetMillis, bcryptMinStrength, bcryptMaxStrength, argon2MemoryKib);
     }
 
     /*
@@ -3,6 +3,7 @@ package com.homefit.backend.login.controller;
 import com.homefit.backend.login.dto.LoginRequestDto;
 import com.homefit.backend.login.dto.LoginResponseDto;
 import com.homefit.backend.login.dto.PasswordChangeDto;
+import com.homefit.backend.login.dto.TokenRefreshRequestDto;
 import com.homefit.backend.login.dto.UserDto;
 import com.homefit.backend.login.entity.User;
 import com.homefit.backend.login.service.AuthService;
@@ -14,10 +15,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
 @Slf4j
 @RestController
 @RequestMapping(value = "/api")
@@ -53,19 +60,37 @@ public class UserAuthController {
                     content = @Content(schema = @Schema(implementation = LoginResponseDto.class))
             ),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
-            @ApiResponse(responseCode = "401", description = "인증 실패")
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "503", description = "로그인 요청이 몰려 잠시 후 다시 시도")
     })
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDto> login(@RequestBody LoginRequestDto loginRequestDto) {
-        try {
-            LoginResponseDto response = authService.login(loginRequestDto);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(null);
-        }
+    public CompletableFuture<ResponseEntity<LoginResponseDto>> login(@RequestBody LoginRequestDto loginRequestDto) {
+        // 비밀번호 검증은 전용 실행기에서 하고, 그동안 요청 스레드는 반환
+        return authService.loginAsync(loginRequestDto)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof RejectedExecutionException) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(null);
+                    }
+                    return ResponseEntity.badRequest().body(null);
+                });
+    }
+
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 액세스 토큰을 재발급합니다. 리프레시 토큰도 새 토큰으로 교체됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200", description = "재발급 성공",
+                    content = @Content(schema = @Schema(implementation = LoginResponseDto.class))
+            ),
+            @ApiResponse(responseCode = "401", description = "유효하지 않거나 이미 사용된 리프레시 토큰")
+    })
+    @PostMapping("/login/refresh")
+    public ResponseEntity<LoginResponseDto> refresh(@RequestBody TokenRefreshRequestDto tokenRefreshRequestDto) {
+        return ResponseEntity.ok(authService.refresh(tokenRefreshRequestDto.getRefreshToken()));
     }
 
-    @Operation(summary = "로그아웃", description = "사용자 로그아웃을 처리합니다.")
+    @Operation(summary = "로그아웃", description = "사용자 로그아웃을 처리합니다. 현재 액세스 토큰과 리프레시 토큰은 폐기됩니다.")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
@@ -76,8 +101,12 @@ public class UserAuthController {
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
     })
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(@RequestParam String userName) {
-        authService.logout(userName);
+    public ResponseEntity<String> logout(@RequestParam String userName,
+                                         @RequestHeader(value = "Authorization", required = false) String authorization,
+                                         @RequestBody(required = false) TokenRefreshRequestDto tokenRefreshRequestDto) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        String refreshToken = tokenRefreshRequestDto != null ? tokenRefreshRequestDto.getRefreshToken() : null;
+        authService.logout(userName, accessToken, refreshToken);
         return ResponseEntity.ok("로그아웃 성공");
     }
 
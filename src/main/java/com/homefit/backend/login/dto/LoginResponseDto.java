@@ -14,4 +14,7 @@ public class LoginResponseDto {
 
     @Schema(description = "JWT")
     private String jwtToken;
+
+    @Schema(description = "리프레시 토큰 (사용할 때마다 새 토큰으로 교체)")
+    private String refreshToken;
 }
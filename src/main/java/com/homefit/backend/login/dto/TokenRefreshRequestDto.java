@@ -0,0 +1,12 @@
+package com.homefit.backend.login.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TokenRefreshRequestDto {
+    @Schema(description = "리프레시 토큰")
+    private String refreshToken;
+}
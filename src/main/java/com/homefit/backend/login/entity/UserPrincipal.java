@@ -29,6 +29,18 @@ public class UserPrincipal implements UserDetails {
                 .build();
     }
 
+    /*
+     * 토큰 claim 이나 캐시로 만드는 인증 주체 (비밀번호 해시는 담지 않음)
+     * */
+    public static UserPrincipal of(Long id, String userName, RoleType role) {
+        return UserPrincipal.builder()
+                .id(id)
+                .userName(userName)
+                .role(role)
+                .authorities(Collections.singletonList(new SimpleGrantedAuthority(role.getCode())))
+                .build();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
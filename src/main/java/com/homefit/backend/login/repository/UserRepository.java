@@ -3,11 +3,33 @@ package com.homefit.backend.login.repository;
 import com.homefit.backend.login.entity.RoleType;
 import com.homefit.backend.login.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserName(String userName);
     boolean existsByUserName(String userName);
     boolean existsByRole(RoleType role);
-}
\ No newline at end of file
+
+    // 엔티티를 읽지 않고 로그인 시각만 갱신 (더 최근 시각일 때만)
+    @Modifying
+    @Query("UPDATE User u SET u.lastLoginTime = :time " +
+            "WHERE u.id = :id AND (u.lastLoginTime IS NULL OR u.lastLoginTime < :time)")
+    int updateLastLoginTime(@Param("id") Long id, @Param("time") LocalDateTime time);
+
+    // 엔티티를 읽지 않고 로그아웃 시각만 갱신 (더 최근 시각일 때만)
+    @Modifying
+    @Query("UPDATE User u SET u.lastLogoutTime = :time " +
+            "WHERE u.id = :id AND (u.lastLogoutTime IS NULL OR u.lastLogoutTime < :time)")
+    int updateLastLogoutTime(@Param("id") Long id, @Param("time") LocalDateTime time);
+
+    // 로그인 시 더 강한 해시로 교체 (비밀번호 변경이 아니므로 updatedAt 은 그대로 두어 기존 토큰을 유지)
+    // 검증에 쓴 해시가 그대로일 때만 교체해서, 그 사이에 바뀐 비밀번호를 이전 비밀번호로 되돌리지 않음
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.userName = :userName AND u.password = :oldHash")
+    int updatePasswordHash(@Param("userName") String userName, @Param("oldHash") String oldHash, @Param("password") String password);
+}
@@ -1,23 +1,31 @@
 package com.homefit.backend.login.service;
 
 import com.homefit.backend.character.service.CharacterService;
+import com.homefit.backend.global.exception.model.UnauthorizedException;
 import com.homefit.backend.login.config.provider.JwtTokenProvider;
 import com.homefit.backend.login.dto.*;
 import com.homefit.backend.login.entity.RoleType;
 import com.homefit.backend.login.entity.User;
+import com.homefit.backend.login.entity.UserPrincipal;
 import com.homefit.backend.login.repository.UserRepository;
+import com.homefit.backend.login.util.CustomApiResponse;
 import com.homefit.backend.user.entity.UserInfo;
 import com.homefit.backend.user.repository.UserInfoRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -30,34 +38,87 @@ public class AuthService {
     private final CharacterService characterService;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserActivityWriter userActivityWriter;
+    private final PasswordHashExecutor passwordHashExecutor;
+
+    /*
+     * 비밀번호 검증을 전용 실행기에서 실행 (요청 스레드는 결과를 기다리지 않음)
+     * 대기열이 가득 차면 RejectedExecutionException 으로 실패한 future 반환
+     * */
+    public CompletableFuture<LoginResponseDto> loginAsync(LoginRequestDto loginRequestDto) {
+        return passwordHashExecutor.submit(() -> login(loginRequestDto));
+    }
 
     public LoginResponseDto login(LoginRequestDto loginRequestDto) {
         log.info("로그인 시도: 사용자명 = {}", loginRequestDto.getUserName());
         try {
-            authenticationManager.authenticate(
+            // 인증 과정에서 읽은 유저 정보를 그대로 사용 (유저 조회는 한 번)
+            Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(loginRequestDto.getUserName(), loginRequestDto.getPassword())
             );
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
 
-            User user = userService.findByUserName(loginRequestDto.getUserName());
-            user.updateLoginTime();
-            userRepository.save(user);
+            LocalDateTime loginTime = LocalDateTime.now();
+            userActivityWriter.recordLogin(principal.getId(), loginTime);
 
-            String token = jwtTokenProvider.generateToken(user);
+            String token = jwtTokenProvider.generateToken(principal);
+            String refreshToken = refreshTokenService.issue(principal.getId());
 
-            log.info("로그인 성공: 사용자명 = {}, 사용자 ID = {}, 로그인 시각 = {}", user.getUserName(), user.getId(), user.getLastLoginTime());
-            return new LoginResponseDto(user.getId(), token);
+            log.info("로그인 성공: 사용자명 = {}, 사용자 ID = {}, 로그인 시각 = {}", principal.getUsername(), principal.getId(), loginTime);
+            return new LoginResponseDto(principal.getId(), token, refreshToken);
         } catch (AuthenticationException e) {
             log.error("로그인 실패: 사용자명 = {}", loginRequestDto.getUserName(), e);
             throw new RuntimeException("인증 실패: 사용자명 또는 비밀번호가 올바르지 않습니다.", e);
         }
     }
 
+    /*
+     * 리프레시 토큰으로 액세스 토큰 재발급 (리프레시 토큰도 새 토큰으로 교체)
+     * 비밀번호를 다시 확인하지 않으므로 액세스 토큰 유효 시간을 짧게 두어도 BCrypt 비용이 늘지 않음
+     * */
+    @Transactional(readOnly = true)
+    public LoginResponseDto refresh(String refreshToken) {
+        RefreshTokenService.RotatedToken rotated = refreshTokenService.rotate(refreshToken);
+        if (rotated == null) {
+            throw new UnauthorizedException(CustomApiResponse.INVALID_REFRESH_TOKEN);
+        }
+        User user = userRepository.findById(rotated.getUserId())
+                .orElseThrow(() -> new UnauthorizedException(CustomApiResponse.INVALID_REFRESH_TOKEN));
+
+        String token = jwtTokenProvider.generateToken(user);
+        log.info("토큰 재발급: 사용자 ID = {}", user.getId());
+        return new LoginResponseDto(user.getId(), token, rotated.getRefreshToken());
+    }
+
     public void logout(String userName) {
-        User user = userService.findByUserName(userName);
-        user.updateLogoutTime();
-        userRepository.save(user);
-        log.info("로그아웃 성공: 사용자명 = {}, 사용자 ID = {}, 로그아웃 시각 = {}",
-                user.getUserName(), user.getId(), user.getLastLogoutTime());
+        logout(userName, null, null);
+    }
+
+    /*
+     * 로그아웃 시각 기록과 함께 현재 액세스 토큰과 리프레시 토큰 폐기
+     * */
+    public void logout(String userName, String accessToken, String refreshToken) {
+        Claims claims = accessToken != null ? jwtTokenProvider.parseClaims(accessToken) : null;
+        if (claims != null && !userName.equals(claims.getSubject())) {
+            claims = null;
+        }
+        // 토큰에 유저 ID 가 있으면 유저를 조회하지 않음
+        UserPrincipal principal = claims != null ? jwtTokenProvider.toPrincipal(claims) : null;
+        Long userId = principal != null ? principal.getId() : userService.findByUserName(userName).getId();
+
+        LocalDateTime logoutTime = LocalDateTime.now();
+        userActivityWriter.recordLogout(userId, logoutTime);
+
+        if (claims != null) {
+            tokenRevocationService.revoke(claims);
+        }
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        log.info("로그아웃 성공: 사용자명 = {}, 사용자 ID = {}, 로그아웃 시각 = {}", userName, userId, logoutTime);
     }
 
     @Transactional
@@ -160,6 +221,8 @@ public class AuthService {
         String newEncodedPassword = passwordEncoder.encode(passwordChangeDto.getNewPassword());
         user.changePassword(newEncodedPassword);
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
+        refreshTokenService.revokeAll(user.getId());
         log.info("비밀번호 변경 성공: 사용자 ID = {})", user.getId());
     }
 }
@@ -4,14 +4,18 @@ import com.homefit.backend.login.entity.User;
 import com.homefit.backend.login.entity.UserPrincipal;
 import com.homefit.backend.login.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -22,4 +26,27 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return UserPrincipal.create(user);
     }
+
+    /*
+     * 로그인에 성공했는데 저장된 해시의 비용이 낮거나 알고리즘이 다르면 DaoAuthenticationProvider 가 호출
+     * */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (userRepository.updatePasswordHash(user.getUsername(), user.getPassword(), newPassword) == 0) {
+            // 검증 이후 비밀번호가 바뀌었으면 교체하지 않음
+            log.info("비밀번호가 변경되어 해시 교체를 건너뜀: 사용자명 = {}", user.getUsername());
+            return user;
+        }
+        log.info("비밀번호 해시 교체: 사용자명 = {}", user.getUsername());
+
+        UserPrincipal principal = (UserPrincipal) user;
+        return UserPrincipal.builder()
+                .id(principal.getId())
+                .userName(principal.getUsername())
+                .password(newPassword)
+                .role(principal.getRole())
+                .authorities(principal.getAuthorities())
+                .build();
+    }
 }
@@ -0,0 +1,76 @@
+package com.homefit.backend.login.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 검증 전용 실행기.
+ * BCrypt 는 CPU 를 오래 쓰므로 요청 스레드 대신 CPU 수만큼의 고정 스레드에서 실행한다.
+ * 대기열이 queue-capacity 를 넘으면 바로 거절해서 (RejectedExecutionException) 로그인이 몰려도
+ * Tomcat 스레드와 DB 커넥션이 로그인 요청에 묶이지 않게 한다.
+ */
+@Component
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public PasswordHashExecutor(MeterRegistry meterRegistry,
+                                @Value("${auth.login.threads:0}") int threads,
+                                @Value("${auth.login.queue-capacity:200}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejected = Counter.builder("auth.login.rejected")
+                .description("대기열이 가득 차서 거절한 로그인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.queued", executor, e -> e.getQueue().size())
+                .description("비밀번호 검증을 기다리는 로그인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호를 검증 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    /*
+     * 작업을 실행기에 넣고 결과를 비동기로 반환 (대기열이 가득 차면 RejectedExecutionException 으로 실패한 future)
+     * */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
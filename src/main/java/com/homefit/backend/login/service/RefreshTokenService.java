@@ -0,0 +1,196 @@
+package com.homefit.backend.login.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리프레시 토큰 발급과 교체 (Redis).
+ * 토큰 형식은 "{familyId}.{secret}" 이고, 로그인 한 번에 family 하나가 만들어진다.
+ * Redis 에는 family 별로 유저 ID 와 현재 secret 의 SHA-256 만 TTL 과 함께 저장한다. (auth:refresh:{familyId})
+ * 리프레시할 때마다 secret 을 새로 발급하고 TTL 을 다시 설정한다.
+ * 이미 교체된 secret 이 다시 오면 토큰이 유출된 것으로 보고 family 전체를 폐기한다.
+ * 유저별 family 목록(auth:refresh-user:{userId})에서는 폐기한 family 를 바로 빼고, TTL 로 만료된 family 는 로그인할 때 정리한다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final String FAMILY_KEY_PREFIX = "auth:refresh:";
+    private static final String USER_FAMILIES_KEY_PREFIX = "auth:refresh-user:";
+    private static final int SECRET_BYTES = 32;
+    private static final int FAMILY_ID_BYTES = 16;
+
+    // KEYS[1] = family key, ARGV[1] = 받은 secret 해시, ARGV[2] = 새 secret 해시, ARGV[3] = TTL(ms),
+    // ARGV[4] = 유저별 family 목록 key prefix, ARGV[5] = family ID
+    // 교체에 성공하면 유저 ID, 아니면 nil (재사용이면 family 를 삭제하고 유저의 family 목록에서도 뺌)
+    // 교체할 때 유저의 family 목록 TTL 도 늘려서, 로그인 이후 리프레시만 하는 유저도 revokeAll 대상에서 빠지지 않게 한다
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'hash') " +
+            "if not current then return false end " +
+            "local userId = redis.call('HGET', KEYS[1], 'userId') " +
+            "if current ~= ARGV[1] then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  if userId then redis.call('SREM', ARGV[4] .. userId, ARGV[5]) end " +
+            "  return false " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'hash', ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "if userId then redis.call('PEXPIRE', ARGV[4] .. userId, ARGV[3]) end " +
+            "return userId",
+            String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long validityInMilliseconds;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(StringRedisTemplate redisTemplate,
+                               @Value("${jwt.refresh-expiration:1209600000}") long validityInMilliseconds) {
+        this.redisTemplate = redisTemplate;
+        this.validityInMilliseconds = validityInMilliseconds;
+    }
+
+    /*
+     * 로그인 시 새 family 의 리프레시 토큰 발급
+     * */
+    public String issue(Long userId) {
+        String familyId = randomToken(FAMILY_ID_BYTES);
+        String secret = randomToken(SECRET_BYTES);
+        String familyKey = FAMILY_KEY_PREFIX + familyId;
+        String userFamiliesKey = USER_FAMILIES_KEY_PREFIX + userId;
+        pruneExpiredFamilies(userFamiliesKey);
+
+        // StringRedisTemplate 은 콜백에 StringRedisConnection 을 넘김
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hMSet(familyKey, Map.of("userId", String.valueOf(userId), "hash", hash(secret)));
+            stringConnection.pExpire(familyKey, validityInMilliseconds);
+            stringConnection.sAdd(userFamiliesKey, familyId);
+            stringConnection.pExpire(userFamiliesKey, validityInMilliseconds);
+            return null;
+        });
+        return familyId + "." + secret;
+    }
+
+    /*
+     * 리프레시 토큰을 새 토큰으로 교체 (유효하지 않거나 이미 사용된 토큰이면 null)
+     * */
+    public RotatedToken rotate(String refreshToken) {
+        String[] parts = split(refreshToken);
+        if (parts == null) {
+            return null;
+        }
+        String newSecret = randomToken(SECRET_BYTES);
+        String userId = redisTemplate.execute(ROTATE_SCRIPT, List.of(FAMILY_KEY_PREFIX + parts[0]),
+                hash(parts[1]), hash(newSecret), String.valueOf(validityInMilliseconds), USER_FAMILIES_KEY_PREFIX, parts[0]);
+        if (userId == null) {
+            log.warn("리프레시 토큰 교체 실패: family = {}", parts[0]);
+            return null;
+        }
+        return new RotatedToken(Long.valueOf(userId), parts[0] + "." + newSecret);
+    }
+
+    /*
+     * 로그아웃 시 리프레시 토큰의 family 폐기 (현재 토큰일 때만)
+     * */
+    public void revoke(String refreshToken) {
+        String[] parts = split(refreshToken);
+        if (parts == null) {
+            return;
+        }
+        String familyKey = FAMILY_KEY_PREFIX + parts[0];
+        List<Object> family = redisTemplate.opsForHash().multiGet(familyKey, List.of("hash", "userId"));
+        if (hash(parts[1]).equals(family.get(0))) {
+            redisTemplate.delete(familyKey);
+            if (family.get(1) != null) {
+                redisTemplate.opsForSet().remove(USER_FAMILIES_KEY_PREFIX + family.get(1), parts[0]);
+            }
+        }
+    }
+
+    /*
+     * 비밀번호 변경 등으로 유저의 모든 리프레시 토큰 폐기
+     * */
+    public void revokeAll(Long userId) {
+        String userFamiliesKey = USER_FAMILIES_KEY_PREFIX + userId;
+        Set<String> familyIds = redisTemplate.opsForSet().members(userFamiliesKey);
+        if (familyIds != null && !familyIds.isEmpty()) {
+            redisTemplate.delete(familyIds.stream().map(familyId -> FAMILY_KEY_PREFIX + familyId).toList());
+        }
+        redisTemplate.delete(userFamiliesKey);
+    }
+
+    // TTL 로 만료된 family 는 목록에서 빠지지 않으므로, 로그인할 때 남아 있지 않은 family 를 정리
+    private void pruneExpiredFamilies(String userFamiliesKey) {
+        Set<String> familyIds = redisTemplate.opsForSet().members(userFamiliesKey);
+        if (familyIds == null || familyIds.isEmpty()) {
+            return;
+        }
+        List<String> ids = List.copyOf(familyIds);
+        List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            ids.forEach(familyId -> stringConnection.exists(FAMILY_KEY_PREFIX + familyId));
+            return null;
+        });
+        Object[] expired = new Object[ids.size()];
+        int count = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            if (!Boolean.TRUE.equals(exists.get(i))) {
+                expired[count++] = ids.get(i);
+            }
+        }
+        if (count > 0) {
+            redisTemplate.opsForSet().remove(userFamiliesKey, Arrays.copyOf(expired, count));
+        }
+    }
+
+    private static String[] split(String refreshToken) {
+        if (refreshToken == null) {
+            return null;
+        }
+        int dot = refreshToken.indexOf('.');
+        if (dot <= 0 || dot == refreshToken.length() - 1) {
+            return null;
+        }
+        return new String[]{refreshToken.substring(0, dot), refreshToken.substring(dot + 1)};
+    }
+
+    private String randomToken(int bytes) {
+        byte[] buffer = new byte[bytes];
+        secureRandom.nextBytes(buffer);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer);
+    }
+
+    private static String hash(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RotatedToken {
+        private final Long userId;
+        private final String refreshToken;
+    }
+}
@@ -0,0 +1,127 @@
+package com.homefit.backend.login.service;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃한 액세스 토큰 폐기 목록.
+ * 폐기한 토큰 ID(jti) 는 남은 유효 시간만큼 Redis 에 저장하고 (auth:revoked:{jti}) 채널로 다른 노드에 알린다.
+ * 각 노드는 폐기 목록을 메모리에 들고 있어서 필터의 확인은 Redis 왕복 없이 상수 시간에 끝난다.
+ * 노드가 뜰 때와 채널 구독이 확인될 때마다 (재연결 후 다시 구독할 때 포함) Redis 의 폐기 목록을 다시 읽어 온다.
+ * pub/sub 는 연결이 끊긴 동안의 메시지를 다시 보내지 않고, 시작 시 읽기와 첫 구독 사이에도 틈이 있으므로
+ * 구독 이후에 읽어서 그 사이에 놓친 폐기를 채운다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener, SubscriptionListener {
+
+    public static final String CHANNEL = "auth:revoked";
+    private static final String KEY_PREFIX = "auth:revoked:";
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    // jti -> 토큰 만료 시각 (ms)
+    private final ConcurrentHashMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @PostConstruct
+    public void loadRevokedTokens() {
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            long now = System.currentTimeMillis();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttl != null && ttl > 0) {
+                    revokedTokens.put(key.substring(KEY_PREFIX.length()), now + ttl);
+                }
+            }
+            log.info("폐기된 액세스 토큰 로딩 완료: {}건", revokedTokens.size());
+        } catch (Exception e) {
+            log.warn("폐기된 액세스 토큰 로딩 실패", e);
+        }
+    }
+
+    /*
+     * 액세스 토큰을 만료 시각까지 폐기
+     * */
+    public void revoke(Claims claims) {
+        String tokenId = claims.getId();
+        if (tokenId == null || claims.getExpiration() == null) {
+            return;
+        }
+        long expiresAtMillis = claims.getExpiration().getTime();
+        long remaining = expiresAtMillis - System.currentTimeMillis();
+        if (remaining <= 0) {
+            return;
+        }
+        add(tokenId, expiresAtMillis);
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", remaining, TimeUnit.MILLISECONDS);
+        redisTemplate.convertAndSend(CHANNEL, tokenId + ":" + expiresAtMillis);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Long expiresAtMillis = revokedTokens.get(tokenId);
+        if (expiresAtMillis == null) {
+            return false;
+        }
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            revokedTokens.remove(tokenId, expiresAtMillis);
+            return false;
+        }
+        return true;
+    }
+
+    // 구독 이후에 폐기된 토큰은 메시지로 받으므로, 구독 전에 놓친 토큰만 다시 읽으면 됨
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        loadRevokedTokens();
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        log.warn("토큰 폐기 채널 구독이 해제되었습니다. 다시 구독하면 폐기 목록을 다시 읽습니다.");
+    }
+
+    // 다른 노드에서 폐기한 토큰 ("{jti}:{만료 시각}")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", body);
+        }
+    }
+
+    private void add(String tokenId, long expiresAtMillis) {
+        // 만료된 항목은 조회될 때만 지워지므로 많이 쌓이면 한 번에 정리
+        if (revokedTokens.size() >= PURGE_THRESHOLD) {
+            long now = System.currentTimeMillis();
+            revokedTokens.values().removeIf(expiry -> expiry <= now);
+        }
+        revokedTokens.put(tokenId, expiresAtMillis);
+    }
+}
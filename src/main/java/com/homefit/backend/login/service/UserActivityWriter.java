@@ -0,0 +1,176 @@
+package com.homefit.backend.login.service;
+
+import com.homefit.backend.login.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그인, 로그아웃 시각 기록기.
+ * 요청은 유저별 최신 시각을 메모리에 기록하기만 하고, flush-interval-ms 마다 모인 시각을 한 트랜잭션으로 DB 에 반영한다.
+ * 같은 유저의 시각은 가장 최근 값 하나로 합쳐지므로 로그인이 몰려도 유저당 UPDATE 는 주기마다 한 번이다.
+ * 기록 중인 유저가 max-pending 을 넘으면 새 기록은 버리고 개수를 남긴다. (시각은 참고용 정보)
+ */
+@Slf4j
+@Component
+public class UserActivityWriter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxPending;
+    private final long flushIntervalMillis;
+
+    private final ConcurrentHashMap<Long, Activity> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-activity-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Timer flushTimer;
+    private final Counter droppedRecords;
+
+    public UserActivityWriter(UserRepository userRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.activity.flush-interval-ms:1000}") long flushIntervalMillis,
+                              @Value("${auth.activity.max-pending:100000}") int maxPending) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPending = maxPending;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        this.flushTimer = Timer.builder("auth.activity.flush.latency")
+                .description("로그인, 로그아웃 시각을 DB 에 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.droppedRecords = Counter.builder("auth.activity.dropped")
+                .description("대기 중인 유저가 너무 많아 반영하지 못한 로그인, 로그아웃 기록 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.activity.pending", pending, Map::size)
+                .description("아직 DB 에 반영되지 않은 유저 수")
+                .register(meterRegistry);
+    }
+
+    // 빈 생성이 끝난 뒤에 주기적 flush 시작 (생성자에서 시작하면 컨텍스트 기동이 실패해도 DB 에 쓰는 스레드가 남음)
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordLogin(Long userId, LocalDateTime time) {
+        record(userId, new Activity(time, null));
+    }
+
+    public void recordLogout(Long userId, LocalDateTime time) {
+        record(userId, new Activity(null, time));
+    }
+
+    /**
+     * 모인 시각을 한 트랜잭션으로 반영한다.
+     * 반영에 실패하면 시각을 되돌려 다음 flush 때 재시도한다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Activity> activities = new HashMap<>();
+            for (Long userId : pending.keySet()) {
+                Activity activity = pending.remove(userId);
+                if (activity != null) {
+                    activities.put(userId, activity);
+                }
+            }
+            if (activities.isEmpty()) {
+                return;
+            }
+
+            Timer.Sample sample = Timer.start();
+            try {
+                transactionTemplate.executeWithoutResult(status -> activities.forEach((userId, activity) -> {
+                    if (activity.loginTime != null) {
+                        userRepository.updateLastLoginTime(userId, activity.loginTime);
+                    }
+                    if (activity.logoutTime != null) {
+                        userRepository.updateLastLogoutTime(userId, activity.logoutTime);
+                    }
+                }));
+            } catch (RuntimeException e) {
+                log.error("로그인, 로그아웃 시각 반영 실패, 다음 flush 때 재시도합니다: users={}", activities.size(), e);
+                activities.forEach((userId, activity) -> pending.merge(userId, activity, Activity::latest));
+            }
+            sample.stop(flushTimer);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 기록 반영
+        flush();
+    }
+
+    private void record(Long userId, Activity activity) {
+        if (pending.size() >= maxPending && !pending.containsKey(userId)) {
+            droppedRecords.increment();
+            return;
+        }
+        pending.merge(userId, activity, Activity::latest);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("로그인, 로그아웃 시각 flush 실패", e);
+        }
+    }
+
+    // 유저의 마지막 로그인, 로그아웃 시각 (없으면 null)
+    private static class Activity {
+        private final LocalDateTime loginTime;
+        private final LocalDateTime logoutTime;
+
+        private Activity(LocalDateTime loginTime, LocalDateTime logoutTime) {
+            this.loginTime = loginTime;
+            this.logoutTime = logoutTime;
+        }
+
+        private static Activity latest(Activity a, Activity b) {
+            return new Activity(latest(a.loginTime, b.loginTime), latest(a.logoutTime, b.logoutTime));
+        }
+
+        private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+            if (a == null) {
+                return b;
+            }
+            if (b == null) {
+                return a;
+            }
+            return a.isAfter(b) ? a : b;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.homefit.backend.login.service;
+
+import com.homefit.backend.login.entity.User;
+import com.homefit.backend.login.entity.UserPrincipal;
+import com.homefit.backend.login.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 ID 별 인증 주체 로컬 캐시 (노드별, 기본 비활성화).
+ * 비활성화 상태에서는 토큰 claim 만으로 인증하므로 비밀번호, 역할 변경이 토큰 만료 전까지 반영되지 않는다.
+ * 활성화하면 TTL 마다 DB 의 현재 역할을 다시 읽고, 비밀번호 변경 전에 발급된 토큰을 거부한다.
+ * 이 노드에서 비밀번호나 역할을 바꾸면 바로 무효화한다. 다른 노드의 변경은 TTL 이 지나야 보인다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.principal-cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.principal-cache.ttl-ms:60000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+
+        this.hits = Counter.builder("auth.principal_cache.requests")
+                .description("인증 주체 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("auth.principal_cache.requests")
+                .description("인증 주체 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /*
+     * 토큰에서 만든 인증 주체를 현재 유저 정보로 확인
+     * 유저가 없거나 토큰이 마지막 비밀번호 변경 전에 발급되었으면 null
+     * */
+    public UserPrincipal verify(UserPrincipal tokenPrincipal, Date issuedAt) {
+        Entry entry = get(tokenPrincipal.getId());
+        if (entry == null) {
+            return null;
+        }
+        // iat 는 초 단위로 잘려 있으므로 비교도 초 단위로
+        if (issuedAt == null || issuedAt.getTime() / 1000 < entry.credentialsChangedAtSeconds) {
+            return null;
+        }
+        return entry.principal;
+    }
+
+    public void invalidate(Long userId) {
+        entries.remove(userId);
+        // 커밋 전에 다른 요청이 이전 값을 다시 읽어 넣을 수 있으므로 커밋 후에도 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(userId);
+                }
+            });
+        }
+    }
+
+    private Entry get(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry != null && System.nanoTime() - entry.loadedAt < ttlNanos) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            entries.remove(userId);
+            return null;
+        }
+        entry = new Entry(UserPrincipal.of(user.getId(), user.getUserName(), user.getRole()),
+                user.getUpdatedAt() == null ? 0 : user.getUpdatedAt().atZone(ZoneId.systemDefault()).toEpochSecond(),
+                System.nanoTime());
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(userId, entry);
+        return entry;
+    }
+
+    // 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 임의의 항목을 제거
+    private void evict() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> now - entry.loadedAt >= ttlNanos);
+        Iterator<Long> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static class Entry {
+        private final UserPrincipal principal;
+        private final long credentialsChangedAtSeconds;
+        private final long loadedAt;
+
+        private Entry(UserPrincipal principal, long credentialsChangedAtSeconds, long loadedAt) {
+            this.principal = principal;
+            this.credentialsChangedAtSeconds = credentialsChangedAtSeconds;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
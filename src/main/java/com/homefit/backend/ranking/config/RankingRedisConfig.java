@@ -0,0 +1,56 @@
+package com.homefit.backend.ranking.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+
+/**
+ * 랭킹 전용 Redis 설정.
+ * 유저 ID 를 Long 으로 바로 주고받는 템플릿(동기, reactive)을 만들고,
+ * 모든 요청이 하나의 Lettuce 연결을 공유하도록 하면서 명령 timeout 을 설정한다. (파이프라인은 별도 연결 사용)
+ * member 인코딩은 ranking.redis.member-encoding 으로 고른다. (decimal: 기존 key 와 호환, binary: 8바이트 long)
+ */
+@Configuration
+public class RankingRedisConfig {
+
+    @Bean
+    public RankingUserIdSerializer rankingUserIdSerializer(
+            @Value("${ranking.redis.member-encoding:decimal}") String memberEncoding) {
+        return new RankingUserIdSerializer(RankingUserIdSerializer.Encoding.valueOf(memberEncoding.toUpperCase()));
+    }
+
+    // 응답이 없을 때 요청 스레드가 기본값(60초)만큼 묶이지 않도록 명령 timeout 을 짧게 설정
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer rankingLettuceCustomizer(
+            @Value("${ranking.redis.command-timeout-ms:2000}") long commandTimeoutMillis) {
+        return builder -> builder.commandTimeout(Duration.ofMillis(commandTimeoutMillis));
+    }
+
+    @Bean
+    public RedisTemplate<String, Long> rankingRedisTemplate(RedisConnectionFactory redisConnectionFactory,
+                                                            RankingUserIdSerializer rankingUserIdSerializer) {
+        RedisTemplate<String, Long> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(rankingUserIdSerializer);
+        return template;
+    }
+
+    @Bean
+    public ReactiveRedisTemplate<String, Long> rankingReactiveRedisTemplate(ReactiveRedisConnectionFactory reactiveRedisConnectionFactory,
+                                                                            RankingUserIdSerializer rankingUserIdSerializer) {
+        RedisSerializationContext<String, Long> context = RedisSerializationContext.<String, Long>newSerializationContext(StringRedisSerializer.UTF_8)
+                .value(rankingUserIdSerializer)
+                .build();
+        return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, context);
+    }
+}
@@ -0,0 +1,113 @@
+package com.homefit.backend.ranking.config;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 랭킹 ZSET member(유저 ID) 직렬화.
+ * DECIMAL 은 기존 key 와 같은 10진수 문자열 바이트를, BINARY 는 8바이트 big-endian long 을 사용한다.
+ * 두 방식 모두 중간 String 을 만들지 않고 바이트 배열과 long 을 바로 변환한다.
+ * BINARY 는 member 가 작고 비교가 빠르지만 기존 문자열 member 와 섞일 수 없으므로 key 를 재구성한 뒤 켠다.
+ * (점수가 같을 때의 순서도 문자열 내림차순에서 유저 ID 숫자 내림차순으로 바뀐다)
+ */
+public class RankingUserIdSerializer implements RedisSerializer<Long> {
+
+    public enum Encoding {
+        DECIMAL, BINARY
+    }
+
+    private final Encoding encoding;
+
+    public RankingUserIdSerializer(Encoding encoding) {
+        this.encoding = encoding;
+    }
+
+    public Encoding getEncoding() {
+        return encoding;
+    }
+
+    @Override
+    public byte[] serialize(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return encoding == Encoding.BINARY ? toBinary(userId) : toDecimal(userId);
+    }
+
+    @Override
+    public Long deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        return encoding == Encoding.BINARY ? fromBinary(bytes) : fromDecimal(bytes);
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return Long.class;
+    }
+
+    private static byte[] toBinary(long value) {
+        byte[] bytes = new byte[Long.BYTES];
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+        return bytes;
+    }
+
+    private static long fromBinary(byte[] bytes) {
+        if (bytes.length != Long.BYTES) {
+            throw new SerializationException("8바이트 유저 ID 가 아닙니다: length=" + bytes.length);
+        }
+        long value = 0;
+        for (byte b : bytes) {
+            value = (value << 8) | (b & 0xFF);
+        }
+        return value;
+    }
+
+    private static byte[] toDecimal(long value) {
+        if (value == Long.MIN_VALUE) {
+            return Long.toString(value).getBytes();
+        }
+        boolean negative = value < 0;
+        long remaining = negative ? -value : value;
+        int length = negative ? 2 : 1;
+        for (long v = remaining; v >= 10; v /= 10) {
+            length++;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = length - 1; i >= (negative ? 1 : 0); i--) {
+            bytes[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        if (negative) {
+            bytes[0] = '-';
+        }
+        return bytes;
+    }
+
+    // Long.parseLong 과 같이 음수로 누적해서 범위를 넘는 값 (19자리 중 Long 범위 밖) 도 예외로 처리
+    private static long fromDecimal(byte[] bytes) {
+        boolean negative = bytes.length > 0 && bytes[0] == '-';
+        int i = negative ? 1 : 0;
+        if (bytes.length == i || bytes.length - i > 19) {
+            throw new SerializationException("유저 ID 형식이 아닙니다: " + new String(bytes));
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long value = 0;
+        for (; i < bytes.length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new SerializationException("유저 ID 형식이 아닙니다: " + new String(bytes));
+            }
+            if (value < multiplyLimit || value * 10 < limit + digit) {
+                throw new SerializationException("유저 ID 가 Long 범위를 넘습니다: " + new String(bytes));
+            }
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+}
@@ -1,10 +1,18 @@
 package com.homefit.backend.ranking.controller;
 
+import com.homefit.backend.ranking.dto.RankingAroundResponseDto;
+import com.homefit.backend.ranking.dto.RankingPageResponseDto;
+import com.homefit.backend.ranking.dto.RankingPercentileResponseDto;
+import com.homefit.backend.ranking.dto.RankingRebuildResponseDto;
 import com.homefit.backend.ranking.dto.RankingUpdateRequestDto;
+import com.homefit.backend.ranking.service.RankingRebuildService;
 import com.homefit.backend.ranking.service.RankingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 
 @RestController
@@ -13,22 +21,86 @@ import java.util.Set;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final RankingRebuildService rankingRebuildService;
 
     @PostMapping("/update")
     public void updateUserExercise(@RequestBody RankingUpdateRequestDto requestDto) {
         rankingService.updateUserExerciseRanking(requestDto);
     }
 
+    @PostMapping("/update/batch")
+    public void updateUserExercises(@RequestBody List<RankingUpdateRequestDto> requestDtos) {
+        rankingService.updateUserExerciseRankings(requestDtos);
+    }
+
     @GetMapping("/top")
     public Set<Object> getTopUsers(@RequestParam String period, @RequestParam int count) {
         return rankingService.getTopUsers(period, count);
     }
 
+    // 등수, 점수, 닉네임, 캐릭터 외형을 한 번에 반환하는 랭킹 페이지
+    @GetMapping("/leaderboard")
+    public RankingPageResponseDto getLeaderboard(@RequestParam String period,
+                                                 @RequestParam(defaultValue = "0") int offset,
+                                                 @RequestParam(defaultValue = "50") int limit) {
+        return rankingService.getLeaderboard(period, offset, limit);
+    }
+
+    // 끝난 기간(date 가 속한 일간, 주간, 월간)의 보관된 랭킹 페이지
+    @GetMapping("/history")
+    public RankingPageResponseDto getArchivedLeaderboard(@RequestParam String period,
+                                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                         @RequestParam(defaultValue = "0") int offset,
+                                                         @RequestParam(defaultValue = "50") int limit) {
+        return rankingService.getArchivedLeaderboard(period, date, offset, limit);
+    }
+
+    // exercise_log 로 기간의 랭킹 key 를 다시 만듦 (관리자, dryRun=true 면 현재 key 와 비교만 함)
+    @PostMapping("/admin/rebuild")
+    public RankingRebuildResponseDto rebuild(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                             @RequestParam(defaultValue = "true") boolean dryRun) {
+        return rankingRebuildService.rebuild(startDate, endDate, dryRun);
+    }
+
     @GetMapping("/rank")
     public Long getUserRank(@RequestParam String period, @RequestParam Long userId) {
         return rankingService.getUserRank(period, userId);
     }
 
+    // 특정 운동의 랭킹 페이지 (metric: count, calories)
+    @GetMapping("/exercise/{exerciseId}")
+    public RankingPageResponseDto getExerciseLeaderboard(@PathVariable Long exerciseId,
+                                                         @RequestParam String period,
+                                                         @RequestParam(defaultValue = "count") String metric,
+                                                         @RequestParam(defaultValue = "0") int offset,
+                                                         @RequestParam(defaultValue = "50") int limit) {
+        return rankingService.getExerciseLeaderboard(exerciseId, metric, period, offset, limit);
+    }
+
+    // 특정 운동 카테고리의 랭킹 페이지 (metric: count, calories)
+    @GetMapping("/category/{categoryId}")
+    public RankingPageResponseDto getCategoryLeaderboard(@PathVariable Long categoryId,
+                                                         @RequestParam String period,
+                                                         @RequestParam(defaultValue = "count") String metric,
+                                                         @RequestParam(defaultValue = "0") int offset,
+                                                         @RequestParam(defaultValue = "50") int limit) {
+        return rankingService.getCategoryLeaderboard(categoryId, metric, period, offset, limit);
+    }
+
+    // 유저의 등수와 바로 위아래 radius 명 (점수, 닉네임 포함)
+    @GetMapping("/around")
+    public RankingAroundResponseDto getUsersAround(@RequestParam String period, @RequestParam Long userId,
+                                                   @RequestParam(defaultValue = "5") int radius) {
+        return rankingService.getUsersAround(period, userId, radius);
+    }
+
+    // 유저의 등수, 점수와 상위 몇 % 인지
+    @GetMapping("/percentile")
+    public RankingPercentileResponseDto getUserPercentile(@RequestParam String period, @RequestParam Long userId) {
+        return rankingService.getUserPercentile(period, userId);
+    }
+
     @GetMapping("/score")
     public Double getUserScore(@RequestParam String period, @RequestParam Long userId) {
         return rankingService.getUserScore(period, userId);
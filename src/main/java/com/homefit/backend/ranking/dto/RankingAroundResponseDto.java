@@ -0,0 +1,17 @@
+package com.homefit.backend.ranking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RankingAroundResponseDto {
+
+    private String period;
+    private Long userId;
+    private Long rank;        // 1부터 시작하는 유저의 등수, 랭킹에 없으면 null
+    private Long totalUsers;  // 해당 기간 랭킹에 포함된 전체 유저 수
+    private List<RankingEntryDto> entries;  // 유저 앞뒤 radius 명 (유저 포함, 등수 순)
+}
@@ -0,0 +1,16 @@
+package com.homefit.backend.ranking.dto;
+
+import com.homefit.backend.character.dto.CharacterUpdateRequestDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RankingEntryDto {
+
+    private Long rank;       // 1부터 시작하는 등수
+    private Long userId;
+    private Double score;
+    private String nickName;
+    private CharacterUpdateRequestDto character;
+}
@@ -0,0 +1,17 @@
+package com.homefit.backend.ranking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RankingPageResponseDto {
+
+    private String period;
+    private int offset;
+    private int limit;
+    private Long totalUsers;  // 해당 기간 랭킹에 포함된 전체 유저 수
+    private List<RankingEntryDto> entries;
+}
@@ -0,0 +1,16 @@
+package com.homefit.backend.ranking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RankingPercentileResponseDto {
+
+    private String period;
+    private Long userId;
+    private Long rank;          // 1부터 시작하는 등수, 랭킹에 없으면 null
+    private Double score;
+    private Long totalUsers;
+    private Double topPercent;  // 상위 몇 % 인지 (1등은 100/전체 유저 수, 꼴등은 100)
+}
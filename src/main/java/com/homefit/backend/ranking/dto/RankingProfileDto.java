@@ -0,0 +1,24 @@
+package com.homefit.backend.ranking.dto;
+
+import com.homefit.backend.character.dto.CharacterUpdateRequestDto;
+import lombok.Getter;
+
+// 랭킹 화면에 필요한 유저 프로필 (닉네임, 캐릭터 외형)
+@Getter
+public class RankingProfileDto {
+
+    private final Long userId;
+    private final String nickName;
+    private final CharacterUpdateRequestDto character;
+
+    // JPQL 생성자 표현식용 (캐릭터가 없으면 characterId 가 null)
+    public RankingProfileDto(Long userId, String nickName, Long characterId,
+                             Long backpack, Long body, Long eyebrow, Long glasses, Long glove, Long hair,
+                             Long hat, Long mustache, Long outerwear, Long pants, Long shoe) {
+        this.userId = userId;
+        this.nickName = nickName;
+        this.character = characterId == null
+                ? null
+                : new CharacterUpdateRequestDto(backpack, body, eyebrow, glasses, glove, hair, hat, mustache, outerwear, pants, shoe);
+    }
+}
@@ -0,0 +1,31 @@
+package com.homefit.backend.ranking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RankingRebuildResponseDto {
+
+    private LocalDate startDate;    // 주, 달 단위로 넓힌 재구성 시작일
+    private LocalDate endDate;      // 주, 달 단위로 넓힌 재구성 종료일 (오늘 이후는 오늘까지)
+    private boolean dryRun;         // true 면 비교만 하고 key 는 바꾸지 않음
+    private long scannedLogs;       // 읽은 운동 기록 수
+    private List<KeyDiff> keys;     // 재구성한 key 별 비교 결과
+
+    @Getter
+    @AllArgsConstructor
+    public static class KeyDiff {
+
+        private String rankingKey;
+        private long rebuiltUsers;      // 운동 기록으로 다시 계산한 유저 수
+        private long liveUsers;         // 현재 key 의 유저 수
+        private long missingUsers;      // 기록에는 있지만 현재 key 에 없는 유저 수
+        private long extraUsers;        // 현재 key 에만 있는 유저 수
+        private long mismatchedScores;  // 양쪽에 있지만 점수가 다른 유저 수
+        private List<Long> sampleUserIds;  // 차이가 있는 유저 일부
+    }
+}
@@ -0,0 +1,52 @@
+package com.homefit.backend.ranking.entity;
+
+import com.homefit.backend.ranking.util.RankingWindow;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 기간이 끝난 일간, 주간, 월간 랭킹의 상위 N명 보관 테이블.
+ * Redis 의 기간 key 를 정리한 뒤에도 지난 랭킹은 이 테이블에서 조회한다.
+ */
+@Getter
+@Entity
+@Table(name = "ranking_archive",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_ranking_archive",
+                columnNames = {"period_type", "period_start", "ranking"}
+        ))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RankingArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 20)
+    private RankingWindow.Type periodType;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;  // 일간은 해당 날짜, 주간은 월요일, 월간은 1일
+
+    @Column(name = "ranking", nullable = false)
+    private int ranking;            // 1부터 시작하는 등수
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    public RankingArchive(RankingWindow.Type periodType, LocalDate periodStart, int ranking, Long userId, double score) {
+        this.periodType = periodType;
+        this.periodStart = periodStart;
+        this.ranking = ranking;
+        this.userId = userId;
+        this.score = score;
+    }
+}
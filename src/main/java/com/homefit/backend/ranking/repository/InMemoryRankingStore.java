@@ -0,0 +1,553 @@
+package com.homefit.backend.ranking.repository;
+
+import com.homefit.backend.ranking.util.RankingWindow;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 프로세스 내부 랭킹 저장소 (ranking.store=memory).
+ * Redis 없이 단일 노드로 실행하거나 테스트할 때 사용한다.
+ * key 마다 (점수, 유저) 순으로 정렬된 크기 정보 트립(treap, order-statistic tree)을 두어
+ * 점수 증가, 등수 조회는 O(log n), 범위 조회는 O(log n + 조회 수)로 처리한다.
+ * 조회는 key 별 읽기 잠금으로 동시에 수행하고, 여러 key 를 함께 바꾸는 쓰기는 저장소 전체에서 직렬화한다.
+ * 만료 시각이 지난 key 는 다음에 접근할 때 삭제한다. 재시작하면 데이터는 사라진다.
+ */
+@Repository
+@ConditionalOnProperty(name = "ranking.store", havingValue = "memory")
+public class InMemoryRankingStore implements RankingStore {
+
+    private final ConcurrentHashMap<String, Board> boards = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ConcurrentHashMap<String, HeldLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public void addUserScore(Long userId, Long exerciseCount, String rankingKey) {
+        writeLock.lock();
+        try {
+            getOrCreate(rankingKey).increment(String.valueOf(userId), exerciseCount);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Redis 구현과 같이 버킷에 먼저 반영한 뒤, 없는 주간/월간 key 는 버킷을 합쳐 만들어 증가분이 한 번만 들어가게 함
+    @Override
+    public void addUserScores(Map<Long, Long> scoreDeltas, RankingWindow bucket, List<RankingWindow> materializedWindows) {
+        if (scoreDeltas.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Board bucketBoard = getOrCreate(bucket.getRankingKey());
+            scoreDeltas.forEach((userId, delta) -> bucketBoard.increment(String.valueOf(userId), delta));
+            bucketBoard.expireAtIfPersistent(bucket.getExpireAtMillis());
+
+            for (RankingWindow window : materializedWindows) {
+                Board existing = get(window.getRankingKey());
+                Board board = existing != null ? existing : union(window.getBucketKeys());
+                if (existing != null) {
+                    scoreDeltas.forEach((userId, delta) -> board.increment(String.valueOf(userId), delta));
+                } else {
+                    boards.put(window.getRankingKey(), board);
+                }
+                board.expireAtIfPersistent(window.getExpireAtMillis());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void incrementScores(Map<String, Map<Long, Double>> scoreDeltasByKey, Map<String, Long> expireAtMillisByKey) {
+        writeLock.lock();
+        try {
+            scoreDeltasByKey.forEach((rankingKey, scoreDeltas) -> {
+                Board board = getOrCreate(rankingKey);
+                scoreDeltas.forEach((userId, delta) -> {
+                    String member = String.valueOf(userId);
+                    board.increment(member, delta);
+                    // 음수 증가분으로 점수가 0 이하가 된 유저는 제거 (Redis 의 INCREMENT_SCRIPT 와 동일)
+                    if (delta < 0 && board.score(member) <= 0) {
+                        board.remove(member);
+                    }
+                });
+                board.expireAtIfPersistent(expireAtMillisByKey.get(rankingKey));
+            });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 새 Board 를 다 만든 뒤 교체하므로 조회는 기존 점수나 새 점수 중 하나만 봄
+    @Override
+    public void replaceScores(Map<String, Map<Long, Double>> scoresByKey, Map<String, Long> expireAtMillisByKey) {
+        writeLock.lock();
+        try {
+            scoresByKey.forEach((rankingKey, scores) -> {
+                if (scores.isEmpty()) {
+                    boards.remove(rankingKey);
+                    return;
+                }
+                Board board = new Board();
+                scores.forEach((userId, score) -> board.increment(String.valueOf(userId), score));
+                board.expireAtMillis = expireAtMillisByKey.get(rankingKey);
+                boards.put(rankingKey, board);
+            });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void unionStore(String destination, List<String> sourceKeys, long ttlMillis) {
+        if (get(destination) != null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (get(destination) != null) {
+                return;
+            }
+            Board board = union(sourceKeys);
+            if (board.size() > 0) {
+                board.expireAtMillis = System.currentTimeMillis() + ttlMillis;
+                boards.put(destination, board);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Object> getTopUsers(String rankingKey, int count) {
+        Set<Object> users = new LinkedHashSet<>();
+        Board board = get(rankingKey);
+        if (board != null) {
+            board.range(0, count, node -> users.add(node.member));
+        }
+        return users;
+    }
+
+    @Override
+    public Set<ZSetOperations.TypedTuple<Object>> getTopUsersWithScores(String rankingKey, long offset, int limit) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new LinkedHashSet<>();
+        Board board = get(rankingKey);
+        if (board != null) {
+            board.range(offset, limit, node -> tuples.add(new DefaultTypedTuple<>(node.member, node.score)));
+        }
+        return tuples;
+    }
+
+    @Override
+    public Long getUserCount(String rankingKey) {
+        Board board = get(rankingKey);
+        return board == null ? 0L : board.size();
+    }
+
+    @Override
+    public Long getUserRank(String rankingKey, Long userId) {
+        Board board = get(rankingKey);
+        return board == null ? null : board.rank(String.valueOf(userId));
+    }
+
+    @Override
+    public Double getUserScore(String rankingKey, Long userId) {
+        Board board = get(rankingKey);
+        return board == null ? null : board.score(String.valueOf(userId));
+    }
+
+    @Override
+    public RankingNeighbourhood getUsersAround(String rankingKey, Long userId, int radius) {
+        Board board = get(rankingKey);
+        return board == null ? null : board.around(String.valueOf(userId), radius);
+    }
+
+    @Override
+    public Long trimToTop(String rankingKey, long keep) {
+        writeLock.lock();
+        try {
+            Board board = get(rankingKey);
+            return board == null ? 0L : board.trimToTop(keep);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(String rankingKey) {
+        boards.remove(rankingKey);
+    }
+
+    @Override
+    public List<String> findKeysWithoutExpiry(String pattern) {
+        Pattern regex = toRegex(pattern);
+        List<String> keys = new ArrayList<>();
+        for (String key : boards.keySet()) {
+            Board board = get(key);
+            if (board != null && board.expireAtMillis == 0 && regex.matcher(key).matches()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public void expireAt(String rankingKey, long expireAtMillis) {
+        Board board = get(rankingKey);
+        if (board != null) {
+            board.expireAtMillis = expireAtMillis;
+        }
+    }
+
+    // 만료 시각이 지난 잠금은 없는 것으로 보고 새로 잡음
+    @Override
+    public boolean tryLock(String lockKey, String token, long ttlMillis) {
+        HeldLock lock = new HeldLock(token, System.currentTimeMillis() + ttlMillis);
+        return locks.compute(lockKey, (key, held) ->
+                held == null || held.expireAtMillis <= System.currentTimeMillis() ? lock : held) == lock;
+    }
+
+    @Override
+    public void unlock(String lockKey, String token) {
+        locks.computeIfPresent(lockKey, (key, held) -> held.token.equals(token) ? null : held);
+    }
+
+    // 모든 key 삭제 (테스트용)
+    public void clear() {
+        boards.clear();
+        locks.clear();
+    }
+
+    // 만료된 key 는 삭제하고 null
+    private Board get(String rankingKey) {
+        Board board = boards.get(rankingKey);
+        if (board != null && board.isExpired()) {
+            boards.remove(rankingKey, board);
+            return null;
+        }
+        return board;
+    }
+
+    private Board getOrCreate(String rankingKey) {
+        Board board = get(rankingKey);
+        if (board == null) {
+            board = new Board();
+            boards.put(rankingKey, board);
+        }
+        return board;
+    }
+
+    // 여러 key 의 유저별 점수 합계
+    private Board union(List<String> sourceKeys) {
+        Map<String, Double> sums = new HashMap<>();
+        for (String sourceKey : sourceKeys) {
+            Board source = get(sourceKey);
+            if (source != null) {
+                source.forEach((member, score) -> sums.merge(member, score, Double::sum));
+            }
+        }
+        Board board = new Board();
+        sums.forEach(board::increment);
+        return board;
+    }
+
+    private static Pattern toRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    // tryLock 으로 잡은 잠금 (token, 만료 시각)
+    private record HeldLock(String token, long expireAtMillis) {
+    }
+
+    /**
+     * key 하나의 정렬 집합.
+     * 유저별 점수 맵과, 등수 순서로 정렬되고 서브트리 크기를 가진 트립으로 구성된다.
+     */
+    static class Board {
+        private final Map<String, Double> scores = new HashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private Node root;
+        private volatile long expireAtMillis; // 0 이면 만료 없음
+
+        void increment(String member, double delta) {
+            lock.writeLock().lock();
+            try {
+                Double old = scores.get(member);
+                double score = old == null ? delta : old + delta;
+                if (old != null) {
+                    root = remove(root, old, member);
+                }
+                root = insert(root, new Node(member, score));
+                scores.put(member, score);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(String member) {
+            lock.writeLock().lock();
+            try {
+                Double old = scores.remove(member);
+                if (old != null) {
+                    root = remove(root, old, member);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Double score(String member) {
+            lock.readLock().lock();
+            try {
+                return scores.get(member);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // 0부터 시작하는 등수, 없으면 null
+        Long rank(String member) {
+            lock.readLock().lock();
+            try {
+                Double score = scores.get(member);
+                if (score == null) {
+                    return null;
+                }
+                long rank = 0;
+                Node node = root;
+                while (node != null) {
+                    int c = compare(score, member, node);
+                    if (c == 0) {
+                        return rank + size(node.left);
+                    }
+                    if (c < 0) {
+                        node = node.left;
+                    } else {
+                        rank += size(node.left) + 1;
+                        node = node.right;
+                    }
+                }
+                return null;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long size() {
+            lock.readLock().lock();
+            try {
+                return size(root);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // offset 등부터 limit 명을 등수 순으로 전달
+        void range(long offset, int limit, Consumer<Node> consumer) {
+            if (limit <= 0 || offset < 0) {
+                return;
+            }
+            lock.readLock().lock();
+            try {
+                collect(root, offset, offset + limit - 1, 0, consumer);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // 등수 조회와 앞뒤 radius 명 조회를 같은 읽기 잠금 안에서 수행
+        RankingNeighbourhood around(String member, int radius) {
+            lock.readLock().lock();
+            try {
+                Long rank = rank(member);
+                if (rank == null) {
+                    return null;
+                }
+                long offset = Math.max(rank - radius, 0);
+                List<ZSetOperations.TypedTuple<Object>> users = new ArrayList<>();
+                collect(root, offset, rank + radius, 0, node -> users.add(new DefaultTypedTuple<>(node.member, node.score)));
+                return new RankingNeighbourhood(rank, size(root), offset, users);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long trimToTop(long keep) {
+            lock.writeLock().lock();
+            try {
+                List<Node> removed = new ArrayList<>();
+                collect(root, Math.max(keep, 0), Long.MAX_VALUE, 0, removed::add);
+                for (Node node : removed) {
+                    root = remove(root, node.score, node.member);
+                    scores.remove(node.member);
+                }
+                return removed.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void forEach(BiConsumer<String, Double> action) {
+            lock.readLock().lock();
+            try {
+                scores.forEach(action);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void expireAtIfPersistent(long expireAtMillis) {
+            if (this.expireAtMillis == 0) {
+                this.expireAtMillis = expireAtMillis;
+            }
+        }
+
+        boolean isExpired() {
+            long expireAt = expireAtMillis;
+            return expireAt != 0 && expireAt <= System.currentTimeMillis();
+        }
+
+        // 등수 순서: 점수 내림차순, 점수가 같으면 유저 문자열 내림차순
+        private static int compare(double score, String member, Node node) {
+            int c = Double.compare(node.score, score);
+            return c != 0 ? c : node.member.compareTo(member);
+        }
+
+        private static long size(Node node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static void update(Node node) {
+            node.size = 1 + size(node.left) + size(node.right);
+        }
+
+        private static Node insert(Node node, Node inserted) {
+            if (node == null) {
+                return inserted;
+            }
+            if (inserted.priority > node.priority) {
+                Node[] parts = split(node, inserted.score, inserted.member);
+                inserted.left = parts[0];
+                inserted.right = parts[1];
+                update(inserted);
+                return inserted;
+            }
+            if (compare(inserted.score, inserted.member, node) < 0) {
+                node.left = insert(node.left, inserted);
+            } else {
+                node.right = insert(node.right, inserted);
+            }
+            update(node);
+            return node;
+        }
+
+        private static Node remove(Node node, double score, String member) {
+            if (node == null) {
+                return null;
+            }
+            int c = compare(score, member, node);
+            if (c == 0) {
+                return merge(node.left, node.right);
+            }
+            if (c < 0) {
+                node.left = remove(node.left, score, member);
+            } else {
+                node.right = remove(node.right, score, member);
+            }
+            update(node);
+            return node;
+        }
+
+        // (score, member) 보다 앞선 노드들과 나머지 노드들로 나눔
+        private static Node[] split(Node node, double score, String member) {
+            if (node == null) {
+                return new Node[]{null, null};
+            }
+            if (compare(score, member, node) > 0) {
+                Node[] parts = split(node.right, score, member);
+                node.right = parts[0];
+                update(node);
+                return new Node[]{node, parts[1]};
+            }
+            Node[] parts = split(node.left, score, member);
+            node.left = parts[1];
+            update(node);
+            return new Node[]{parts[0], node};
+        }
+
+        // left 의 모든 노드가 right 의 모든 노드보다 앞선다고 가정
+        private static Node merge(Node left, Node right) {
+            if (left == null) {
+                return right;
+            }
+            if (right == null) {
+                return left;
+            }
+            if (left.priority > right.priority) {
+                left.right = merge(left.right, right);
+                update(left);
+                return left;
+            }
+            right.left = merge(left, right.left);
+            update(right);
+            return right;
+        }
+
+        // base 는 이 서브트리의 첫 노드의 등수
+        private static void collect(Node node, long from, long to, long base, Consumer<Node> consumer) {
+            if (node == null) {
+                return;
+            }
+            long index = base + size(node.left);
+            if (from < index) {
+                collect(node.left, from, to, base, consumer);
+            }
+            if (index >= from && index <= to) {
+                consumer.accept(node);
+            }
+            if (to > index) {
+                collect(node.right, from, to, index + 1, consumer);
+            }
+        }
+    }
+
+    static class Node {
+        private final String member;
+        private final double score;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private long size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(String member, double score) {
+            this.member = member;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.homefit.backend.ranking.repository;
+
+import com.homefit.backend.ranking.entity.RankingArchive;
+import com.homefit.backend.ranking.util.RankingWindow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RankingArchiveRepository extends JpaRepository<RankingArchive, Long> {
+
+    boolean existsByPeriodTypeAndPeriodStart(RankingWindow.Type periodType, LocalDate periodStart);
+
+    long countByPeriodTypeAndPeriodStart(RankingWindow.Type periodType, LocalDate periodStart);
+
+    // 등수 범위 (fromRanking < ranking <= toRanking) 조회
+    @Query("select a from RankingArchive a " +
+            "where a.periodType = :periodType and a.periodStart = :periodStart " +
+            "and a.ranking > :fromRanking and a.ranking <= :toRanking " +
+            "order by a.ranking")
+    List<RankingArchive> findRankingRange(@Param("periodType") RankingWindow.Type periodType,
+                                          @Param("periodStart") LocalDate periodStart,
+                                          @Param("fromRanking") int fromRanking,
+                                          @Param("toRanking") int toRanking);
+}
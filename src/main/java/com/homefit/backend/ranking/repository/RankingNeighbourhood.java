@@ -0,0 +1,18 @@
+package com.homefit.backend.ranking.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.List;
+
+// 한 유저의 등수와 그 위아래 유저들 (등수는 0부터 시작)
+@Getter
+@AllArgsConstructor
+public class RankingNeighbourhood {
+
+    private long rank;        // 기준 유저의 등수
+    private long totalUsers;  // key 의 전체 유저 수
+    private long offset;      // users 첫 번째 유저의 등수
+    private List<ZSetOperations.TypedTuple<Object>> users;
+}
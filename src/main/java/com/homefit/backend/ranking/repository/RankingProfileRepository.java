@@ -0,0 +1,22 @@
+package com.homefit.backend.ranking.repository;
+
+import com.homefit.backend.login.entity.User;
+import com.homefit.backend.ranking.dto.RankingProfileDto;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RankingProfileRepository extends Repository<User, Long> {
+
+    // 여러 유저의 닉네임과 캐릭터 외형을 한 번의 쿼리로 조회 (엔티티를 로딩하지 않고 필요한 컬럼만 조회)
+    @Query("select new com.homefit.backend.ranking.dto.RankingProfileDto(u.id, ui.nickName, c.id, "
+            + "c.backpack, c.body, c.eyebrow, c.glasses, c.glove, c.hair, c.hat, c.mustache, c.outerwear, c.pants, c.shoe) "
+            + "from User u "
+            + "left join UserInfo ui on ui.user = u "
+            + "left join Character c on c.user = u "
+            + "where u.id in :userIds")
+    List<RankingProfileDto> findProfilesByUserIds(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,72 @@
+package com.homefit.backend.ranking.repository;
+
+import com.homefit.backend.ranking.util.RankingWindow;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 랭킹 정렬 집합 저장소.
+ * ranking.store 로 구현을 고른다. redis(기본값)는 Redis ZSET, memory 는 프로세스 내부 엔진을 사용한다.
+ * 등수는 0부터 시작하며 점수 내림차순, 점수가 같으면 member 내림차순이다. (ZREVRANGE 와 동일)
+ * member 는 유저 ID 의 문자열 또는 Long 이므로 값은 toUserId 로 변환해서 사용한다.
+ * (Redis 의 binary member 인코딩에서는 동점자 순서가 유저 ID 숫자 내림차순이 된다)
+ */
+public interface RankingStore {
+
+    // 유저의 운동 카운트를 해당 key 에 추가
+    void addUserScore(Long userId, Long exerciseCount, String rankingKey);
+
+    // 여러 유저의 점수 증가분을 일간 버킷과 주간, 월간 key 에 반영 (없는 주간, 월간 key 는 일간 버킷을 합쳐 만듦)
+    void addUserScores(Map<Long, Long> scoreDeltas, RankingWindow bucket, List<RankingWindow> materializedWindows);
+
+    // key 별 유저 점수 증가분을 한 번에 반영, 만료 시각이 없는 key 에는 expireAtMillisByKey 의 만료 시각을 걺
+    void incrementScores(Map<String, Map<Long, Double>> scoreDeltasByKey, Map<String, Long> expireAtMillisByKey);
+
+    // key 마다 유저 점수 전체를 새로 만든 값으로 원자적으로 교체 (빈 점수면 key 삭제), expireAtMillisByKey 의 만료 시각을 걺
+    void replaceScores(Map<String, Map<Long, Double>> scoresByKey, Map<String, Long> expireAtMillisByKey);
+
+    // sourceKeys 를 합친 결과를 destination 에 ttlMillis 동안 저장 (이미 있으면 그대로 사용)
+    void unionStore(String destination, List<String> sourceKeys, long ttlMillis);
+
+    // 특정 key 의 상위 n명의 유저
+    Set<Object> getTopUsers(String rankingKey, int count);
+
+    // 특정 key 의 offset 부터 limit 명의 유저와 점수
+    Set<ZSetOperations.TypedTuple<Object>> getTopUsersWithScores(String rankingKey, long offset, int limit);
+
+    // 특정 key 의 전체 유저 수
+    Long getUserCount(String rankingKey);
+
+    // 특정 key 에서 유저의 등수, 없으면 null
+    Long getUserRank(String rankingKey, Long userId);
+
+    // 특정 key 에서 유저의 점수, 없으면 null
+    Double getUserScore(String rankingKey, Long userId);
+
+    // 유저의 등수, 전체 유저 수와 등수 앞뒤 radius 명의 유저와 점수를 한 번에 조회, 유저가 없으면 null
+    RankingNeighbourhood getUsersAround(String rankingKey, Long userId, int radius);
+
+    // 점수 상위 keep 명만 남기고 나머지 유저를 삭제, 삭제한 유저 수 반환
+    Long trimToTop(String rankingKey, long keep);
+
+    void delete(String rankingKey);
+
+    // pattern(* 와 ? 를 쓰는 glob) 에 맞는 key 중 만료 시각이 없는 key 목록
+    List<String> findKeysWithoutExpiry(String pattern);
+
+    void expireAt(String rankingKey, long expireAtMillis);
+
+    // lockKey 를 token 으로 ttlMillis 동안 잠금, 이미 잠겨 있으면 false (모든 노드에서 도는 작업을 한 노드에서만 실행할 때 사용)
+    boolean tryLock(String lockKey, String token, long ttlMillis);
+
+    // token 으로 잡은 잠금일 때만 해제 (TTL 이 지나 다른 노드가 잡은 잠금은 그대로 둠)
+    void unlock(String lockKey, String token);
+
+    // 범위 조회 결과의 member 를 유저 ID 로 변환 (Redis 는 Long, 프로세스 내부 저장소는 문자열)
+    static Long toUserId(Object member) {
+        return member instanceof Long ? (Long) member : Long.valueOf(String.valueOf(member));
+    }
+}
@@ -0,0 +1,36 @@
+package com.homefit.backend.ranking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// 랭킹 조회의 non-blocking 버전 (ranking.store=redis). 요청 스레드를 묶지 않고 결과를 받아야 하는 호출자가 사용
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ranking.store", havingValue = "redis", matchIfMissing = true)
+public class ReactiveRedisRankingReader {
+
+    private final ReactiveRedisTemplate<String, Long> rankingReactiveRedisTemplate;
+
+    // 특정 key 의 offset 부터 limit 명의 유저와 점수 (ZREVRANGE ... WITHSCORES)
+    public Flux<ZSetOperations.TypedTuple<Long>> getTopUsersWithScores(String rankingKey, long offset, int limit) {
+        return rankingReactiveRedisTemplate.opsForZSet().reverseRangeWithScores(rankingKey, Range.closed(offset, offset + limit - 1));
+    }
+
+    public Mono<Long> getUserRank(String rankingKey, Long userId) {
+        return rankingReactiveRedisTemplate.opsForZSet().reverseRank(rankingKey, userId);
+    }
+
+    public Mono<Double> getUserScore(String rankingKey, Long userId) {
+        return rankingReactiveRedisTemplate.opsForZSet().score(rankingKey, userId);
+    }
+
+    public Mono<Double> addUserScore(String rankingKey, Long userId, double delta) {
+        return rankingReactiveRedisTemplate.opsForZSet().incrementScore(rankingKey, userId, delta);
+    }
+}
@@ -0,0 +1,315 @@
+package com.homefit.backend.ranking.repository;
+
+import com.homefit.backend.ranking.config.RankingUserIdSerializer;
+import com.homefit.backend.ranking.util.RankingWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Redis ZSET 저장소 (ranking.store=redis, 기본값). member 는 RankingUserIdSerializer 로 유저 ID 를 바로 변환
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ranking.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRankingStore implements RankingStore {
+
+    // KEYS[1]: 대상 key, KEYS[2..]: 대상 key 가 없을 때 합칠 일간 버킷, ARGV[1]: 만료 시각, ARGV[2..]: 증가분, 유저 쌍
+    // 만료 시각이 없는 key (이전 버전에서 만든 key 포함) 에는 만료 시각을 건다
+    // 음수 증가분(수정, 삭제된 운동 기록)으로 점수가 0 이하가 된 유저는 랭킹에서 제거한다
+    private static final byte[] INCREMENT_SCRIPT = (
+            "if redis.call('EXISTS', KEYS[1]) == 1 or #KEYS == 1 then "
+                    + "  for i = 2, #ARGV, 2 do "
+                    + "    local score = redis.call('ZINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) "
+                    + "    if tonumber(ARGV[i]) < 0 and tonumber(score) <= 0 then redis.call('ZREM', KEYS[1], ARGV[i + 1]) end "
+                    + "  end "
+                    + "else "
+                    + "  redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2)) "
+                    + "end "
+                    + "if redis.call('PTTL', KEYS[1]) == -1 then redis.call('PEXPIREAT', KEYS[1], ARGV[1]) end "
+                    + "return 0").getBytes(StandardCharsets.UTF_8);
+
+    // KEYS[1]: 대상 key, KEYS[2..]: 합칠 key, ARGV[1]: TTL(ms). 대상 key 가 이미 있으면 -1
+    private static final RedisScript<Long> UNION_STORE_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return -1 end "
+                    + "local count = redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2)) "
+                    + "if count > 0 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end "
+                    + "return count", Long.class);
+
+    // KEYS[1]: 랭킹 key, ARGV[1]: 유저, ARGV[2]: radius
+    // ZREVRANK 로 등수를 찾고 그 앞뒤 radius 명만 ZREVRANGE 로 읽음 (O(log n + radius), 한 번의 왕복)
+    // 결과: 등수, 전체 유저 수, 첫 유저의 등수, 유저, 점수, 유저, 점수, ... (유저가 없으면 등수 -1)
+    private static final byte[] AROUND_SCRIPT = (
+            "local total = redis.call('ZCARD', KEYS[1]) "
+                    + "local rank = redis.call('ZREVRANK', KEYS[1], ARGV[1]) "
+                    + "if not rank then return {'-1', tostring(total), '0'} end "
+                    + "local radius = tonumber(ARGV[2]) "
+                    + "local start = math.max(rank - radius, 0) "
+                    + "local result = {tostring(rank), tostring(total), tostring(start)} "
+                    + "for _, value in ipairs(redis.call('ZREVRANGE', KEYS[1], start, rank + radius, 'WITHSCORES')) do "
+                    + "  result[#result + 1] = value "
+                    + "end "
+                    + "return result").getBytes(StandardCharsets.UTF_8);
+
+    // KEYS[1]: 잠금 key, ARGV[1]: 잠금 token. token 이 같을 때만 삭제
+    private static final byte[] UNLOCK_SCRIPT = (
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+                    + "return 0").getBytes(StandardCharsets.UTF_8);
+
+    private static final int SCRIPT_BATCH_SIZE = 500;
+    private static final int ZADD_BATCH_SIZE = 1000;
+    private static final long SCAN_COUNT = 500;
+
+    private final RedisTemplate<String, Long> rankingRedisTemplate;
+    private final RankingUserIdSerializer rankingUserIdSerializer;
+
+    // 유저의 운동 카운트를 해당 key에 맞춰 추가 (일간, 주간, 월간)
+    @Override
+    public void addUserScore(Long userId, Long exerciseCount, String rankingKey) {
+        rankingRedisTemplate.opsForZSet().incrementScore(rankingKey, userId, exerciseCount);
+    }
+
+    /**
+     * 여러 유저의 점수 증가분을 일간 버킷과 주간, 월간 key 에 한 번의 파이프라인으로 반영.
+     * 주간, 월간 key 가 아직 없으면 증가분 대신 기간의 일간 버킷을 ZUNIONSTORE 로 합쳐 만든다.
+     * 모든 key 에는 처음 쓸 때 기간별 보관 기간에 맞춘 만료 시각을 건다.
+     * 버킷 반영 직후 같은 연결에서 순서대로 실행되므로 새로 만든 key 에도 이번 증가분이 한 번만 들어간다.
+     */
+    @Override
+    public void addUserScores(Map<Long, Long> scoreDeltas, RankingWindow bucket, List<RankingWindow> materializedWindows) {
+        if (scoreDeltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>(scoreDeltas.entrySet());
+        rankingRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            // 스크립트 하나가 Redis 를 오래 붙잡지 않도록 유저를 나눠서 실행
+            for (int from = 0; from < deltas.size(); from += SCRIPT_BATCH_SIZE) {
+                List<Map.Entry<Long, Long>> chunk = deltas.subList(from, Math.min(from + SCRIPT_BATCH_SIZE, deltas.size()));
+                evalIncrement(connection, List.of(bucket.getRankingKey()), bucket.getExpireAtMillis(), chunk);
+                for (RankingWindow window : materializedWindows) {
+                    List<String> keys = new ArrayList<>();
+                    keys.add(window.getRankingKey());
+                    keys.addAll(window.getBucketKeys());
+                    evalIncrement(connection, keys, window.getExpireAtMillis(), chunk);
+                }
+            }
+            return null;
+        });
+    }
+
+    // 여러 key 의 증가분을 한 번의 파이프라인으로 반영 (key 마다 유저를 나눠 증가 스크립트 실행)
+    @Override
+    public void incrementScores(Map<String, Map<Long, Double>> scoreDeltasByKey, Map<String, Long> expireAtMillisByKey) {
+        if (scoreDeltasByKey.isEmpty()) {
+            return;
+        }
+        rankingRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            scoreDeltasByKey.forEach((rankingKey, scoreDeltas) -> {
+                List<Map.Entry<Long, Double>> deltas = new ArrayList<>(scoreDeltas.entrySet());
+                for (int from = 0; from < deltas.size(); from += SCRIPT_BATCH_SIZE) {
+                    evalIncrement(connection, List.of(rankingKey), expireAtMillisByKey.get(rankingKey),
+                            deltas.subList(from, Math.min(from + SCRIPT_BATCH_SIZE, deltas.size())));
+                }
+            });
+            return null;
+        });
+    }
+
+    /**
+     * key 마다 임시 key 에 ZADD 로 점수를 모두 채운 뒤 RENAME 으로 한 번에 교체.
+     * 교체 전까지 조회는 기존 key 를 보고, RENAME 이후에는 새 점수만 본다. 전체를 한 번의 파이프라인으로 보낸다.
+     */
+    @Override
+    public void replaceScores(Map<String, Map<Long, Double>> scoresByKey, Map<String, Long> expireAtMillisByKey) {
+        if (scoresByKey.isEmpty()) {
+            return;
+        }
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        String suffix = ":rebuild:" + UUID.randomUUID();
+        rankingRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            scoresByKey.forEach((rankingKey, scores) -> {
+                byte[] key = serializer.serialize(rankingKey);
+                if (scores.isEmpty()) {
+                    connection.keyCommands().del(key);
+                    return;
+                }
+                byte[] tempKey = serializer.serialize(rankingKey + suffix);
+                connection.keyCommands().del(tempKey);
+                Set<Tuple> tuples = new HashSet<>();
+                for (Map.Entry<Long, Double> score : scores.entrySet()) {
+                    tuples.add(new DefaultTuple(rankingUserIdSerializer.serialize(score.getKey()), score.getValue()));
+                    if (tuples.size() == ZADD_BATCH_SIZE) {
+                        connection.zSetCommands().zAdd(tempKey, tuples);
+                        tuples = new HashSet<>();
+                    }
+                }
+                if (!tuples.isEmpty()) {
+                    connection.zSetCommands().zAdd(tempKey, tuples);
+                }
+                connection.keyCommands().pExpireAt(tempKey, expireAtMillisByKey.get(rankingKey));
+                connection.keyCommands().rename(tempKey, key);
+            });
+            return null;
+        });
+    }
+
+    // sourceKeys 를 합친 결과를 destination 에 ttlMillis 동안 저장 (이미 있으면 그대로 사용)
+    @Override
+    public void unionStore(String destination, List<String> sourceKeys, long ttlMillis) {
+        List<String> keys = new ArrayList<>(sourceKeys.size() + 1);
+        keys.add(destination);
+        keys.addAll(sourceKeys);
+        // 인자는 member 가 아닌 숫자이므로 문자열로 직렬화
+        rankingRedisTemplate.execute(UNION_STORE_SCRIPT, StringRedisSerializer.UTF_8, new GenericToStringSerializer<>(Long.class),
+                keys, String.valueOf(ttlMillis));
+    }
+
+    // 특정 key의 상위 n명의 유저를 가져옴 (API 응답 형식을 유지하도록 문자열로 반환)
+    @Override
+    public Set<Object> getTopUsers(String rankingKey, int count) {
+        Set<Long> userIds = rankingRedisTemplate.opsForZSet().reverseRange(rankingKey, 0, count - 1);
+        Set<Object> users = new LinkedHashSet<>();
+        if (userIds != null) {
+            userIds.forEach(userId -> users.add(String.valueOf(userId)));
+        }
+        return users;
+    }
+
+    // 특정 key의 offset 부터 limit 명의 유저와 점수를 가져옴 (ZREVRANGE ... WITHSCORES, 값은 Long 유저 ID)
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Set<ZSetOperations.TypedTuple<Object>> getTopUsersWithScores(String rankingKey, long offset, int limit) {
+        return (Set) rankingRedisTemplate.opsForZSet().reverseRangeWithScores(rankingKey, offset, offset + limit - 1);
+    }
+
+    // 특정 key의 전체 유저 수
+    @Override
+    public Long getUserCount(String rankingKey) {
+        return rankingRedisTemplate.opsForZSet().zCard(rankingKey);
+    }
+
+    // 특정 key에서 유저의 랭킹을 가져옴
+    @Override
+    public Long getUserRank(String rankingKey, Long userId) {
+        return rankingRedisTemplate.opsForZSet().reverseRank(rankingKey, userId);
+    }
+
+    // 특정 key에서 유저의 점수를 가져옴
+    @Override
+    public Double getUserScore(String rankingKey, Long userId) {
+        return rankingRedisTemplate.opsForZSet().score(rankingKey, userId);
+    }
+
+    // 유저의 등수와 앞뒤 radius 명을 스크립트 한 번으로 조회
+    @Override
+    public RankingNeighbourhood getUsersAround(String rankingKey, Long userId, int radius) {
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        List<Object> result = rankingRedisTemplate.execute((RedisCallback<List<Object>>) connection ->
+                connection.scriptingCommands().eval(AROUND_SCRIPT, ReturnType.MULTI, 1, serializer.serialize(rankingKey),
+                        rankingUserIdSerializer.serialize(userId), serializer.serialize(String.valueOf(radius))));
+        if (result == null || result.size() < 3) {
+            return null;
+        }
+        long rank = Long.parseLong(serializer.deserialize((byte[]) result.get(0)));
+        if (rank < 0) {
+            return null;
+        }
+        List<ZSetOperations.TypedTuple<Object>> users = new ArrayList<>((result.size() - 3) / 2);
+        for (int i = 3; i + 1 < result.size(); i += 2) {
+            users.add(new DefaultTypedTuple<>(rankingUserIdSerializer.deserialize((byte[]) result.get(i)),
+                    Double.valueOf(serializer.deserialize((byte[]) result.get(i + 1)))));
+        }
+        return new RankingNeighbourhood(rank, Long.parseLong(serializer.deserialize((byte[]) result.get(1))),
+                Long.parseLong(serializer.deserialize((byte[]) result.get(2))), users);
+    }
+
+    // 점수 상위 keep 명만 남기고 나머지 유저를 삭제
+    @Override
+    public Long trimToTop(String rankingKey, long keep) {
+        return rankingRedisTemplate.opsForZSet().removeRange(rankingKey, 0, -keep - 1);
+    }
+
+    @Override
+    public void delete(String rankingKey) {
+        rankingRedisTemplate.delete(rankingKey);
+    }
+
+    // pattern 에 맞는 key 중 만료 시각이 없는 key 목록 (KEYS 대신 SCAN 으로 조금씩 조회)
+    @Override
+    public List<String> findKeysWithoutExpiry(String pattern) {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = rankingRedisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build())) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long expire = rankingRedisTemplate.getExpire(key);
+                if (expire != null && expire == -1) {
+                    keys.add(key);
+                }
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public void expireAt(String rankingKey, long expireAtMillis) {
+        rankingRedisTemplate.expireAt(rankingKey, Instant.ofEpochMilli(expireAtMillis));
+    }
+
+    // SET NX PX 로 잠금 (값이 유저 ID 가 아니므로 템플릿 직렬화기 대신 문자열로 씀)
+    @Override
+    public boolean tryLock(String lockKey, String token, long ttlMillis) {
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        Boolean locked = rankingRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(serializer.serialize(lockKey), serializer.serialize(token),
+                        Expiration.milliseconds(ttlMillis), RedisStringCommands.SetOption.ifAbsent()));
+        return Boolean.TRUE.equals(locked);
+    }
+
+    @Override
+    public void unlock(String lockKey, String token) {
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        rankingRedisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.scriptingCommands().eval(UNLOCK_SCRIPT, ReturnType.INTEGER, 1,
+                        serializer.serialize(lockKey), serializer.serialize(token)));
+    }
+
+    // 키와 숫자 인자는 문자열, 유저는 member 인코딩으로 직렬화
+    private void evalIncrement(RedisConnection connection,
+                               List<String> keys, long expireAtMillis, List<? extends Map.Entry<Long, ? extends Number>> deltas) {
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        byte[][] keysAndArgs = new byte[keys.size() + 1 + deltas.size() * 2][];
+        int i = 0;
+        for (String key : keys) {
+            keysAndArgs[i++] = serializer.serialize(key);
+        }
+        keysAndArgs[i++] = serializer.serialize(String.valueOf(expireAtMillis));
+        for (Map.Entry<Long, ? extends Number> delta : deltas) {
+            keysAndArgs[i++] = serializer.serialize(String.valueOf(delta.getValue()));
+            keysAndArgs[i++] = rankingUserIdSerializer.serialize(delta.getKey());
+        }
+        connection.scriptingCommands().eval(INCREMENT_SCRIPT, ReturnType.INTEGER, keys.size(), keysAndArgs);
+    }
+}
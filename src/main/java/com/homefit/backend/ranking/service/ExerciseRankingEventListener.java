@@ -0,0 +1,32 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.exerciselog.event.ExerciseLogCreatedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogDeletedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ExerciseRankingEventListener {
+
+    private final ExerciseRankingUpdater exerciseRankingUpdater;
+
+    // 운동 기록 트랜잭션이 커밋된 뒤에만 큐에 넣음 (반영은 갱신기가 모아서 비동기로 수행)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExerciseLogCreated(ExerciseLogCreatedEvent event) {
+        exerciseRankingUpdater.enqueue(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExerciseLogUpdated(ExerciseLogUpdatedEvent event) {
+        exerciseRankingUpdater.enqueue(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExerciseLogDeleted(ExerciseLogDeletedEvent event) {
+        exerciseRankingUpdater.enqueue(event);
+    }
+}
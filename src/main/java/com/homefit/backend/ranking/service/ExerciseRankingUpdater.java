@@ -0,0 +1,228 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.exerciselog.event.ExerciseLogCreatedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogDeletedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogUpdatedEvent;
+import com.homefit.backend.ranking.repository.RankingStore;
+import com.homefit.backend.ranking.util.RankingKeyUtil;
+import com.homefit.backend.ranking.util.RankingMetric;
+import com.homefit.backend.ranking.util.RankingWindow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 운동별, 카테고리별 랭킹 갱신기.
+ * 커밋된 운동 기록 이벤트를 큐에 넣기만 하고, flush-interval-ms 마다 모인 이벤트를 (key, 유저)별로 합쳐
+ * 운동 횟수와 소모 칼로리 랭킹의 일간, 주간, 월간 key 에 한 번의 파이프라인으로 반영한다.
+ * 수정, 삭제된 운동 기록은 이전 값을 음수 증가분으로 반영한다. (점수가 0 이하가 된 유저는 저장소에서 제거)
+ * 운동 기록 생성 요청은 큐에 넣는 비용만 부담한다. 큐가 max-pending 을 넘으면 새 이벤트는 버리고 경고를 남긴다.
+ * 반영에 실패한 배치는 재시도하지 않는다. ZINCRBY 는 멱등이 아니어서 일부 key 만 반영된 배치를 다시 보내면
+ * 두 번 더해질 수 있기 때문이다. 버린 건수는 ranking.exercise.failed 로 남긴다.
+ */
+@Slf4j
+@Component
+public class ExerciseRankingUpdater {
+
+    private final RankingStore rankingStore;
+    private final int maxPending;
+    private final Duration dailyRetention;
+
+    private final ConcurrentLinkedQueue<ScoreChange> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "exercise-ranking-updater");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long flushIntervalMillis;
+    private final Timer flushTimer;
+    private final Counter droppedEvents;
+    private final Counter failedEvents;
+
+    public ExerciseRankingUpdater(RankingStore rankingStore,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${ranking.exercise.flush-interval-ms:500}") long flushIntervalMillis,
+                                  @Value("${ranking.exercise.max-pending:100000}") int maxPending,
+                                  @Value("${ranking.exercise.daily-retention-days:7}") int dailyRetentionDays) {
+        this.rankingStore = rankingStore;
+        this.maxPending = maxPending;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.dailyRetention = Duration.ofDays(dailyRetentionDays);
+
+        this.flushTimer = Timer.builder("ranking.exercise.flush.latency")
+                .description("운동별, 카테고리별 랭킹을 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("ranking.exercise.dropped")
+                .description("큐가 가득 차서 랭킹에 반영하지 못한 운동 기록 수")
+                .register(meterRegistry);
+        this.failedEvents = Counter.builder("ranking.exercise.failed")
+                .description("랭킹 반영에 실패해서 버린 운동 기록 변경 수")
+                .register(meterRegistry);
+        Gauge.builder("ranking.exercise.pending", pendingCount, AtomicInteger::get)
+                .description("아직 랭킹에 반영되지 않은 운동 기록 수")
+                .register(meterRegistry);
+    }
+
+    // 빈 생성이 끝난 뒤에 주기적 flush 시작 (생성자에서 시작하면 컨텍스트 기동이 실패해도 스레드가 남음)
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void enqueue(ExerciseLogCreatedEvent event) {
+        enqueue(event.getExerciseLogId(), event.getUserId(), new ScoreChange(event, 1));
+    }
+
+    // 수정 전 값을 빼고 수정 후 값을 더함 (둘 다 넣거나 둘 다 버림)
+    public void enqueue(ExerciseLogUpdatedEvent event) {
+        enqueue(event.getCurrent().getExerciseLogId(), event.getCurrent().getUserId(),
+                new ScoreChange(event.getPrevious(), -1), new ScoreChange(event.getCurrent(), 1));
+    }
+
+    public void enqueue(ExerciseLogDeletedEvent event) {
+        enqueue(event.getPrevious().getExerciseLogId(), event.getPrevious().getUserId(), new ScoreChange(event.getPrevious(), -1));
+    }
+
+    private void enqueue(Long exerciseLogId, Long userId, ScoreChange... changes) {
+        if (pendingCount.addAndGet(changes.length) > maxPending) {
+            pendingCount.addAndGet(-changes.length);
+            droppedEvents.increment(changes.length);
+            log.warn("운동별 랭킹 큐가 가득 차 반영하지 않습니다: exerciseLogId={}, userId={}", exerciseLogId, userId);
+            return;
+        }
+        pending.addAll(List.of(changes));
+    }
+
+    /**
+     * 큐에 모인 변경을 key 별 증가분으로 합쳐 반영한다.
+     * 반영에 실패하면 배치를 버리고 ranking.exercise.failed 에 건수를 더한다. (재시도하면 중복 반영될 수 있음)
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<ScoreChange> changes = new ArrayList<>();
+            ScoreChange change;
+            while ((change = pending.poll()) != null) {
+                changes.add(change);
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+            pendingCount.addAndGet(-changes.size());
+
+            Map<String, Map<Long, Double>> scoreDeltasByKey = new HashMap<>();
+            Map<String, Long> expireAtMillisByKey = new HashMap<>();
+            for (ScoreChange scoreChange : changes) {
+                collect(scoreChange, scoreDeltasByKey, expireAtMillisByKey);
+            }
+            // 같은 배치에서 더하고 뺀 값이 상쇄된 유저는 보내지 않음 (점수 0 인 유저가 생기지 않도록)
+            scoreDeltasByKey.values().forEach(scoreDeltas -> scoreDeltas.values().removeIf(delta -> delta == 0));
+            scoreDeltasByKey.values().removeIf(Map::isEmpty);
+
+            Timer.Sample sample = Timer.start();
+            try {
+                rankingStore.incrementScores(scoreDeltasByKey, expireAtMillisByKey);
+            } catch (RuntimeException e) {
+                failedEvents.increment(changes.size());
+                log.error("운동별 랭킹 반영 실패, 배치를 버립니다: changes={}, keys={}", changes.size(), scoreDeltasByKey.size(), e);
+            }
+            sample.stop(flushTimer);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 이벤트 반영
+        flush();
+    }
+
+    // 운동 날짜의 일간, 주간, 월간 기간마다 운동별, 카테고리별 횟수와 칼로리 증가분을 더함 (sign 이 -1 이면 뺌)
+    private void collect(ScoreChange change,
+                         Map<String, Map<Long, Double>> scoreDeltasByKey, Map<String, Long> expireAtMillisByKey) {
+        ExerciseLogCreatedEvent event = change.values;
+        List<RankingWindow> windows = new ArrayList<>(3);
+        windows.add(RankingWindow.dayOf(event.getDate()));
+        windows.addAll(RankingWindow.materializedOf(event.getDate()));
+
+        for (RankingWindow window : windows) {
+            long expireAtMillis = getExpireAtMillis(window);
+            for (RankingMetric metric : RankingMetric.values()) {
+                Double value = metric == RankingMetric.COUNT
+                        ? (event.getExerciseCount() != null ? event.getExerciseCount().doubleValue() : null)
+                        : event.getCaloriesBurned();
+                if (value == null || value <= 0) {
+                    continue;
+                }
+                double delta = change.sign * value;
+                List<String> rankingKeys = new ArrayList<>(2);
+                rankingKeys.add(RankingKeyUtil.getExerciseRankingKey(event.getExerciseId(), metric, window));
+                if (event.getCategoryId() != null) {
+                    rankingKeys.add(RankingKeyUtil.getCategoryRankingKey(event.getCategoryId(), metric, window));
+                }
+                for (String rankingKey : rankingKeys) {
+                    scoreDeltasByKey.computeIfAbsent(rankingKey, k -> new HashMap<>()).merge(event.getUserId(), delta, Double::sum);
+                    expireAtMillisByKey.put(rankingKey, expireAtMillis);
+                }
+            }
+        }
+    }
+
+    // 주간, 월간은 전체 랭킹과 같은 만료 시각, 일간은 daily-retention-days 만 보관 (임의 기간 합산에 쓰지 않음)
+    private long getExpireAtMillis(RankingWindow window) {
+        if (window.getType() != RankingWindow.Type.DAILY) {
+            return window.getExpireAtMillis();
+        }
+        LocalDate periodEnd = window.getPeriodEnd();
+        return periodEnd.atStartOfDay(ZoneId.systemDefault()).plus(dailyRetention).toInstant().toEpochMilli();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("운동별 랭킹 flush 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 운동 기록 값과 반영 방향 (1: 더함, -1: 뺌)
+    private static class ScoreChange {
+        private final ExerciseLogCreatedEvent values;
+        private final int sign;
+
+        private ScoreChange(ExerciseLogCreatedEvent values, int sign) {
+            this.values = values;
+            this.sign = sign;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.ranking.repository.RankingStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 랭킹 상위 K명 로컬 캐시 (노드별).
+ * 기간 key 마다 상위 K명과 점수, 전체 유저 수를 짧은 TTL 동안 보관한다.
+ * 같은 key 를 동시에 여러 요청이 읽으면 한 요청만 Redis 에서 로딩하고 나머지는 그 결과를 기다린다. (single-flight)
+ * 이 노드에서 점수를 반영하면 해당 key 를 바로 무효화한다. 다른 노드의 반영은 TTL 이 지나야 보인다.
+ * 무효화는 그 key 를 로딩 중인 요청에만 표시되므로, 다른 key 의 로딩 결과는 그대로 캐시된다.
+ */
+@Component
+public class RankingNearCache {
+
+    private final RankingStore rankingStore;
+    private final int topK;
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Load> loading = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public RankingNearCache(RankingStore rankingStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${ranking.near-cache.top-k:100}") int topK,
+                            @Value("${ranking.near-cache.ttl-ms:500}") long ttlMillis) {
+        this.rankingStore = rankingStore;
+        this.topK = topK;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+
+        this.hits = Counter.builder("ranking.near_cache.requests")
+                .description("랭킹 로컬 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("ranking.near_cache.requests")
+                .description("랭킹 로컬 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    // key 의 상위 K명 스냅샷 (만료되었으면 다시 로딩)
+    public Snapshot get(String rankingKey) {
+        Snapshot snapshot = snapshots.get(rankingKey);
+        if (snapshot != null && System.nanoTime() - snapshot.loadedAt < ttlNanos) {
+            hits.increment();
+            return snapshot;
+        }
+        misses.increment();
+        return load(rankingKey);
+    }
+
+    // 로딩 중인 요청에 먼저 표시한 뒤 스냅샷을 지움 (로딩이 끝나고 넣은 스냅샷은 로딩 쪽에서 다시 확인해 지움)
+    public void invalidate(Collection<String> rankingKeys) {
+        for (String rankingKey : rankingKeys) {
+            Load inFlight = loading.get(rankingKey);
+            if (inFlight != null) {
+                inFlight.invalidated = true;
+            }
+            snapshots.remove(rankingKey);
+        }
+    }
+
+    private Snapshot load(String rankingKey) {
+        Load created = new Load();
+        Load existing = loading.putIfAbsent(rankingKey, created);
+        if (existing != null) {
+            try {
+                return existing.future.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            // 직전에 다른 요청이 로딩을 마쳤다면 그 결과를 사용
+            Snapshot cached = snapshots.get(rankingKey);
+            if (cached != null && System.nanoTime() - cached.loadedAt < ttlNanos) {
+                created.future.complete(cached);
+                return cached;
+            }
+
+            Snapshot snapshot = new Snapshot(
+                    rankingStore.getTopUsersWithScores(rankingKey, 0, topK),
+                    rankingStore.getUserCount(rankingKey),
+                    topK);
+            // 로딩 중에 이 key 가 무효화됐으면 반영 전 점수일 수 있으므로 캐시에 남기지 않음
+            if (!created.invalidated) {
+                snapshots.put(rankingKey, snapshot);
+                if (created.invalidated) {
+                    snapshots.remove(rankingKey, snapshot);
+                }
+            }
+            created.future.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            created.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(rankingKey, created);
+        }
+    }
+
+    // key 하나의 진행 중인 로딩 (invalidated 는 로딩 중에 무효화됐는지)
+    private static class Load {
+        private final CompletableFuture<Snapshot> future = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+
+    // 상위 K명의 유저와 점수 (등수 순)
+    public static class Snapshot {
+        private final List<Long> userIds;
+        private final List<Double> scores;
+        private final Map<Long, Integer> indexByUserId;
+        private final long totalUsers;
+        private final boolean complete; // 전체 유저가 스냅샷에 들어 있는지
+        private final long loadedAt = System.nanoTime();
+
+        private Snapshot(Set<ZSetOperations.TypedTuple<Object>> tuples, Long totalUsers, int topK) {
+            int size = tuples == null ? 0 : tuples.size();
+            this.userIds = new ArrayList<>(size);
+            this.scores = new ArrayList<>(size);
+            this.indexByUserId = new HashMap<>(size * 2);
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                    Long userId = RankingStore.toUserId(tuple.getValue());
+                    indexByUserId.put(userId, userIds.size());
+                    userIds.add(userId);
+                    scores.add(tuple.getScore());
+                }
+            }
+            this.totalUsers = totalUsers == null ? 0 : totalUsers;
+            this.complete = this.totalUsers <= topK;
+        }
+
+        public int size() {
+            return userIds.size();
+        }
+
+        public long getTotalUsers() {
+            return totalUsers;
+        }
+
+        // offset 부터 limit 명을 스냅샷만으로 만들 수 있는지
+        public boolean covers(long offset, int limit) {
+            return complete || offset + limit <= userIds.size();
+        }
+
+        public List<Long> getUserIds(int offset, int limit) {
+            int from = Math.min(offset, userIds.size());
+            int to = Math.min(from + limit, userIds.size());
+            return Collections.unmodifiableList(userIds.subList(from, to));
+        }
+
+        public Double getScore(int index) {
+            return scores.get(index);
+        }
+
+        // 스냅샷 안의 0부터 시작하는 등수, 스냅샷에 없으면 null
+        public Integer indexOf(Long userId) {
+            return indexByUserId.get(userId);
+        }
+
+        public boolean isComplete() {
+            return complete;
+        }
+    }
+}
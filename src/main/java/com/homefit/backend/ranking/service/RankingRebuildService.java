@@ -0,0 +1,170 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.exerciselog.dto.ExerciseLogScoreDto;
+import com.homefit.backend.exerciselog.repository.ExerciseLogRepository;
+import com.homefit.backend.ranking.dto.RankingRebuildResponseDto;
+import com.homefit.backend.ranking.repository.RankingStore;
+import com.homefit.backend.ranking.util.RankingWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * exercise_log 테이블로부터 전체 랭킹 key (일간 버킷, 주간, 월간) 를 다시 만든다.
+ * Redis 데이터가 사라졌거나 write-behind 반영이 유실됐을 때 사용한다.
+ * 1. 요청 기간이 걸친 주, 달 전체로 기간을 넓혀 운동 기록을 fetch size 단위로 스트리밍하며 (날짜, 유저)별 횟수를 합산
+ * 2. 기간 안의 일간 버킷과 주간, 월간 key 의 점수를 계산
+ * 3. dry-run 이면 현재 key 와 비교한 결과만 반환하고, 아니면 임시 key 에 채운 뒤 RENAME 으로 교체
+ * 관리자 전용 (SecurityConfig 에서 /api/ranking/admin/** 를 ADMIN 권한으로 제한)
+ * 재구성 중에 들어온 점수는 교체 시점에 덮어써질 수 있으므로 트래픽이 적은 시간에 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingRebuildService {
+
+    private static final int DIFF_PAGE_SIZE = 10_000;
+    private static final int DIFF_SAMPLE_SIZE = 20;
+
+    private final ExerciseLogRepository exerciseLogRepository;
+    private final RankingStore rankingStore;
+    private final RankingNearCache rankingNearCache;
+
+    @Transactional(readOnly = true)
+    public RankingRebuildResponseDto rebuild(LocalDate startDate, LocalDate endDate, boolean dryRun) {
+        LocalDate today = LocalDate.now();
+        if (startDate == null || endDate == null || startDate.isAfter(endDate) || startDate.isAfter(today)) {
+            throw new IllegalArgumentException("시작일은 종료일과 오늘 이전이어야 합니다: " + startDate + ".." + endDate);
+        }
+        // 주간, 월간 key 를 온전히 다시 계산할 수 있도록 첫 주, 첫 달 시작일부터 마지막 주, 마지막 달 끝까지 (오늘까지) 읽음
+        LocalDate start = min(startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), startDate.withDayOfMonth(1));
+        LocalDate lastPeriodEnd = endDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        if (lastPeriodEnd.isBefore(endDate.with(TemporalAdjusters.lastDayOfMonth()))) {
+            lastPeriodEnd = endDate.with(TemporalAdjusters.lastDayOfMonth());
+        }
+        LocalDate end = min(lastPeriodEnd, today);
+        if (ChronoUnit.DAYS.between(start, end) + 1 > RankingWindow.MAX_DAYS) {
+            throw new IllegalArgumentException("한 번에 재구성할 수 있는 기간은 " + RankingWindow.MAX_DAYS + "일 이내입니다.");
+        }
+
+        Map<LocalDate, Map<Long, Double>> scoresByDate = new TreeMap<>();
+        long scannedLogs = 0;
+        try (Stream<ExerciseLogScoreDto> rows = exerciseLogRepository.streamScoresByDateBetween(start, end)) {
+            for (ExerciseLogScoreDto row : (Iterable<ExerciseLogScoreDto>) rows::iterator) {
+                scoresByDate.computeIfAbsent(row.getDate(), date -> new HashMap<>())
+                        .merge(row.getUserId(), row.getExerciseCount().doubleValue(), Double::sum);
+                scannedLogs++;
+            }
+        }
+
+        Map<String, Map<Long, Double>> scoresByKey = new LinkedHashMap<>();
+        Map<String, Long> expireAtMillisByKey = new HashMap<>();
+        long now = System.currentTimeMillis();
+        for (RankingWindow window : getWindows(start, end)) {
+            // 보관 기간이 지난 key 는 만들지 않음
+            if (window.getExpireAtMillis() <= now) {
+                continue;
+            }
+            Map<Long, Double> scores = new HashMap<>();
+            for (LocalDate date = window.getStart(); !date.isAfter(window.getEnd()); date = date.plusDays(1)) {
+                scoresByDate.getOrDefault(date, Map.of()).forEach((userId, score) -> scores.merge(userId, score, Double::sum));
+            }
+            scoresByKey.put(window.getRankingKey(), scores);
+            expireAtMillisByKey.put(window.getRankingKey(), window.getExpireAtMillis());
+        }
+
+        List<RankingRebuildResponseDto.KeyDiff> diffs = new ArrayList<>(scoresByKey.size());
+        scoresByKey.forEach((rankingKey, scores) -> diffs.add(diff(rankingKey, scores)));
+
+        if (!dryRun) {
+            rankingStore.replaceScores(scoresByKey, expireAtMillisByKey);
+            rankingNearCache.invalidate(scoresByKey.keySet());
+        }
+        log.info("랭킹 재구성 {}: {}..{}, logs={}, keys={}", dryRun ? "비교" : "완료", start, end, scannedLogs, scoresByKey.size());
+        return new RankingRebuildResponseDto(start, end, dryRun, scannedLogs, diffs);
+    }
+
+    // 기간 안의 일간 버킷과, 시작일이 기간 안에 있는 주간, 월간 기간 (오늘이 속한 주, 달은 오늘까지)
+    private List<RankingWindow> getWindows(LocalDate start, LocalDate end) {
+        List<RankingWindow> windows = new ArrayList<>();
+        Set<RankingWindow> periods = new HashSet<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            windows.add(RankingWindow.dayOf(date));
+            LocalDate periodLast = min(date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)), end);
+            RankingWindow week = RankingWindow.weekOf(periodLast);
+            if (!week.getStart().isBefore(start) && periods.add(week)) {
+                windows.add(week);
+            }
+            RankingWindow month = RankingWindow.monthOf(min(date.with(TemporalAdjusters.lastDayOfMonth()), end));
+            if (!month.getStart().isBefore(start) && periods.add(month)) {
+                windows.add(month);
+            }
+        }
+        return windows;
+    }
+
+    // 현재 key 를 페이지 단위로 읽어 다시 계산한 점수와 비교
+    private RankingRebuildResponseDto.KeyDiff diff(String rankingKey, Map<Long, Double> rebuilt) {
+        Set<Long> seen = new HashSet<>();
+        List<Long> samples = new ArrayList<>();
+        long liveUsers = 0;
+        long extra = 0;
+        long mismatched = 0;
+        for (long offset = 0; ; offset += DIFF_PAGE_SIZE) {
+            Set<ZSetOperations.TypedTuple<Object>> page = rankingStore.getTopUsersWithScores(rankingKey, offset, DIFF_PAGE_SIZE);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            for (ZSetOperations.TypedTuple<Object> tuple : page) {
+                Long userId = RankingStore.toUserId(tuple.getValue());
+                Double expected = rebuilt.get(userId);
+                liveUsers++;
+                seen.add(userId);
+                if (expected == null) {
+                    extra++;
+                } else if (tuple.getScore() == null || Double.compare(expected, tuple.getScore()) != 0) {
+                    mismatched++;
+                } else {
+                    continue;
+                }
+                if (samples.size() < DIFF_SAMPLE_SIZE) {
+                    samples.add(userId);
+                }
+            }
+            if (page.size() < DIFF_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        long missing = 0;
+        for (Long userId : rebuilt.keySet()) {
+            if (!seen.contains(userId)) {
+                missing++;
+                if (samples.size() < DIFF_SAMPLE_SIZE) {
+                    samples.add(userId);
+                }
+            }
+        }
+        return new RankingRebuildResponseDto.KeyDiff(rankingKey, rebuilt.size(), liveUsers, missing, extra, mismatched, samples);
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
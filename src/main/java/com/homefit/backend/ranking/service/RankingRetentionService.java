@@ -0,0 +1,190 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.ranking.entity.RankingArchive;
+import com.homefit.backend.ranking.repository.RankingArchiveRepository;
+import com.homefit.backend.ranking.repository.RankingStore;
+import com.homefit.backend.ranking.util.RankingWindow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 랭킹 key 보관 정책.
+ * 모든 key 는 쓸 때 만료 시각이 걸리고 (일간 버킷은 조회 가능한 최대 기간, 주간/월간은 기간 종료 + 유예),
+ * 매일 한 번 다음 작업을 수행한다.
+ * 1. 끝난 일간, 주간, 월간 랭킹의 상위 N명을 스냅샷 파일(gzip CSV)과 ranking_archive 테이블에 보관하고, 주간/월간 key 는 삭제
+ * 2. trim-after-days 가 지난 일간 버킷은 상위 N명만 남김 (이보다 오래된 날짜가 포함된 임의 기간 랭킹은 상위권 기준 근사값)
+ * 3. 만료 시각이 없는 key (이전 버전에서 만든 key) 에 만료 시각을 걺
+ * 스케줄은 모든 노드에서 돌기 때문에 랭킹 저장소의 잠금(Redis 는 SET NX PX)을 잡은 노드 하나만 실행하고,
+ * 테이블 저장은 (기간 종류, 시작일, 등수) 유니크 제약으로 같은 기간을 두 번 넣지 않는다.
+ */
+@Slf4j
+@Service
+public class RankingRetentionService {
+
+    private static final String KEY_PATTERN = "user_ranking:*";
+    private static final String DAILY_KEY_PREFIX = "user_ranking:daily:";
+    static final String LOCK_KEY = "lock:ranking-retention";
+
+    private final RankingStore rankingStore;
+    private final RankingArchiveRepository rankingArchiveRepository;
+    private final Path snapshotDirectory;
+    private final int archiveTopN;
+    private final int trimAfterDays;
+    private final Duration orphanTtl;
+    private final Duration lockTtl;
+
+    public RankingRetentionService(RankingStore rankingStore,
+                                   RankingArchiveRepository rankingArchiveRepository,
+                                   @Value("${ranking.retention.snapshot-directory:ranking-archive}") String snapshotDirectory,
+                                   @Value("${ranking.retention.top-n:1000}") int archiveTopN,
+                                   @Value("${ranking.retention.trim-after-days:35}") int trimAfterDays,
+                                   @Value("${ranking.retention.orphan-ttl-days:7}") int orphanTtlDays,
+                                   @Value("${ranking.retention.lock-ttl-minutes:30}") int lockTtlMinutes) {
+        this.rankingStore = rankingStore;
+        this.rankingArchiveRepository = rankingArchiveRepository;
+        this.snapshotDirectory = Paths.get(snapshotDirectory);
+        this.archiveTopN = archiveTopN;
+        this.trimAfterDays = trimAfterDays;
+        this.orphanTtl = Duration.ofDays(orphanTtlDays);
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    /*
+     * 락을 잡은 노드에서만 보관 작업 실행. 락은 작업이 끝나면 풀고, 노드가 죽어도 lock-ttl-minutes 뒤 풀림
+     * */
+    @Scheduled(cron = "${ranking.retention.cron:0 10 0 * * *}")
+    public void runRetention() {
+        String token = UUID.randomUUID().toString();
+        if (!rankingStore.tryLock(LOCK_KEY, token, lockTtl.toMillis())) {
+            log.info("다른 노드가 랭킹 보관 작업을 실행 중이라 건너뜁니다.");
+            return;
+        }
+        try {
+            retain(LocalDate.now());
+        } finally {
+            rankingStore.unlock(LOCK_KEY, token);
+        }
+    }
+
+    private void retain(LocalDate today) {
+        for (RankingWindow window : List.of(
+                RankingWindow.dayOf(today.minusDays(1)),
+                RankingWindow.weekOf(today.minusWeeks(1)),
+                RankingWindow.monthOf(today.minusMonths(1)))) {
+            try {
+                archive(window);
+            } catch (Exception e) {
+                log.error("랭킹 보관 실패, 다음 실행 때 재시도합니다: key={}", window.getRankingKey(), e);
+            }
+        }
+        try {
+            trimBucket(today.minusDays(trimAfterDays));
+            expireOrphanKeys();
+        } catch (Exception e) {
+            log.error("랭킹 key 정리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 끝난 기간의 상위 N명을 스냅샷 파일과 테이블에 보관한다. 이미 보관된 기간은 다시 쓰지 않는다.
+     * 주간, 월간 key 는 보관한 뒤 삭제하고, 일간 버킷은 임의 기간 랭킹에 쓰이므로 그대로 둔다.
+     */
+    public void archive(RankingWindow window) throws IOException {
+        String rankingKey = window.getRankingKey();
+        if (!rankingArchiveRepository.existsByPeriodTypeAndPeriodStart(window.getType(), window.getStart())) {
+            Set<ZSetOperations.TypedTuple<Object>> tuples = rankingStore.getTopUsersWithScores(rankingKey, 0, archiveTopN);
+            if (tuples == null || tuples.isEmpty()) {
+                return;
+            }
+
+            List<RankingArchive> archives = new ArrayList<>(tuples.size());
+            int ranking = 0;
+            for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                archives.add(new RankingArchive(window.getType(), window.getStart(), ++ranking,
+                        RankingStore.toUserId(tuple.getValue()), tuple.getScore()));
+            }
+            writeSnapshot(window, archives);
+            try {
+                // saveAll 은 한 트랜잭션이라 유니크 제약에 걸리면 전체가 롤백되고, 먼저 넣은 쪽의 보관본이 남는다
+                rankingArchiveRepository.saveAll(archives);
+                log.info("랭킹 보관 완료: key={}, users={}", rankingKey, archives.size());
+            } catch (DataIntegrityViolationException e) {
+                log.info("이미 보관된 기간입니다: key={}", rankingKey);
+            }
+        }
+
+        if (window.getType() != RankingWindow.Type.DAILY) {
+            rankingStore.delete(rankingKey);
+        }
+    }
+
+    // 스냅샷 파일 경로 (예: ranking-archive/weekly-2024-09-16.csv.gz)
+    public Path getSnapshotPath(RankingWindow window) {
+        return snapshotDirectory.resolve(window.getType().name().toLowerCase() + "-" + window.getStart() + ".csv.gz");
+    }
+
+    // 등수,유저,점수 CSV 를 임시 파일에 쓴 뒤 원자적으로 교체
+    private void writeSnapshot(RankingWindow window, List<RankingArchive> archives) throws IOException {
+        Files.createDirectories(snapshotDirectory);
+        Path snapshotFile = getSnapshotPath(window);
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8))) {
+            writer.write("rank,userId,score");
+            writer.newLine();
+            for (RankingArchive archive : archives) {
+                writer.write(archive.getRanking() + "," + archive.getUserId() + "," + archive.getScore());
+                writer.newLine();
+            }
+        }
+        Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void trimBucket(LocalDate date) {
+        String bucketKey = RankingWindow.dayOf(date).getRankingKey();
+        Long removed = rankingStore.trimToTop(bucketKey, archiveTopN);
+        if (removed != null && removed > 0) {
+            log.info("오래된 일간 버킷 정리: key={}, removed={}", bucketKey, removed);
+        }
+    }
+
+    // 일간 버킷은 날짜 기준 보관 기간으로, 그 외 key 는 orphan-ttl-days 뒤 만료
+    private void expireOrphanKeys() {
+        long orphanExpireAt = System.currentTimeMillis() + orphanTtl.toMillis();
+        for (String key : rankingStore.findKeysWithoutExpiry(KEY_PATTERN)) {
+            long expireAt = orphanExpireAt;
+            if (key.startsWith(DAILY_KEY_PREFIX)) {
+                try {
+                    LocalDate date = LocalDate.parse(key.substring(DAILY_KEY_PREFIX.length()), DateTimeFormatter.BASIC_ISO_DATE);
+                    expireAt = RankingWindow.dayOf(date).getExpireAtMillis();
+                } catch (DateTimeParseException e) {
+                    log.warn("날짜를 알 수 없는 일간 key 입니다: {}", key);
+                }
+            }
+            rankingStore.expireAt(key, expireAt);
+            log.info("만료 시각이 없는 랭킹 key 에 만료 시각 설정: {}", key);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.ranking.repository.RankingStore;
+import com.homefit.backend.ranking.util.RankingKeyUtil;
+import com.homefit.backend.ranking.util.RankingWindow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 랭킹 점수 write-behind 누적기.
+ * 요청마다 Redis 에 쓰지 않고 (날짜, 유저)별 LongAdder 에 증가분을 모은 뒤,
+ * flush-interval-ms 마다 또는 flush-threshold 건이 쌓이면 유저별로 합친 증가분을 한 번의 파이프라인으로 반영한다.
+ * 증가분은 요청 시점의 날짜로 묶으므로 자정 직전에 들어온 점수가 다음 날 key 에 섞이지 않는다.
+ * 종료 시에는 남은 증가분을 모두 반영한다. enabled=false 이면 누적 없이 바로 Redis 에 쓴다.
+ * 반영에 실패한 증가분은 재시도하지 않고 버린다. 파이프라인 일부가 이미 반영됐을 수 있어 다시 보내면
+ * 점수가 두 번 더해질 수 있기 때문이다. (ExerciseRankingUpdater 와 같은 정책) 버린 건수는 ranking.write_behind.failed 로 남긴다.
+ */
+@Slf4j
+@Component
+public class RankingScoreAccumulator {
+
+    private final RankingStore rankingStore;
+    private final RankingNearCache rankingNearCache;
+    private final boolean enabled;
+    private final int flushThreshold;
+    private final long flushIntervalMillis;
+
+    private final ConcurrentHashMap<PendingKey, PendingScore> pending = new ConcurrentHashMap<>();
+    private final AtomicLong updatesSinceFlush = new AtomicLong();
+    private final AtomicBoolean thresholdFlushScheduled = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ranking-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Timer flushTimer;
+    private final DistributionSummary flushSize;
+    private final Counter failedDeltas;
+
+    public RankingScoreAccumulator(RankingStore rankingStore,
+                                   RankingNearCache rankingNearCache,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${ranking.write-behind.enabled:true}") boolean enabled,
+                                   @Value("${ranking.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+                                   @Value("${ranking.write-behind.flush-threshold:1000}") int flushThreshold) {
+        this.rankingStore = rankingStore;
+        this.rankingNearCache = rankingNearCache;
+        this.enabled = enabled;
+        this.flushThreshold = flushThreshold;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        this.flushTimer = Timer.builder("ranking.write_behind.flush.latency")
+                .description("누적된 랭킹 점수를 Redis 에 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("ranking.write_behind.flush.size")
+                .description("한 번의 flush 로 반영한 (날짜, 유저) 증가분 수")
+                .register(meterRegistry);
+        this.failedDeltas = Counter.builder("ranking.write_behind.failed")
+                .description("Redis 반영에 실패해서 버린 (날짜, 유저) 증가분 수")
+                .register(meterRegistry);
+        Gauge.builder("ranking.write_behind.pending", pending, Map::size)
+                .description("아직 Redis 에 반영되지 않은 (날짜, 유저) 항목 수")
+                .register(meterRegistry);
+    }
+
+    // 빈 생성이 끝난 뒤에 주기적 flush 시작 (생성자에서 시작하면 컨텍스트 기동이 실패해도 스레드가 남음)
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void add(Long userId, long delta) {
+        addAll(Map.of(userId, delta));
+    }
+
+    // 유저별 증가분을 누적 (enabled=false 이면 바로 반영)
+    public void addAll(Map<Long, Long> scoreDeltas) {
+        if (!enabled) {
+            write(scoreDeltas, LocalDate.now());
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        scoreDeltas.forEach((userId, delta) -> accumulate(new PendingKey(today, userId), delta));
+
+        if (updatesSinceFlush.addAndGet(scoreDeltas.size()) >= flushThreshold
+                && thresholdFlushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * 누적된 증가분을 날짜별로 묶어 Redis 에 반영한다.
+     * 반영에 실패하면 해당 날짜의 증가분을 버리고 ranking.write_behind.failed 에 건수를 더한다. (재시도하면 중복 반영될 수 있음)
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            updatesSinceFlush.set(0);
+            thresholdFlushScheduled.set(false);
+
+            Map<LocalDate, Map<Long, Long>> deltasByDate = drain();
+            if (deltasByDate.isEmpty()) {
+                return;
+            }
+
+            Timer.Sample sample = Timer.start();
+            int flushed = 0;
+            for (Map.Entry<LocalDate, Map<Long, Long>> entry : deltasByDate.entrySet()) {
+                try {
+                    write(entry.getValue(), entry.getKey());
+                    flushed += entry.getValue().size();
+                } catch (RuntimeException e) {
+                    failedDeltas.increment(entry.getValue().size());
+                    log.error("랭킹 점수 반영 실패, 증가분을 버립니다: date={}, users={}", entry.getKey(), entry.getValue().size(), e);
+                }
+            }
+            sample.stop(flushTimer);
+            flushSize.record(flushed);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 증가분 반영
+        flush();
+    }
+
+    // 일간 버킷과 주간, 월간 key 에 반영한 뒤 이 노드의 로컬 캐시를 무효화
+    private void write(Map<Long, Long> scoreDeltas, LocalDate date) {
+        rankingStore.addUserScores(scoreDeltas, RankingWindow.dayOf(date), RankingWindow.materializedOf(date));
+        rankingNearCache.invalidate(RankingKeyUtil.getPeriodRankingKeys(date));
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("랭킹 점수 flush 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void accumulate(PendingKey key, long delta) {
+        while (delta != 0) {
+            PendingScore score = pending.computeIfAbsent(key, k -> new PendingScore());
+            score.add(delta);
+            if (!score.retired) {
+                return;
+            }
+            // flush 가 이 항목을 제거하는 중이었다면 아직 가져가지 않은 값을 새 항목으로 옮김
+            delta = score.sumThenReset();
+        }
+    }
+
+    // 증가분을 꺼내고, 이번 주기에 변화가 없던 항목은 맵에서 제거
+    private Map<LocalDate, Map<Long, Long>> drain() {
+        Map<LocalDate, Map<Long, Long>> deltasByDate = new HashMap<>();
+        Iterator<Map.Entry<PendingKey, PendingScore>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<PendingKey, PendingScore> entry = iterator.next();
+            PendingScore score = entry.getValue();
+            long delta = score.sumThenReset();
+            if (delta == 0) {
+                score.retired = true;
+                pending.remove(entry.getKey(), score);
+                // 제거 직전에 더해진 값은 여기서 가져감
+                delta = score.sumThenReset();
+            }
+            if (delta != 0) {
+                deltasByDate.computeIfAbsent(entry.getKey().date, k -> new HashMap<>())
+                        .merge(entry.getKey().userId, delta, Long::sum);
+            }
+        }
+        return deltasByDate;
+    }
+
+    private record PendingKey(LocalDate date, Long userId) {
+    }
+
+    // flush 가 제거한 항목인지 표시하는 플래그를 가진 LongAdder
+    private static class PendingScore extends LongAdder {
+        private volatile boolean retired;
+    }
+}
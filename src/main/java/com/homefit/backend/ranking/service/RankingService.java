@@ -1,61 +1,277 @@
 package com.homefit.backend.ranking.service;
 
+import com.homefit.backend.ranking.dto.RankingAroundResponseDto;
+import com.homefit.backend.ranking.dto.RankingEntryDto;
+import com.homefit.backend.ranking.dto.RankingPageResponseDto;
+import com.homefit.backend.ranking.dto.RankingPercentileResponseDto;
+import com.homefit.backend.ranking.dto.RankingProfileDto;
 import com.homefit.backend.ranking.dto.RankingUpdateRequestDto;
-import com.homefit.backend.ranking.repository.RankingRepository;
+import com.homefit.backend.ranking.entity.RankingArchive;
+import com.homefit.backend.ranking.repository.RankingArchiveRepository;
+import com.homefit.backend.ranking.repository.RankingNeighbourhood;
+import com.homefit.backend.ranking.repository.RankingProfileRepository;
+import com.homefit.backend.ranking.repository.RankingStore;
 import com.homefit.backend.ranking.util.RankingKeyUtil;
+import com.homefit.backend.ranking.util.RankingMetric;
+import com.homefit.backend.ranking.util.RankingWindow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RankingService {
 
-    private final RankingRepository rankingRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_AROUND_RADIUS = 50;
 
-    // 일간, 주간, 월간 별로 유저의 운동 기록을 각각의 key에 맞춰 업데이트
-    public void updateUserExerciseRanking(RankingUpdateRequestDto requestDto) {
+    private final RankingStore rankingStore;
+    private final RankingScoreAccumulator rankingScoreAccumulator;
+    private final RankingProfileRepository rankingProfileRepository;
+    private final RankingNearCache rankingNearCache;
+    private final RankingWindowResolver rankingWindowResolver;
+    private final RankingArchiveRepository rankingArchiveRepository;
 
-        String dailyKey = RankingKeyUtil.getDailyRankingKey();
-        String weeklyKey = RankingKeyUtil.getWeeklyRankingKey();
-        String monthlyKey = RankingKeyUtil.getMonthlyRankingKey();
+    // 유저의 운동 기록을 일간 버킷과 주간, 월간 key 에 업데이트 (write-behind 누적 후 파이프라인으로 반영)
+    public void updateUserExerciseRanking(RankingUpdateRequestDto requestDto) {
+        validate(requestDto);
+        rankingScoreAccumulator.add(requestDto.getUserId(), requestDto.getCount());
+    }
 
-        rankingRepository.addUserScore(requestDto.getUserId(), requestDto.getCount(), dailyKey);
-        rankingRepository.addUserScore(requestDto.getUserId(), requestDto.getCount(), weeklyKey);
-        rankingRepository.addUserScore(requestDto.getUserId(), requestDto.getCount(), monthlyKey);
+    // 여러 건의 운동 기록을 유저별로 합산한 뒤 한 번의 파이프라인으로 업데이트
+    public void updateUserExerciseRankings(List<RankingUpdateRequestDto> requestDtos) {
+        Map<Long, Long> scoreDeltas = new HashMap<>();
+        for (RankingUpdateRequestDto requestDto : requestDtos) {
+            validate(requestDto);
+            scoreDeltas.merge(requestDto.getUserId(), requestDto.getCount(), Long::sum);
+        }
+        rankingScoreAccumulator.addAll(scoreDeltas);
     }
 
-    // 특정 기간의 상위 유저 조회
+    // 특정 기간의 상위 유저 조회 (상위 K명 이내는 로컬 캐시에서 응답)
     public Set<Object> getTopUsers(String period, int count) {
         String rankingKey = getRankingKeyByPeriod(period);
-        return rankingRepository.getTopUsers(rankingKey, count);
+        if (count > rankingNearCache.getTopK()) {
+            return rankingStore.getTopUsers(rankingKey, count);
+        }
+        Set<Object> topUsers = new LinkedHashSet<>();
+        for (Long userId : rankingNearCache.get(rankingKey).getUserIds(0, count)) {
+            topUsers.add(String.valueOf(userId));
+        }
+        return topUsers;
+    }
+
+    /**
+     * 특정 기간의 랭킹 페이지 조회.
+     * 점수가 포함된 범위 조회 한 번과 닉네임/캐릭터 일괄 조회 한 번으로 화면에 필요한 데이터를 모두 만든다.
+     * 상위 K명 이내의 페이지는 로컬 캐시의 스냅샷을 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public RankingPageResponseDto getLeaderboard(String period, int offset, int limit) {
+        if (offset < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("offset 은 0 이상, limit 은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        String rankingKey = getRankingKeyByPeriod(period);
+
+        List<Long> userIds = new ArrayList<>(limit);
+        List<Double> scores = new ArrayList<>(limit);
+        long totalUsers;
+        RankingNearCache.Snapshot snapshot = offset + limit <= rankingNearCache.getTopK() ? rankingNearCache.get(rankingKey) : null;
+        if (snapshot != null && snapshot.covers(offset, limit)) {
+            userIds.addAll(snapshot.getUserIds(offset, limit));
+            for (int i = 0; i < userIds.size(); i++) {
+                scores.add(snapshot.getScore(offset + i));
+            }
+            totalUsers = snapshot.getTotalUsers();
+        } else {
+            Set<ZSetOperations.TypedTuple<Object>> tuples = rankingStore.getTopUsersWithScores(rankingKey, offset, limit);
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                    userIds.add(RankingStore.toUserId(tuple.getValue()));
+                    scores.add(tuple.getScore());
+                }
+            }
+            Long userCount = rankingStore.getUserCount(rankingKey);
+            totalUsers = userCount == null ? 0 : userCount;
+        }
+
+        return toPage(period, offset, limit, totalUsers, userIds, scores);
+    }
+
+    /**
+     * 끝난 기간의 랭킹 페이지 조회 (보관 테이블).
+     * date 가 속한 일간, 주간, 월간 기간의 보관된 상위 N명 중에서 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public RankingPageResponseDto getArchivedLeaderboard(String period, LocalDate date, int offset, int limit) {
+        if (offset < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("offset 은 0 이상, limit 은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        RankingWindow window = RankingWindow.of(period, date);
+        if (window.getType() == RankingWindow.Type.CUSTOM) {
+            throw new IllegalArgumentException("지난 랭킹은 daily, weekly, monthly 만 조회할 수 있습니다: " + period);
+        }
+
+        List<Long> userIds = new ArrayList<>(limit);
+        List<Double> scores = new ArrayList<>(limit);
+        for (RankingArchive archive : rankingArchiveRepository.findRankingRange(window.getType(), window.getStart(), offset, offset + limit)) {
+            userIds.add(archive.getUserId());
+            scores.add(archive.getScore());
+        }
+        long totalUsers = rankingArchiveRepository.countByPeriodTypeAndPeriodStart(window.getType(), window.getStart());
+        return toPage(period, offset, limit, totalUsers, userIds, scores);
+    }
+
+    // 특정 운동의 기간별 랭킹 페이지 (metric: count 는 운동 횟수, calories 는 소모 칼로리)
+    @Transactional(readOnly = true)
+    public RankingPageResponseDto getExerciseLeaderboard(Long exerciseId, String metric, String period, int offset, int limit) {
+        RankingWindow window = getScopedWindow(period);
+        return getScopedLeaderboard(RankingKeyUtil.getExerciseRankingKey(exerciseId, RankingMetric.of(metric), window), period, offset, limit);
+    }
+
+    // 특정 운동 카테고리의 기간별 랭킹 페이지
+    @Transactional(readOnly = true)
+    public RankingPageResponseDto getCategoryLeaderboard(Long categoryId, String metric, String period, int offset, int limit) {
+        RankingWindow window = getScopedWindow(period);
+        return getScopedLeaderboard(RankingKeyUtil.getCategoryRankingKey(categoryId, RankingMetric.of(metric), window), period, offset, limit);
+    }
+
+    private RankingPageResponseDto getScopedLeaderboard(String rankingKey, String period, int offset, int limit) {
+        if (offset < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("offset 은 0 이상, limit 은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        List<Long> userIds = new ArrayList<>(limit);
+        List<Double> scores = new ArrayList<>(limit);
+        Set<ZSetOperations.TypedTuple<Object>> tuples = rankingStore.getTopUsersWithScores(rankingKey, offset, limit);
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                userIds.add(RankingStore.toUserId(tuple.getValue()));
+                scores.add(tuple.getScore());
+            }
+        }
+        Long userCount = rankingStore.getUserCount(rankingKey);
+        return toPage(period, offset, limit, userCount == null ? 0 : userCount, userIds, scores);
+    }
+
+    // 운동별, 카테고리별 랭킹은 일간, 주간, 월간만 유지
+    private RankingWindow getScopedWindow(String period) {
+        RankingWindow window = RankingWindow.of(period, LocalDate.now());
+        if (window.getType() == RankingWindow.Type.CUSTOM) {
+            throw new IllegalArgumentException("운동별, 카테고리별 랭킹은 daily, weekly, monthly 만 조회할 수 있습니다: " + period);
+        }
+        return window;
+    }
+
+    /**
+     * 유저의 등수와 바로 위아래 radius 명의 점수, 닉네임 조회.
+     * 등수와 범위는 저장소 호출 한 번(Redis 는 ZREVRANK + ZREVRANGE 스크립트)으로 가져오고,
+     * 닉네임/캐릭터는 일괄 조회 한 번으로 채운다.
+     */
+    @Transactional(readOnly = true)
+    public RankingAroundResponseDto getUsersAround(String period, Long userId, int radius) {
+        if (userId == null || radius < 0 || radius > MAX_AROUND_RADIUS) {
+            throw new IllegalArgumentException("userId 는 필수이고 radius 는 0 이상 " + MAX_AROUND_RADIUS + " 이하여야 합니다.");
+        }
+        String rankingKey = getRankingKeyByPeriod(period);
+        RankingNeighbourhood neighbourhood = rankingStore.getUsersAround(rankingKey, userId, radius);
+        if (neighbourhood == null) {
+            Long userCount = rankingStore.getUserCount(rankingKey);
+            return new RankingAroundResponseDto(period, userId, null, userCount == null ? 0 : userCount, List.of());
+        }
+
+        List<Long> userIds = new ArrayList<>(neighbourhood.getUsers().size());
+        List<Double> scores = new ArrayList<>(neighbourhood.getUsers().size());
+        for (ZSetOperations.TypedTuple<Object> tuple : neighbourhood.getUsers()) {
+            userIds.add(RankingStore.toUserId(tuple.getValue()));
+            scores.add(tuple.getScore());
+        }
+        return new RankingAroundResponseDto(period, userId, neighbourhood.getRank() + 1, neighbourhood.getTotalUsers(),
+                toEntries(neighbourhood.getOffset(), userIds, scores));
+    }
+
+    // 유저의 등수, 점수와 상위 몇 % 인지 조회 (저장소 호출 한 번)
+    public RankingPercentileResponseDto getUserPercentile(String period, Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId 는 필수입니다.");
+        }
+        String rankingKey = getRankingKeyByPeriod(period);
+        RankingNeighbourhood neighbourhood = rankingStore.getUsersAround(rankingKey, userId, 0);
+        if (neighbourhood == null || neighbourhood.getUsers().isEmpty()) {
+            Long userCount = rankingStore.getUserCount(rankingKey);
+            return new RankingPercentileResponseDto(period, userId, null, null, userCount == null ? 0 : userCount, null);
+        }
+        long rank = neighbourhood.getRank() + 1;
+        double topPercent = rank * 100.0 / neighbourhood.getTotalUsers();
+        return new RankingPercentileResponseDto(period, userId, rank, neighbourhood.getUsers().get(0).getScore(),
+                neighbourhood.getTotalUsers(), topPercent);
     }
 
-    // 특정 기간의 유저 랭킹 조회
+    // 닉네임/캐릭터를 한 번에 조회해 등수 순서대로 페이지를 만듦
+    private RankingPageResponseDto toPage(String period, int offset, int limit, long totalUsers, List<Long> userIds, List<Double> scores) {
+        return new RankingPageResponseDto(period, offset, limit, totalUsers, toEntries(offset, userIds, scores));
+    }
+
+    // offset 등부터 순서대로 놓인 유저들에 닉네임/캐릭터를 한 번에 조회해 붙임
+    private List<RankingEntryDto> toEntries(long offset, List<Long> userIds, List<Double> scores) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, RankingProfileDto> profiles = rankingProfileRepository.findProfilesByUserIds(userIds).stream()
+                .collect(Collectors.toMap(RankingProfileDto::getUserId, Function.identity()));
+
+        List<RankingEntryDto> entries = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            RankingProfileDto profile = profiles.get(userId);
+            entries.add(new RankingEntryDto(offset + i + 1L, userId, scores.get(i),
+                    profile != null ? profile.getNickName() : null,
+                    profile != null ? profile.getCharacter() : null));
+        }
+        return entries;
+    }
+
+    // 특정 기간의 유저 랭킹 조회 (상위 K명 안에 있으면 로컬 캐시에서 응답)
     public Long getUserRank(String period, Long userId) {
         String rankingKey = getRankingKeyByPeriod(period);
-        return rankingRepository.getUserRank(rankingKey, userId);
+        RankingNearCache.Snapshot snapshot = rankingNearCache.get(rankingKey);
+        Integer index = snapshot.indexOf(userId);
+        if (index != null) {
+            return index.longValue();
+        }
+        return snapshot.isComplete() ? null : rankingStore.getUserRank(rankingKey, userId);
     }
 
-    // 특정 기간의 유저 점수 조회
+    // 특정 기간의 유저 점수 조회 (상위 K명 안에 있으면 로컬 캐시에서 응답)
     public Double getUserScore(String period, Long userId) {
         String rankingKey = getRankingKeyByPeriod(period);
-        return rankingRepository.getUserScore(rankingKey, userId);
+        RankingNearCache.Snapshot snapshot = rankingNearCache.get(rankingKey);
+        Integer index = snapshot.indexOf(userId);
+        if (index != null) {
+            return snapshot.getScore(index);
+        }
+        return snapshot.isComplete() ? null : rankingStore.getUserScore(rankingKey, userId);
     }
 
-    // 기간에 맞는 key 선택
-    private String getRankingKeyByPeriod(String period) {
-        
-        switch (period) {
-            case "daily":
-                return RankingKeyUtil.getDailyRankingKey();
-            case "weekly":
-                return RankingKeyUtil.getWeeklyRankingKey();
-            case "monthly":
-                return RankingKeyUtil.getMonthlyRankingKey();
-            default:
-                throw new IllegalArgumentException("Invalid period: " + period);
+    private void validate(RankingUpdateRequestDto requestDto) {
+        if (requestDto == null || requestDto.getUserId() == null || requestDto.getCount() == null) {
+            throw new IllegalArgumentException("userId 와 count 는 필수입니다.");
         }
     }
+
+    // 기간에 맞는 key 선택 (daily, weekly, monthly, last7days, last30days, ytd, yyyy-MM-dd..yyyy-MM-dd)
+    private String getRankingKeyByPeriod(String period) {
+        return rankingWindowResolver.resolveRankingKey(period);
+    }
 }
@@ -0,0 +1,55 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.ranking.repository.RankingStore;
+import com.homefit.backend.ranking.util.RankingKeyUtil;
+import com.homefit.backend.ranking.util.RankingWindow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * period 를 조회할 ZSET key 로 바꾼다.
+ * 일간은 당일 버킷, 주간/월간은 쓰기 시점에 유지되는 key 를 그대로 사용한다.
+ * 그 외 기간은 일간 버킷을 ZUNIONSTORE 로 합친 key 를 TTL 과 함께 만들어 두고 재사용한다.
+ * 오늘이 포함된 기간은 어제까지의 합계를 closed-ttl 동안, 여기에 오늘 버킷을 더한 결과를 live-ttl 동안 캐시하므로
+ * 오늘 점수는 최대 live-ttl 만큼 늦게 반영된다.
+ */
+@Component
+public class RankingWindowResolver {
+
+    private final RankingStore rankingStore;
+    private final long closedTtlMillis;
+    private final long liveTtlMillis;
+
+    public RankingWindowResolver(RankingStore rankingStore,
+                                 @Value("${ranking.window.closed-ttl-ms:600000}") long closedTtlMillis,
+                                 @Value("${ranking.window.live-ttl-ms:1000}") long liveTtlMillis) {
+        this.rankingStore = rankingStore;
+        this.closedTtlMillis = closedTtlMillis;
+        this.liveTtlMillis = liveTtlMillis;
+    }
+
+    public String resolveRankingKey(String period) {
+        LocalDate today = LocalDate.now();
+        RankingWindow window = RankingWindow.of(period, today);
+        if (window.getType() != RankingWindow.Type.CUSTOM) {
+            return window.getRankingKey();
+        }
+
+        if (window.getEnd().isBefore(today)) {
+            rankingStore.unionStore(window.getRankingKey(), window.getBucketKeys(), closedTtlMillis);
+            return window.getRankingKey();
+        }
+        if (!window.getStart().isBefore(today)) {
+            return RankingKeyUtil.getDailyRankingKey(today);
+        }
+
+        RankingWindow closed = window.withEnd(today.minusDays(1));
+        rankingStore.unionStore(closed.getRankingKey(), closed.getBucketKeys(), closedTtlMillis);
+        rankingStore.unionStore(window.getRankingKey(),
+                List.of(closed.getRankingKey(), RankingKeyUtil.getDailyRankingKey(today)), liveTtlMillis);
+        return window.getRankingKey();
+    }
+}
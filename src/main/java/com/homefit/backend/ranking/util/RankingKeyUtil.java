@@ -2,29 +2,103 @@ package com.homefit.backend.ranking.util;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.WeekFields;
-import java.util.Locale;
+import java.time.temporal.IsoFields;
+import java.util.List;
 
 public class RankingKeyUtil {
 
+    private static final String KEY_PREFIX = "user_ranking:";
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // 날짜가 바뀔 때만 key 를 다시 만들도록 당일 key 를 캐싱
+    private static volatile PeriodKeys cachedKeys = PeriodKeys.of(LocalDate.now());
+
     // 일간 key 생성 (예: user_ranking:daily:20240922)
     public static String getDailyRankingKey() {
-        LocalDate today = LocalDate.now();
-        return "user_ranking:daily:" + today.format(DateTimeFormatter.BASIC_ISO_DATE);
+        return currentKeys().daily;
     }
 
-    // 주간 key 생성 (예: user_ranking:weekly:2024-W38)
+    // 주간 key 생성, 로케일과 무관하게 ISO 주차(월요일 시작) 사용 (예: user_ranking:weekly:2024-W38)
     public static String getWeeklyRankingKey() {
-        
-        LocalDate today = LocalDate.now();
-        WeekFields weekFields = WeekFields.of(Locale.getDefault());
-        int weekOfYear = today.get(weekFields.weekOfWeekBasedYear());
-        return "user_ranking:weekly:" + today.getYear() + "-W" + weekOfYear;
+        return currentKeys().weekly;
     }
 
     // 월간 key 생성 (예: user_ranking:monthly:202409)
     public static String getMonthlyRankingKey() {
+        return currentKeys().monthly;
+    }
+
+    public static String getDailyRankingKey(LocalDate date) {
+        return keysOf(date).daily;
+    }
+
+    public static String getWeeklyRankingKey(LocalDate date) {
+        return keysOf(date).weekly;
+    }
+
+    public static String getMonthlyRankingKey(LocalDate date) {
+        return keysOf(date).monthly;
+    }
+
+    // 특정 날짜 기준 일간, 주간, 월간 key 목록
+    public static List<String> getPeriodRankingKeys(LocalDate date) {
+        return keysOf(date).all;
+    }
+
+    // 임의 기간 key 생성 (예: user_ranking:window:20240901-20240915)
+    public static String getWindowRankingKey(LocalDate start, LocalDate end) {
+        return "user_ranking:window:" + start.format(DateTimeFormatter.BASIC_ISO_DATE) + "-" + end.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    // 운동별 랭킹 key (예: user_ranking:exercise:7:count:weekly:2024-W38)
+    public static String getExerciseRankingKey(Long exerciseId, RankingMetric metric, RankingWindow window) {
+        return getScopedRankingKey("exercise:" + exerciseId, metric, window);
+    }
+
+    // 카테고리별 랭킹 key (예: user_ranking:category:2:calories:daily:20240922)
+    public static String getCategoryRankingKey(Long categoryId, RankingMetric metric, RankingWindow window) {
+        return getScopedRankingKey("category:" + categoryId, metric, window);
+    }
+
+    private static String getScopedRankingKey(String scope, RankingMetric metric, RankingWindow window) {
+        return KEY_PREFIX + scope + ":" + metric.getKeyPart() + ":" + window.getRankingKey().substring(KEY_PREFIX.length());
+    }
+
+    private static PeriodKeys keysOf(LocalDate date) {
+        PeriodKeys keys = cachedKeys;
+        return keys.date.equals(date) ? keys : PeriodKeys.of(date);
+    }
+
+    private static PeriodKeys currentKeys() {
         LocalDate today = LocalDate.now();
-        return "user_ranking:monthly:" + today.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        PeriodKeys keys = cachedKeys;
+        if (!keys.date.equals(today)) {
+            keys = PeriodKeys.of(today);
+            cachedKeys = keys;
+        }
+        return keys;
+    }
+
+    private static class PeriodKeys {
+        private final LocalDate date;
+        private final String daily;
+        private final String weekly;
+        private final String monthly;
+        private final List<String> all;
+
+        private PeriodKeys(LocalDate date, String daily, String weekly, String monthly) {
+            this.date = date;
+            this.daily = daily;
+            this.weekly = weekly;
+            this.monthly = monthly;
+            this.all = List.of(daily, weekly, monthly);
+        }
+
+        private static PeriodKeys of(LocalDate date) {
+            return new PeriodKeys(date,
+                    "user_ranking:daily:" + date.format(DateTimeFormatter.BASIC_ISO_DATE),
+                    "user_ranking:weekly:" + date.get(IsoFields.WEEK_BASED_YEAR) + "-W" + String.format("%02d", date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)),
+                    "user_ranking:monthly:" + date.format(MONTH_FORMATTER));
+        }
     }
 }
@@ -0,0 +1,22 @@
+package com.homefit.backend.ranking.util;
+
+// 운동별, 카테고리별 랭킹의 점수 기준
+public enum RankingMetric {
+    COUNT,     // 운동 횟수
+    CALORIES;  // 소모 칼로리
+
+    public static RankingMetric of(String metric) {
+        if (metric != null) {
+            for (RankingMetric value : values()) {
+                if (value.name().equalsIgnoreCase(metric)) {
+                    return value;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid metric: " + metric);
+    }
+
+    public String getKeyPart() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,155 @@
+package com.homefit.backend.ranking.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 랭킹 집계 기간 [start, end] (양 끝 포함).
+ * 점수는 일간 버킷에만 쌓이고, 기간 랭킹은 start ~ end 의 일간 버킷을 ZUNIONSTORE 로 합쳐서 만든다.
+ * period 는 daily, weekly, monthly, last7days, last30days, ytd 또는 "yyyy-MM-dd..yyyy-MM-dd" 형식의 임의 기간이다.
+ */
+@Getter
+@EqualsAndHashCode
+public class RankingWindow {
+
+    public static final long MAX_DAYS = 400;
+
+    // 주간, 월간 key 는 기간이 끝난 뒤에도 이만큼 더 보관 (보관 작업이 아카이브한 뒤 삭제)
+    private static final Duration PERIOD_GRACE = Duration.ofDays(1);
+    // 일간 버킷은 조회 가능한 가장 긴 기간만큼 보관
+    private static final Duration BUCKET_RETENTION = Duration.ofDays(MAX_DAYS);
+    private static final String RANGE_SEPARATOR = "..";
+
+    public enum Type {
+        DAILY, WEEKLY, MONTHLY, CUSTOM
+    }
+
+    private final Type type;
+    private final LocalDate start;
+    private final LocalDate end;
+
+    private RankingWindow(Type type, LocalDate start, LocalDate end) {
+        this.type = type;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static RankingWindow of(String period, LocalDate today) {
+        if (period == null) {
+            throw new IllegalArgumentException("Invalid period: null");
+        }
+        switch (period) {
+            case "daily":
+                return dayOf(today);
+            case "weekly":
+                return weekOf(today);
+            case "monthly":
+                return monthOf(today);
+            case "last7days":
+                return new RankingWindow(Type.CUSTOM, today.minusDays(6), today);
+            case "last30days":
+                return new RankingWindow(Type.CUSTOM, today.minusDays(29), today);
+            case "ytd":
+                return new RankingWindow(Type.CUSTOM, today.withDayOfYear(1), today);
+            default:
+                return parseRange(period, today);
+        }
+    }
+
+    public static RankingWindow dayOf(LocalDate date) {
+        return new RankingWindow(Type.DAILY, date, date);
+    }
+
+    // date 가 속한 주의 월요일 ~ date
+    public static RankingWindow weekOf(LocalDate date) {
+        return new RankingWindow(Type.WEEKLY, date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), date);
+    }
+
+    // date 가 속한 달의 1일 ~ date
+    public static RankingWindow monthOf(LocalDate date) {
+        return new RankingWindow(Type.MONTHLY, date.withDayOfMonth(1), date);
+    }
+
+    // date 의 점수를 함께 반영해야 하는 주간, 월간 기간
+    public static List<RankingWindow> materializedOf(LocalDate date) {
+        return List.of(weekOf(date), monthOf(date));
+    }
+
+    // "2024-09-01..2024-09-15" 형식, 미래 날짜는 오늘까지로 자름
+    private static RankingWindow parseRange(String period, LocalDate today) {
+        int separator = period.indexOf(RANGE_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid period: " + period);
+        }
+        LocalDate start;
+        LocalDate end;
+        try {
+            start = LocalDate.parse(period.substring(0, separator));
+            end = LocalDate.parse(period.substring(separator + RANGE_SEPARATOR.length()));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid period: " + period);
+        }
+        if (end.isAfter(today)) {
+            end = today;
+        }
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) + 1 > MAX_DAYS) {
+            throw new IllegalArgumentException("기간은 시작일이 종료일 이전이고 " + MAX_DAYS + "일 이내여야 합니다: " + period);
+        }
+        return new RankingWindow(Type.CUSTOM, start, end);
+    }
+
+    public String getRankingKey() {
+        switch (type) {
+            case DAILY:
+                return RankingKeyUtil.getDailyRankingKey(start);
+            case WEEKLY:
+                return RankingKeyUtil.getWeeklyRankingKey(start);
+            case MONTHLY:
+                return RankingKeyUtil.getMonthlyRankingKey(start);
+            default:
+                return RankingKeyUtil.getWindowRankingKey(start, end);
+        }
+    }
+
+    // start ~ end 의 일간 버킷 key
+    public List<String> getBucketKeys() {
+        List<String> bucketKeys = new ArrayList<>((int) ChronoUnit.DAYS.between(start, end) + 1);
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            bucketKeys.add(RankingKeyUtil.getDailyRankingKey(date));
+        }
+        return bucketKeys;
+    }
+
+    // 같은 시작일로 종료일만 바꾼 임의 기간
+    public RankingWindow withEnd(LocalDate end) {
+        return new RankingWindow(Type.CUSTOM, start, end);
+    }
+
+    // 달력상 기간이 끝나는 날 (이 날짜부터 기간이 닫힘)
+    public LocalDate getPeriodEnd() {
+        switch (type) {
+            case WEEKLY:
+                return start.plusWeeks(1);
+            case MONTHLY:
+                return start.plusMonths(1);
+            default:
+                return end.plusDays(1);
+        }
+    }
+
+    // key 의 만료 시각 (달력상 기간이 끝난 시점 + 보관 기간, epoch millis)
+    public long getExpireAtMillis() {
+        Duration retention = type == Type.DAILY ? BUCKET_RETENTION : PERIOD_GRACE;
+        return getPeriodEnd().atStartOfDay(ZoneId.systemDefault()).plus(retention).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,141 @@
+package com.homefit.backend.exerciselog.log;
+
+import com.homefit.backend.exerciselog.event.ExerciseLogCreatedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogDeletedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogUpdatedEvent;
+import com.homefit.backend.exerciselog.log.ExerciseDailyStat.StatType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ExerciseDailyStatServiceTest {
+
+    @Mock
+    private ExerciseDailyStatRepository exerciseDailyStatRepository;
+
+    private ExerciseDailyStatService exerciseDailyStatService;
+
+    private AutoCloseable closeable;
+
+    private final LocalDate testDate = LocalDate.of(2024, 9, 11);
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        exerciseDailyStatService = new ExerciseDailyStatService(exerciseDailyStatRepository);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("운동 기록 1건이 전체/운동별/유저별/유저x운동별 집계에 누적되는지 테스트")
+    void testRecord() {
+        ExerciseLogCreatedEvent event = new ExerciseLogCreatedEvent(1L, 123L, 7L, 2L, "Pushup", testDate, 20, 100.0);
+
+        exerciseDailyStatService.record(event);
+
+        verify(exerciseDailyStatRepository).accumulate(testDate, "TOTAL", ExerciseDailyStat.ALL_USERS, ExerciseDailyStat.ALL_EXERCISES, 1L, 20L, 100.0);
+        verify(exerciseDailyStatRepository).accumulate(testDate, "EXERCISE", ExerciseDailyStat.ALL_USERS, "Pushup", 1L, 20L, 100.0);
+        verify(exerciseDailyStatRepository).accumulate(testDate, "USER", 123L, ExerciseDailyStat.ALL_EXERCISES, 1L, 20L, 100.0);
+        verify(exerciseDailyStatRepository).accumulate(testDate, "USER_EXERCISE", 123L, "Pushup", 1L, 20L, 100.0);
+        verify(exerciseDailyStatRepository, times(4)).accumulate(eq(testDate), anyString(), anyLong(), anyString(), anyLong(), anyLong(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("수정된 운동 기록은 이전 값을 빼고 새 값을 더하는지 테스트")
+    void testUpdate() {
+        LocalDate newDate = testDate.plusDays(1);
+        ExerciseLogCreatedEvent previous = new ExerciseLogCreatedEvent(1L, 123L, 7L, 2L, "Pushup", testDate, 20, 100.0);
+        ExerciseLogCreatedEvent current = new ExerciseLogCreatedEvent(1L, 123L, 8L, 2L, "Squat", newDate, 30, 150.0);
+
+        exerciseDailyStatService.update(new ExerciseLogUpdatedEvent(previous, current));
+
+        verify(exerciseDailyStatRepository).accumulate(testDate, "TOTAL", ExerciseDailyStat.ALL_USERS, ExerciseDailyStat.ALL_EXERCISES, -1L, -20L, -100.0);
+        verify(exerciseDailyStatRepository).accumulate(testDate, "EXERCISE", ExerciseDailyStat.ALL_USERS, "Pushup", -1L, -20L, -100.0);
+        verify(exerciseDailyStatRepository).accumulate(testDate, "USER", 123L, ExerciseDailyStat.ALL_EXERCISES, -1L, -20L, -100.0);
+        verify(exerciseDailyStatRepository).accumulate(testDate, "USER_EXERCISE", 123L, "Pushup", -1L, -20L, -100.0);
+        verify(exerciseDailyStatRepository).accumulate(newDate, "TOTAL", ExerciseDailyStat.ALL_USERS, ExerciseDailyStat.ALL_EXERCISES, 1L, 30L, 150.0);
+        verify(exerciseDailyStatRepository).accumulate(newDate, "EXERCISE", ExerciseDailyStat.ALL_USERS, "Squat", 1L, 30L, 150.0);
+        verify(exerciseDailyStatRepository).accumulate(newDate, "USER", 123L, ExerciseDailyStat.ALL_EXERCISES, 1L, 30L, 150.0);
+        verify(exerciseDailyStatRepository).accumulate(newDate, "USER_EXERCISE", 123L, "Squat", 1L, 30L, 150.0);
+        verify(exerciseDailyStatRepository, times(8)).accumulate(any(), anyString(), anyLong(), anyString(), anyLong(), anyLong(), anyDouble());
+        verify(exerciseDailyStatRepository).deleteEmpty(testDate);
+    }
+
+    @Test
+    @DisplayName("삭제된 운동 기록의 값을 모든 집계에서 빼는지 테스트")
+    void testDelete() {
+        ExerciseLogCreatedEvent previous = new ExerciseLogCreatedEvent(1L, 123L, 7L, 2L, "Pushup", testDate, 20, 100.0);
+
+        exerciseDailyStatService.delete(new ExerciseLogDeletedEvent(previous));
+
+        verify(exerciseDailyStatRepository).accumulate(testDate, "TOTAL", ExerciseDailyStat.ALL_USERS, ExerciseDailyStat.ALL_EXERCISES, -1L, -20L, -100.0);
+        verify(exerciseDailyStatRepository).accumulate(testDate, "EXERCISE", ExerciseDailyStat.ALL_USERS, "Pushup", -1L, -20L, -100.0);
+        verify(exerciseDailyStatRepository).accumulate(testDate, "USER", 123L, ExerciseDailyStat.ALL_EXERCISES, -1L, -20L, -100.0);
+        verify(exerciseDailyStatRepository).accumulate(testDate, "USER_EXERCISE", 123L, "Pushup", -1L, -20L, -100.0);
+        verify(exerciseDailyStatRepository, times(4)).accumulate(any(), anyString(), anyLong(), anyString(), anyLong(), anyLong(), anyDouble());
+        verify(exerciseDailyStatRepository).deleteEmpty(testDate);
+    }
+
+    @Test
+    @DisplayName("집계 테이블에서 운동 선호도 및 날짜별 운동 기록을 조회하는 기능 테스트")
+    void testGetExercisePopularityAndExerciseByDate() {
+        when(exerciseDailyStatRepository.findByStatDateAndStatType(testDate, StatType.EXERCISE)).thenReturn(List.of(
+                new ExerciseDailyStat(testDate, StatType.EXERCISE, ExerciseDailyStat.ALL_USERS, "Pushup", 2, 35, 190.0),
+                new ExerciseDailyStat(testDate, StatType.EXERCISE, ExerciseDailyStat.ALL_USERS, "Burpee", 1, 30, 200.0)
+        ));
+
+        Map<String, Integer> exercisePopularity = exerciseDailyStatService.getExercisePopularity(testDate);
+        Map<LocalDate, List<String>> exerciseByDate = exerciseDailyStatService.getExerciseByDate(testDate);
+
+        assertEquals(2, exercisePopularity.get("Pushup"));
+        assertEquals(1, exercisePopularity.get("Burpee"));
+        assertEquals(3, exerciseByDate.get(testDate).size());
+        assertTrue(exerciseByDate.get(testDate).contains("Burpee"));
+    }
+
+    @Test
+    @DisplayName("집계 테이블에서 유저별/전체 운동 횟수를 조회하는 기능 테스트")
+    void testGetUserAndTotalExerciseCounts() {
+        when(exerciseDailyStatRepository.findByStatDateAndStatType(testDate, StatType.USER)).thenReturn(List.of(
+                new ExerciseDailyStat(testDate, StatType.USER, 123L, ExerciseDailyStat.ALL_EXERCISES, 1, 20, 100.0),
+                new ExerciseDailyStat(testDate, StatType.USER, 124L, ExerciseDailyStat.ALL_EXERCISES, 1, 15, 90.0)
+        ));
+        when(exerciseDailyStatRepository.findByStatDateAndStatType(testDate, StatType.USER_EXERCISE)).thenReturn(List.of(
+                new ExerciseDailyStat(testDate, StatType.USER_EXERCISE, 123L, "Pushup", 1, 20, 100.0),
+                new ExerciseDailyStat(testDate, StatType.USER_EXERCISE, 124L, "Squat", 1, 15, 90.0)
+        ));
+        when(exerciseDailyStatRepository.findByStatDateAndStatTypeAndUserIdAndExerciseName(
+                testDate, StatType.TOTAL, ExerciseDailyStat.ALL_USERS, ExerciseDailyStat.ALL_EXERCISES))
+                .thenReturn(Optional.of(new ExerciseDailyStat(testDate, StatType.TOTAL, ExerciseDailyStat.ALL_USERS, ExerciseDailyStat.ALL_EXERCISES, 2, 35, 190.0)));
+
+        assertEquals(20, exerciseDailyStatService.getUserExerciseCounts(testDate).get(123L));
+        assertEquals(15, exerciseDailyStatService.getExerciseCounts(testDate).get(124L).get("Squat"));
+        assertEquals(35, exerciseDailyStatService.getTotalExerciseCount(testDate));
+    }
+
+    @Test
+    @DisplayName("집계가 없는 날짜는 빈 결과를 반환하는지 테스트")
+    void testEmptyDate() {
+        LocalDate emptyDate = LocalDate.of(2000, 1, 1);
+
+        assertTrue(exerciseDailyStatService.getExercisePopularity(emptyDate).isEmpty());
+        assertTrue(exerciseDailyStatService.getExerciseByDate(emptyDate).isEmpty());
+        assertEquals(0, exerciseDailyStatService.getTotalExerciseCount(emptyDate));
+    }
+}
@@ -0,0 +1,76 @@
+package com.homefit.backend.exerciselog.log;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class ExerciseEventCodecTest {
+
+    private final ExerciseEventCodec codec = new ExerciseEventCodec();
+
+    @Test
+    @DisplayName("인코딩한 레코드를 그대로 디코딩하는지 테스트")
+    public void testEncodeAndDecode() {
+        // Given
+        ExerciseEventRecord record = new ExerciseEventRecord(LocalDateTime.of(2024, 9, 11, 10, 45, 32),
+                LocalDate.of(2024, 9, 11), 10L, 123L, 3L, "스쿼트 \"점프\"", 20, 100.5);
+
+        // When
+        String line = codec.encode(record);
+        ExerciseEventRecord decoded = codec.decode(line);
+
+        // Then
+        Assertions.assertFalse(line.contains("\n"));
+        Assertions.assertNotNull(decoded);
+        Assertions.assertEquals(record.getLoggedAt(), decoded.getLoggedAt());
+        Assertions.assertEquals(record.getDate(), decoded.getDate());
+        Assertions.assertEquals(10L, decoded.getExerciseLogId());
+        Assertions.assertEquals(123L, decoded.getUserId());
+        Assertions.assertEquals(3L, decoded.getExerciseId());
+        Assertions.assertEquals("스쿼트 \"점프\"", decoded.getExerciseName());
+        Assertions.assertEquals(20, decoded.getExerciseCount());
+        Assertions.assertEquals(100.5, decoded.getCaloriesBurned());
+        Assertions.assertEquals(1, codec.getDecodedLines());
+    }
+
+    @Test
+    @DisplayName("필드 순서가 달라도 읽고, 알 수 없는 필드는 건너뛰는지 테스트")
+    public void testDecode_FieldOrderAndUnknownFields() {
+        // Given
+        String line = "{\"userId\":7,\"extra\":{\"a\":[1,2]},\"exerciseName\":\"Pushup\",\"date\":\"2024-09-12\",\"v\":1}";
+
+        // When
+        ExerciseEventRecord decoded = codec.decode(line);
+
+        // Then
+        Assertions.assertNotNull(decoded);
+        Assertions.assertEquals(7L, decoded.getUserId());
+        Assertions.assertEquals("Pushup", decoded.getExerciseName());
+        Assertions.assertEquals(LocalDate.of(2024, 9, 12), decoded.getDate());
+        Assertions.assertNull(decoded.getExerciseCount());
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 라인은 null을 반환하고 실패 카운터만 증가하는지 테스트")
+    public void testDecode_Failed() {
+        // Given
+        String[] lines = {
+                "[2024-09-11 10:45:32] INFO userId=123 운동명=Pushup, 횟수=20, 소모 칼로리=100",
+                "{\"userId\":7,\"exerciseName\":\"Pushup\"}",
+                "{\"userId\":\"abc\",\"exerciseName\":\"Pushup\",\"date\":\"2024-09-12\"}",
+                "{\"userId\":7,\"exerciseName\":\"Pushup\",\"date\":\"2024-13-12\"}",
+                "{\"userId\":7,\"exerciseName\":\"Pushup\",\"date\":\"2024-09-12\"",
+                ""
+        };
+
+        // When & Then
+        for (String line : lines) {
+            Assertions.assertNull(codec.decode(line), line);
+        }
+        Assertions.assertEquals(lines.length, codec.getFailedLines());
+        Assertions.assertEquals(0, codec.getDecodedLines());
+    }
+}
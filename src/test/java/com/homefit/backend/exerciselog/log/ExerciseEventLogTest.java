@@ -0,0 +1,81 @@
+package com.homefit.backend.exerciselog.log;
+
+import com.homefit.backend.log.util.MappedLogScanner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ExerciseEventLogTest {
+
+    private final MappedLogScanner mappedLogScanner = new MappedLogScanner(2);
+    private final ExerciseEventCodec codec = new ExerciseEventCodec();
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        mappedLogScanner.shutdown();
+    }
+
+    @Test
+    @DisplayName("지난 날짜로 입력한 기록도 기록한 날짜의 롤링 파일에서 읽는지 테스트")
+    public void testRead_BackDatedRecord() throws IOException {
+        // Given: 9월 11일 파일에 9월 9일 운동 기록과 9월 11일 운동 기록, 현재 파일에 9월 12일 0시 이후 기록
+        ExerciseEventRecord backDated = record(LocalDateTime.of(2024, 9, 11, 23, 50), LocalDate.of(2024, 9, 9), 1L);
+        ExerciseEventRecord sameDay = record(LocalDateTime.of(2024, 9, 11, 10, 0), LocalDate.of(2024, 9, 11), 2L);
+        ExerciseEventRecord afterMidnight = record(LocalDateTime.of(2024, 9, 12, 0, 5), LocalDate.of(2024, 9, 11), 3L);
+        write("exercise-event.2024-09-11.log", sameDay, backDated);
+        write("exercise-event.log", afterMidnight);
+        ExerciseEventLog eventLog = new ExerciseEventLog(tempDir.toString(), mappedLogScanner, new SimpleMeterRegistry());
+
+        // When
+        List<ExerciseEventRecord> september11 = eventLog.read(LocalDate.of(2024, 9, 11));
+        List<ExerciseEventRecord> september12 = eventLog.read(LocalDate.of(2024, 9, 12));
+
+        // Then: 기록 시각 기준으로 하루에 한 번씩 빠짐없이 읽힘
+        Assertions.assertEquals(List.of(2L, 1L), september11.stream().map(ExerciseEventRecord::getExerciseLogId).toList());
+        Assertions.assertEquals(LocalDate.of(2024, 9, 9), september11.get(1).getDate());
+        Assertions.assertEquals(LocalDate.of(2024, 9, 11), september11.get(1).toLogsEntry().getTimestamp());
+        Assertions.assertEquals(List.of(3L), september12.stream().map(ExerciseEventRecord::getExerciseLogId).toList());
+        Assertions.assertTrue(eventLog.read(LocalDate.of(2024, 9, 9)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("아직 롤링되지 않은 지난 날짜의 기록은 현재 파일에서 읽는지 테스트")
+    public void testRead_NotYetRolled() throws IOException {
+        // Given: 9월 10일 기록 이후 쓰기가 없어 현재 파일이 아직 롤링되지 않은 상태
+        write("exercise-event.log", record(LocalDateTime.of(2024, 9, 10, 22, 0), LocalDate.of(2024, 9, 10), 1L));
+        ExerciseEventLog eventLog = new ExerciseEventLog(tempDir.toString(), mappedLogScanner, new SimpleMeterRegistry());
+
+        // When
+        List<ExerciseEventRecord> records = eventLog.read(LocalDate.of(2024, 9, 10));
+
+        // Then
+        Assertions.assertEquals(List.of(1L), records.stream().map(ExerciseEventRecord::getExerciseLogId).toList());
+        Assertions.assertTrue(eventLog.read(LocalDate.of(2024, 9, 11)).isEmpty());
+    }
+
+    private ExerciseEventRecord record(LocalDateTime loggedAt, LocalDate date, Long exerciseLogId) {
+        return new ExerciseEventRecord(loggedAt, date, exerciseLogId, 123L, 3L, "스쿼트", 20, 100.0);
+    }
+
+    private void write(String fileName, ExerciseEventRecord... records) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (ExerciseEventRecord record : records) {
+            content.append(codec.encode(record)).append('\n');
+        }
+        Files.writeString(tempDir.resolve(fileName), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.homefit.backend.exerciselog.log;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+public class ExerciseLogLineDecoderTest {
+
+    private final ExerciseLogLineDecoder decoder = new ExerciseLogLineDecoder();
+
+    @Test
+    @DisplayName("운동 로그 라인을 엔트리로 변환하는 테스트")
+    public void testDecode_Success() {
+        // Given
+        String line = "[2024-09-11 10:45:32] INFO userId=123 운동명=Pushup, 횟수=20, 소모 칼로리=100";
+
+        // When
+        ExerciseLogsEntry entry = decoder.decode(line);
+
+        // Then
+        Assertions.assertNotNull(entry);
+        Assertions.assertEquals(LocalDate.of(2024, 9, 11), entry.getTimestamp());
+        Assertions.assertEquals("INFO", entry.getLogLevel());
+        Assertions.assertEquals(123L, entry.getUserId());
+        Assertions.assertEquals("Pushup", entry.getExerciseName());
+        Assertions.assertEquals(20, entry.getExerciseCount());
+        Assertions.assertEquals(100, entry.getCaloriesBurned());
+        Assertions.assertEquals(line, entry.getMessage());
+    }
+
+    @Test
+    @DisplayName("한글 운동명과 userId 주변 공백을 허용하는지 테스트")
+    public void testDecode_KoreanNameAndSpaces() {
+        // Given
+        String line = "  [2024-09-11 11:00:00] WARN userId = 7 운동명=스쿼트, 횟수=15, 소모 칼로리=90";
+
+        // When
+        ExerciseLogsEntry entry = decoder.decode(line);
+
+        // Then
+        Assertions.assertNotNull(entry);
+        Assertions.assertEquals("WARN", entry.getLogLevel());
+        Assertions.assertEquals(7L, entry.getUserId());
+        Assertions.assertEquals("스쿼트", entry.getExerciseName());
+    }
+
+    @Test
+    @DisplayName("운동 로그 형식이 아닌 라인은 null을 반환하고 카운터만 증가하는지 테스트")
+    public void testDecode_Unmatched() {
+        // Given
+        String[] lines = {
+                "10:45:32.123 [main] INFO  c.h.b.BackendApplication - Started BackendApplication",
+                "[2024-09-11 10:45:32] DEBUG userId=123 운동명=Pushup, 횟수=20, 소모 칼로리=100",
+                "[2024-13-11 10:45:32] INFO userId=123 운동명=Pushup, 횟수=20, 소모 칼로리=100",
+                "[2024-09-11 10:45:32] INFO userId=123 운동명=Push-up, 횟수=20, 소모 칼로리=100",
+                ""
+        };
+
+        // When & Then
+        for (String line : lines) {
+            Assertions.assertNull(decoder.decode(line));
+        }
+        Assertions.assertEquals(lines.length, decoder.getUnmatchedLines());
+        Assertions.assertEquals(0, decoder.getMatchedLines());
+    }
+}
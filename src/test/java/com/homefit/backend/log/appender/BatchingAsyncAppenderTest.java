@@ -0,0 +1,82 @@
+package com.homefit.backend.log.appender;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class BatchingAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+
+    @Test
+    @DisplayName("기본 정책은 BLOCK 이고, 큐가 가득 차서 대기 중인 요청 스레드는 stop() 에서 풀려나는지 테스트")
+    public void testStopReleasesBlockedProducers() throws Exception {
+        // Given: 하위 appender 가 첫 이벤트에서 멈춰 있고 큐(크기 1)도 가득 찬 상태
+        BlockingAppender downstream = new BlockingAppender();
+        downstream.setContext(context);
+        downstream.start();
+        BatchingAsyncAppender appender = new BatchingAsyncAppender();
+        appender.setContext(context);
+        appender.setName("test");
+        appender.setQueueSize(1);
+        appender.setBatchSize(1);
+        appender.setMaxFlushTime(100);
+        appender.addAppender(downstream);
+        appender.start();
+        Assertions.assertEquals(BatchingAsyncAppender.OverflowPolicy.BLOCK, appender.getOverflowPolicy());
+
+        appender.doAppend(event("첫 번째"));
+        Assertions.assertTrue(downstream.writing.await(5, TimeUnit.SECONDS));
+        appender.doAppend(event("두 번째"));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> producer = executor.submit(() -> appender.doAppend(event("세 번째")));
+        Assertions.assertThrows(TimeoutException.class, () -> producer.get(300, TimeUnit.MILLISECONDS));
+
+        // When
+        appender.stop();
+
+        // Then: 대기를 멈추고 버린 수로 기록
+        producer.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, appender.getDroppedEvents());
+        downstream.release.countDown();
+        executor.shutdown();
+    }
+
+    private ILoggingEvent event(String message) {
+        return new LoggingEvent(Logger.class.getName(), logger, Level.INFO, message, null, null);
+    }
+
+    // release 될 때까지 첫 이벤트 쓰기에서 멈추는 appender (인터럽트 무시)
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            writing.countDown();
+            while (true) {
+                try {
+                    release.await();
+                    return;
+                } catch (InterruptedException e) {
+                    // 작업 스레드 인터럽트와 상관없이 계속 대기
+                }
+            }
+        }
+    }
+}
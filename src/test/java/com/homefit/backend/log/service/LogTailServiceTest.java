@@ -0,0 +1,76 @@
+package com.homefit.backend.log.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LogTailServiceTest {
+
+    // 구독자 큐 크기 2
+    private final LogTailService logTailService = new LogTailService(50, 60_000, 2);
+
+    @AfterEach
+    void tearDown() {
+        logTailService.shutdown();
+    }
+
+    @Test
+    @DisplayName("전송이 멈춘 구독자가 있어도 다른 구독자에게는 전달되고, 밀린 구독자는 구독이 해제되는지 테스트")
+    public void testStalledSubscriberDoesNotBlockOthers() throws Exception {
+        // Given: 첫 전송에서 멈추는 구독자와 정상 구독자
+        StalledEmitter stalled = new StalledEmitter();
+        CountingEmitter counting = new CountingEmitter(5);
+        logTailService.register(stalled, null);
+        logTailService.register(counting, "INFO");
+        String line = "2024-09-11 10:45:32 INFO com.homefit.backend.Test - 로그";
+
+        // When
+        logTailService.dispatch(List.of(line));
+        Assertions.assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+        logTailService.dispatch(List.of(line, line, line, line));
+
+        // Then
+        Assertions.assertTrue(counting.received.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, logTailService.getSubscriberCount());
+        stalled.release.countDown();
+    }
+
+    // release 될 때까지 전송에서 멈추는 emitter
+    private static class StalledEmitter extends SseEmitter {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class CountingEmitter extends SseEmitter {
+        private final CountDownLatch received;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private CountingEmitter(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            count.incrementAndGet();
+            received.countDown();
+        }
+    }
+}
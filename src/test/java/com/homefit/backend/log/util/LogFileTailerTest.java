@@ -0,0 +1,64 @@
+package com.homefit.backend.log.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class LogFileTailerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("처음에는 파일 끝에서 시작하고 이후 추가된 완성 라인만 반환하는지 테스트")
+    public void testPollAppendedLines() throws IOException {
+        // Given
+        Path logFile = tempDir.resolve("application.log");
+        append(logFile, "10:45:32.123 [main] INFO  c.h.b.A - 기존 로그\n");
+        LogFileTailer tailer = new LogFileTailer(logFile);
+        Assertions.assertTrue(tailer.poll().isEmpty());
+
+        // When
+        append(logFile, "10:45:33.000 [main] WARN  c.h.b.A - 첫 번째\n10:45:34.000 [main] INFO  c.h.b.A - 두 번");
+        List<String> first = tailer.poll();
+        append(logFile, "째\n");
+        List<String> second = tailer.poll();
+
+        // Then
+        Assertions.assertEquals(List.of("10:45:33.000 [main] WARN  c.h.b.A - 첫 번째"), first);
+        Assertions.assertEquals(List.of("10:45:34.000 [main] INFO  c.h.b.A - 두 번째"), second);
+        tailer.close();
+    }
+
+    @Test
+    @DisplayName("롤오버되면 기존 파일의 남은 라인을 읽은 뒤 새 파일을 처음부터 읽는지 테스트")
+    public void testPollAfterRollover() throws IOException {
+        // Given
+        Path logFile = tempDir.resolve("application.log");
+        append(logFile, "");
+        LogFileTailer tailer = new LogFileTailer(logFile);
+        tailer.poll();
+        append(logFile, "before\n");
+
+        // When
+        Files.move(logFile, tempDir.resolve("application.2024-09-11.log"));
+        append(logFile, "after\n");
+        List<String> lines = tailer.poll();
+
+        // Then
+        Assertions.assertEquals(List.of("before", "after"), lines);
+        tailer.close();
+    }
+
+    private static void append(Path file, String text) throws IOException {
+        Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
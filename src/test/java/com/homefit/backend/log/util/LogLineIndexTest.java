@@ -0,0 +1,100 @@
+package com.homefit.backend.log.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LogLineIndexTest {
+
+    private static final String[] LEVELS = {"INFO ", "DEBUG", "WARN ", "ERROR"};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("라인 번호와 레벨별 라인 번호로 정확한 오프셋을 찾는지 테스트")
+    public void testLocate() throws IOException {
+        // Given
+        Path logFile = tempDir.resolve("application.log");
+        List<String> lines = writeLines(logFile, 0, 2500);
+        LogLineIndex index = new LogLineIndex(logFile, tempDir.resolve("application.log.idx"), 100);
+
+        // When
+        index.refresh();
+
+        // Then
+        List<String> warnLines = lines.stream().filter(line -> line.contains(" WARN ")).toList();
+        Assertions.assertEquals(lines.size(), index.getLineCount());
+        Assertions.assertEquals(warnLines.size(), index.getLineCount("warn"));
+        Assertions.assertEquals(-1, index.getLineCount("Unknown"));
+
+        for (int lineNumber : new int[]{0, 99, 100, 1234, 2499}) {
+            Assertions.assertEquals(lines.get(lineNumber), readLine(logFile, index.locate(lineNumber), null));
+        }
+        for (int lineNumber : new int[]{0, 100, warnLines.size() - 1}) {
+            Assertions.assertEquals(warnLines.get(lineNumber), readLine(logFile, index.locate("WARN", lineNumber), "WARN"));
+        }
+    }
+
+    @Test
+    @DisplayName("추가된 라인만 증분 인덱싱하고 저장된 인덱스를 재사용하는지 테스트")
+    public void testIncrementalRefreshAndReload() throws IOException {
+        // Given
+        Path logFile = tempDir.resolve("application.log");
+        Path indexFile = tempDir.resolve("application.log.idx");
+        List<String> lines = writeLines(logFile, 0, 1000);
+        new LogLineIndex(logFile, indexFile, 100).refresh();
+
+        lines.addAll(writeLines(logFile, 1000, 500));
+        Files.writeString(logFile, "미완성 라인", StandardOpenOption.APPEND);
+
+        // When
+        LogLineIndex reloaded = new LogLineIndex(logFile, indexFile, 100);
+        reloaded.refresh();
+
+        // Then (줄바꿈이 없는 마지막 라인은 아직 인덱싱하지 않음)
+        Assertions.assertTrue(Files.exists(indexFile));
+        Assertions.assertEquals(1500, reloaded.getLineCount());
+        Assertions.assertEquals(lines.get(1400), readLine(logFile, reloaded.locate(1400), null));
+    }
+
+    private List<String> writeLines(Path logFile, int from, int count) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            lines.add(i % 7 == 0
+                    ? "\tat com.homefit.backend.Sample(Sample.java:" + i + ")"
+                    : "10:45:32.123 [main] " + LEVELS[i % LEVELS.length] + " c.h.b.Sample - 메시지 " + i);
+        }
+        Files.write(logFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return lines;
+    }
+
+    private String readLine(Path logFile, LogLineIndex.Position position, String level) throws IOException {
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ);
+             BufferedReader reader = new BufferedReader(Channels.newReader(channel.position(position.getOffset()), StandardCharsets.UTF_8))) {
+            long skip = position.getSkip();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (level != null && !line.contains(" " + level + " ")) {
+                    continue;
+                }
+                if (skip-- == 0) {
+                    return line;
+                }
+            }
+            return null;
+        }
+    }
+}
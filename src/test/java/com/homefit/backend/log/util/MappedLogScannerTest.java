@@ -0,0 +1,89 @@
+package com.homefit.backend.log.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MappedLogScannerTest {
+
+    private final MappedLogScanner mappedLogScanner = new MappedLogScanner(4);
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        mappedLogScanner.shutdown();
+    }
+
+    @Test
+    @DisplayName("청크 병렬 스캔 결과가 라인 순서를 유지하는지 테스트")
+    public void testScan_PreservesLineOrder() throws IOException {
+        // Given (최소 청크 크기보다 큰 파일, CRLF 라인과 마지막 줄바꿈 없는 라인 포함)
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 300_000; i++) {
+            content.append("[2024-09-11 10:45:32] INFO 운동 로그 ").append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        content.append("마지막 라인");
+        Path logFile = tempDir.resolve("application.2024-09-11.log");
+        Files.writeString(logFile, content, StandardCharsets.UTF_8);
+
+        // When
+        List<String> lines = mappedLogScanner.scan(
+                logFile,
+                ArrayList::new,
+                (partial, seq, start, end) -> partial.add(seq.subSequence(start, end).toString()),
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
+
+        // Then
+        Assertions.assertEquals(Files.readAllLines(logFile, StandardCharsets.UTF_8), lines);
+    }
+
+    @Test
+    @DisplayName("디코딩 버퍼보다 긴 라인과 버퍼 경계에 걸친 멀티바이트 문자도 그대로 읽는지 테스트")
+    public void testScan_LineLongerThanDecodeBuffer() throws IOException {
+        // Given: 2MB 가 넘는 한글 라인 앞뒤로 짧은 라인
+        String longLine = "운동".repeat(600_000);
+        Path logFile = tempDir.resolve("application.2024-09-12.log");
+        Files.writeString(logFile, "첫 라인\n" + longLine + "\r\n끝", StandardCharsets.UTF_8);
+
+        // When
+        List<String> lines = mappedLogScanner.scan(
+                logFile,
+                ArrayList::new,
+                (partial, seq, start, end) -> partial.add(seq.subSequence(start, end).toString()),
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
+
+        // Then
+        Assertions.assertEquals(List.of("첫 라인", longLine, "끝"), lines);
+    }
+
+    @Test
+    @DisplayName("빈 파일은 빈 부분 집계를 반환하는지 테스트")
+    public void testScan_EmptyFile() throws IOException {
+        // Given
+        Path logFile = Files.createFile(tempDir.resolve("application.log"));
+
+        // When
+        Long count = mappedLogScanner.scan(logFile, () -> 0L, (partial, seq, start, end) -> {
+        }, Long::sum);
+
+        // Then
+        Assertions.assertEquals(0L, count);
+    }
+}
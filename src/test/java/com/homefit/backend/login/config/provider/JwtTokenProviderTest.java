@@ -0,0 +1,92 @@
+package com.homefit.backend.login.config.provider;
+
+import com.homefit.backend.login.entity.RoleType;
+import com.homefit.backend.login.entity.User;
+import com.homefit.backend.login.entity.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = "homefit-test-secret-key-homefit-test-secret-key";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000, 100);
+    }
+
+    @Test
+    @DisplayName("토큰의 유저 ID, 역할 claim 으로 인증 주체를 만드는지 테스트")
+    void testPrincipalFromClaims() {
+        // Given
+        String token = jwtTokenProvider.generateToken(new User(7L, "testUser", "encoded", RoleType.ADMIN));
+
+        // When
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        UserPrincipal principal = jwtTokenProvider.toPrincipal(claims);
+
+        // Then
+        assertEquals(7L, principal.getId());
+        assertEquals("testUser", principal.getUsername());
+        assertEquals(RoleType.ADMIN, principal.getRole());
+        assertEquals(RoleType.ADMIN.getCode(), principal.getAuthorities().iterator().next().getAuthority());
+        assertNull(principal.getPassword());
+    }
+
+    @Test
+    @DisplayName("서명이 다르거나 형식이 잘못된 토큰은 null 테스트")
+    void testInvalidToken() {
+        String token = jwtTokenProvider.generateToken(new User(7L, "testUser", "encoded", RoleType.USER));
+        JwtTokenProvider otherProvider = new JwtTokenProvider(SECRET + "-other", 60_000, 100);
+
+        assertNull(otherProvider.parseClaims(token));
+        assertNull(jwtTokenProvider.parseClaims("not-a-token"));
+        assertFalse(jwtTokenProvider.validateToken("not-a-token"));
+    }
+
+    @Test
+    @DisplayName("유저 ID claim 이 없는 이전 형식의 토큰은 인증 주체를 만들지 않는지 테스트")
+    void testLegacyTokenWithoutUserId() {
+        // Given: 역할 claim 만 있는 이전 형식의 토큰
+        String token = Jwts.builder()
+                .claim(JwtTokenProvider.CLAIM_ROLE, RoleType.USER.name())
+                .setSubject("testUser")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // When
+        Claims claims = jwtTokenProvider.parseClaims(token);
+
+        // Then
+        assertEquals("testUser", claims.getSubject());
+        assertNull(jwtTokenProvider.toPrincipal(claims));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 검증한 claim 을 재사용하고, 서명만 같은 변조 토큰은 거부하는지 테스트")
+    void testVerifiedTokenCache() {
+        // Given
+        String token = jwtTokenProvider.generateToken(new User(7L, "testUser", "encoded", RoleType.USER));
+        Claims first = jwtTokenProvider.parseClaims(token);
+
+        // When: payload 만 바꾸고 서명은 그대로 둔 토큰
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1] + "x." + parts[2];
+
+        // Then
+        assertSame(first, jwtTokenProvider.parseClaims(token));
+        assertNull(jwtTokenProvider.parseClaims(tampered));
+    }
+}
@@ -0,0 +1,80 @@
+package com.homefit.backend.login.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptivePasswordEncoderTest {
+
+    // 테스트가 느려지지 않도록 낮은 비용과 작은 메모리 사용
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 6;
+    private static final int ARGON2_MEMORY_KIB = 1024;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("측정한 비용이 범위 안에 있고, 해시 시간을 타이머에 기록하는지 테스트")
+    void testCalibratesAndRecordsTime() {
+        // Given
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(meterRegistry, AdaptivePasswordEncoder.BCRYPT, 1, MIN_STRENGTH, MAX_STRENGTH, ARGON2_MEMORY_KIB);
+
+        // When
+        String encoded = encoder.encode("password");
+
+        // Then
+        assertTrue(encoder.getBcryptStrength() >= MIN_STRENGTH && encoder.getBcryptStrength() <= MAX_STRENGTH);
+        assertTrue(encoder.matches("password", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+        assertFalse(encoder.upgradeEncoding(encoded));
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("algorithm", "bcrypt").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("algorithm", "bcrypt").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    @DisplayName("비용이 낮은 기존 bcrypt 해시는 검증하되 교체 대상으로 판단하는지 테스트")
+    void testUpgradesWeakBcryptHash() {
+        // Given: 측정 결과와 상관없이 최소 비용을 5로 고정
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(meterRegistry, AdaptivePasswordEncoder.BCRYPT, 1, 5, 5, ARGON2_MEMORY_KIB);
+        String legacy = new BCryptPasswordEncoder(4).encode("password");
+
+        // Then
+        assertTrue(encoder.matches("password", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password")));
+    }
+
+    @Test
+    @DisplayName("argon2 로 설정하면 새 해시는 argon2 이고 기존 bcrypt 해시는 교체 대상인지 테스트")
+    void testArgon2() {
+        // Given
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(meterRegistry, AdaptivePasswordEncoder.ARGON2, 1, MIN_STRENGTH, MAX_STRENGTH, ARGON2_MEMORY_KIB);
+        String legacy = new BCryptPasswordEncoder(MIN_STRENGTH).encode("password");
+
+        // When
+        String encoded = encoder.encode("password");
+
+        // Then
+        assertTrue(encoded.startsWith("$argon2id$"));
+        assertTrue(encoder.matches("password", encoded));
+        assertFalse(encoder.upgradeEncoding(encoded));
+        assertTrue(encoder.matches("password", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 알고리즘은 IllegalArgumentException 테스트")
+    void testUnsupportedAlgorithm() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptivePasswordEncoder(meterRegistry, "md5", 1, MIN_STRENGTH, MAX_STRENGTH, ARGON2_MEMORY_KIB));
+    }
+}
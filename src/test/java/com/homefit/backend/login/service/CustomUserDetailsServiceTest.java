@@ -0,0 +1,75 @@
+package com.homefit.backend.login.service;
+
+import com.homefit.backend.login.entity.RoleType;
+import com.homefit.backend.login.entity.UserPrincipal;
+import com.homefit.backend.login.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CustomUserDetailsService customUserDetailsService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("검증에 쓴 해시가 그대로일 때만 새 해시로 교체하는지 테스트")
+    void testUpdatePassword() {
+        // Given
+        UserDetails user = principal("{bcrypt}old");
+        when(userRepository.updatePasswordHash("testUser", "{bcrypt}old", "{bcrypt}new")).thenReturn(1);
+
+        // When
+        UserDetails updated = customUserDetailsService.updatePassword(user, "{bcrypt}new");
+
+        // Then
+        assertEquals("{bcrypt}new", updated.getPassword());
+        assertEquals("testUser", updated.getUsername());
+    }
+
+    @Test
+    @DisplayName("검증 이후 비밀번호가 변경되었으면 교체하지 않고 기존 인증 주체를 돌려주는지 테스트")
+    void testUpdatePasswordAfterPasswordChange() {
+        // Given: 그 사이 비밀번호 변경이 커밋되어 where 조건에 맞는 행이 없음
+        UserDetails user = principal("{bcrypt}old");
+        when(userRepository.updatePasswordHash("testUser", "{bcrypt}old", "{bcrypt}new")).thenReturn(0);
+
+        // When
+        UserDetails updated = customUserDetailsService.updatePassword(user, "{bcrypt}new");
+
+        // Then
+        assertSame(user, updated);
+    }
+
+    private UserDetails principal(String passwordHash) {
+        return UserPrincipal.builder()
+                .id(1L)
+                .userName("testUser")
+                .password(passwordHash)
+                .role(RoleType.USER)
+                .build();
+    }
+}
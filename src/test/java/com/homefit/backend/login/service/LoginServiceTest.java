@@ -2,6 +2,7 @@ package com.homefit.backend.login.service;
 
 import com.homefit.backend.character.entity.Character;
 import com.homefit.backend.character.service.CharacterService;
+import com.homefit.backend.global.exception.model.UnauthorizedException;
 import com.homefit.backend.login.config.provider.JwtTokenProvider;
 import com.homefit.backend.login.dto.AdminDto;
 import com.homefit.backend.login.dto.LoginRequestDto;
@@ -9,9 +10,11 @@ import com.homefit.backend.login.dto.LoginResponseDto;
 import com.homefit.backend.login.dto.UserDto;
 import com.homefit.backend.login.entity.RoleType;
 import com.homefit.backend.login.entity.User;
+import com.homefit.backend.login.entity.UserPrincipal;
 import com.homefit.backend.login.repository.UserRepository;
 import com.homefit.backend.user.entity.UserInfo;
 import com.homefit.backend.user.repository.UserInfoRepository;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.*;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -21,6 +24,9 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -52,12 +58,28 @@ public class LoginServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private UserActivityWriter userActivityWriter;
+
+    @Mock
+    private PasswordHashExecutor passwordHashExecutor;
+
     private AutoCloseable closeable;
 
     @BeforeEach
     void setUp() {
         closeable = MockitoAnnotations.openMocks(this);
-        authService = new AuthService(userRepository, userInfoRepository, passwordEncoder, userService, characterService, jwtTokenProvider, authenticationManager);
+        authService = new AuthService(userRepository, userInfoRepository, passwordEncoder, userService, characterService, jwtTokenProvider, authenticationManager, userPrincipalCache, refreshTokenService, tokenRevocationService,
+                userActivityWriter, passwordHashExecutor);
     }
 
     @AfterEach
@@ -120,27 +142,26 @@ public class LoginServiceTest {
         loginRequestDto.setUserName("testUser");
         loginRequestDto.setPassword("password");
 
+        UserPrincipal principal = UserPrincipal.of(1L, "testUser", RoleType.USER);
         Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(principal);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
 
-        User user = spy(new User(1L, "testUser", "encodedPassword", RoleType.USER));
-        when(userService.findByUserName(anyString())).thenReturn(user);
-
-        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("jwtToken");
+        when(jwtTokenProvider.generateToken(principal)).thenReturn("jwtToken");
+        when(refreshTokenService.issue(1L)).thenReturn("family.secret");
 
         // Act
         LoginResponseDto result = authService.login(loginRequestDto);
 
-        // Assert
+        // Assert: 인증 과정에서 읽은 유저를 그대로 쓰고, 로그인 시각은 비동기로 기록
         assertNotNull(result);
         assertEquals(1L, result.getUserId());
         assertEquals("jwtToken", result.getJwtToken());
+        assertEquals("family.secret", result.getRefreshToken());
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userService).findByUserName(eq("testUser"));
-        verify(user).updateLoginTime();
-        verify(userRepository).save(user);
-        verify(jwtTokenProvider).generateToken(user);
+        verify(userActivityWriter).recordLogin(eq(1L), any(LocalDateTime.class));
+        verifyNoInteractions(userService, userRepository);
     }
 
     @DisplayName(value = "#03. 중복 아이디로 회원가입 실패 테스트")
@@ -196,7 +217,60 @@ public class LoginServiceTest {
 
         // Assert
         verify(userService).findByUserName(userName);
-        verify(user).updateLogoutTime();
-        verify(userRepository).save(user);
+        verify(userActivityWriter).recordLogout(eq(1L), any(LocalDateTime.class));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @DisplayName(value = "#06. 리프레시 토큰으로 재발급 성공 테스트")
+    @Test
+    @Order(6)
+    void refresh_Success() {
+        // Arrange
+        User user = new User(1L, "testUser", "encodedPassword", RoleType.USER);
+        when(refreshTokenService.rotate("family.secret")).thenReturn(new RefreshTokenService.RotatedToken(1L, "family.newSecret"));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.generateToken(user)).thenReturn("newJwtToken");
+
+        // Act
+        LoginResponseDto result = authService.refresh("family.secret");
+
+        // Assert
+        assertEquals(1L, result.getUserId());
+        assertEquals("newJwtToken", result.getJwtToken());
+        assertEquals("family.newSecret", result.getRefreshToken());
+        verifyNoInteractions(passwordEncoder, authenticationManager);
+    }
+
+    @DisplayName(value = "#07. 이미 사용했거나 없는 리프레시 토큰으로 재발급 실패 테스트")
+    @Test
+    @Order(7)
+    void refresh_InvalidToken_Failure() {
+        // Arrange
+        when(refreshTokenService.rotate(anyString())).thenReturn(null);
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> authService.refresh("family.usedSecret"));
+        verify(jwtTokenProvider, never()).generateToken(any(User.class));
+    }
+
+    @DisplayName(value = "#08. 로그아웃 시 액세스 토큰과 리프레시 토큰 폐기 테스트")
+    @Test
+    @Order(8)
+    void logout_RevokesTokens() {
+        // Arrange
+        String userName = "testUser";
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(userName);
+        when(jwtTokenProvider.parseClaims("jwtToken")).thenReturn(claims);
+        when(jwtTokenProvider.toPrincipal(claims)).thenReturn(UserPrincipal.of(1L, userName, RoleType.USER));
+
+        // Act
+        authService.logout(userName, "jwtToken", "family.secret");
+
+        // Assert: 토큰에 유저 ID 가 있으므로 유저를 조회하지 않음
+        verifyNoInteractions(userService);
+        verify(userActivityWriter).recordLogout(eq(1L), any(LocalDateTime.class));
+        verify(tokenRevocationService).revoke(claims);
+        verify(refreshTokenService).revoke("family.secret");
     }
-}
\ No newline at end of file
+}
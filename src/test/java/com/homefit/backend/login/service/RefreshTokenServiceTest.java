@@ -0,0 +1,98 @@
+package com.homefit.backend.login.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RefreshTokenServiceTest {
+
+    private static final String USER_FAMILIES_KEY = "auth:refresh-user:1";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = freePort();
+        redisServer = RedisServer.builder().port(port).setting("save \"\"").build();
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(redisTemplate, 60_000);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("교체된 토큰을 다시 쓰면 family 를 폐기하고 유저의 family 목록에서도 빼는지 테스트")
+    void testReuseRemovesFamily() {
+        // Given
+        String first = refreshTokenService.issue(1L);
+        RefreshTokenService.RotatedToken rotated = refreshTokenService.rotate(first);
+
+        // When: 이미 교체된 토큰 재사용
+        RefreshTokenService.RotatedToken reused = refreshTokenService.rotate(first);
+
+        // Then
+        assertEquals(1L, rotated.getUserId());
+        assertNull(reused);
+        assertNull(refreshTokenService.rotate(rotated.getRefreshToken()));
+        assertEquals(Set.of(), redisTemplate.opsForSet().members(USER_FAMILIES_KEY));
+    }
+
+    @Test
+    @DisplayName("로그아웃한 family 는 목록에서 빠지고, 만료된 family 는 다음 로그인 때 정리되는지 테스트")
+    void testRevokeAndPrune() {
+        // Given
+        String loggedOut = refreshTokenService.issue(1L);
+        String expired = refreshTokenService.issue(1L);
+        redisTemplate.delete("auth:refresh:" + familyId(expired)); // TTL 만료와 같은 상태
+
+        // When
+        refreshTokenService.revoke(loggedOut);
+        String current = refreshTokenService.issue(1L);
+
+        // Then
+        assertEquals(Set.of(familyId(current)), redisTemplate.opsForSet().members(USER_FAMILIES_KEY));
+        assertNull(refreshTokenService.rotate(loggedOut));
+    }
+
+    private static String familyId(String refreshToken) {
+        return refreshToken.substring(0, refreshToken.indexOf('.'));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
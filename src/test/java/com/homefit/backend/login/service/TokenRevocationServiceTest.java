@@ -0,0 +1,60 @@
+package com.homefit.backend.login.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class TokenRevocationServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private TokenRevocationService tokenRevocationService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        tokenRevocationService = new TokenRevocationService(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("채널 구독이 확인되면 구독 전에 놓친 폐기 목록을 Redis 에서 다시 읽는지 테스트")
+    void testReloadsOnSubscribe() {
+        // Given: 시작 시에는 비어 있었고, 구독 전에 다른 노드가 토큰을 폐기한 상태
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn("auth:revoked:missed");
+        when(redisTemplate.getExpire("auth:revoked:missed", TimeUnit.MILLISECONDS)).thenReturn(60_000L);
+        assertFalse(tokenRevocationService.isRevoked("missed"));
+
+        // When
+        tokenRevocationService.onChannelSubscribed(TokenRevocationService.CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+        // Then
+        assertTrue(tokenRevocationService.isRevoked("missed"));
+        assertFalse(tokenRevocationService.isRevoked("other"));
+    }
+}
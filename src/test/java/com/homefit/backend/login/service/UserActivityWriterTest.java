@@ -0,0 +1,86 @@
+package com.homefit.backend.login.service;
+
+import com.homefit.backend.login.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class UserActivityWriterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserActivityWriter writer;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        // 주기적 flush 가 테스트 중에 끼어들지 않도록 간격을 길게 설정
+        writer = new UserActivityWriter(userRepository, transactionManager, meterRegistry, 60_000, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        writer.shutdown();
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 로그인 시각은 가장 최근 값 하나로 합쳐 반영하는지 테스트")
+    void testCoalescesLatestTimes() {
+        // Given
+        LocalDateTime first = LocalDateTime.of(2024, 9, 11, 9, 0);
+        LocalDateTime second = first.plusMinutes(5);
+        writer.recordLogin(1L, second);
+        writer.recordLogin(1L, first);
+        writer.recordLogout(1L, first.plusMinutes(1));
+
+        // When
+        writer.flush();
+
+        // Then
+        verify(userRepository, times(1)).updateLastLoginTime(1L, second);
+        verify(userRepository, times(1)).updateLastLogoutTime(1L, first.plusMinutes(1));
+        assertEquals(0.0, meterRegistry.get("auth.activity.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 다음 flush 때 재시도하고, 대기 유저가 가득 차면 버리는지 테스트")
+    void testRetriesAndDrops() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2024, 9, 11, 9, 0);
+        writer.recordLogin(1L, time);
+        writer.recordLogin(2L, time);
+        writer.recordLogin(3L, time);
+        when(userRepository.updateLastLoginTime(anyLong(), any())).thenThrow(new RuntimeException("db down")).thenReturn(1);
+
+        // When
+        writer.flush();
+        writer.flush();
+
+        // Then: 최대 2명만 기록, 실패한 배치는 다시 반영
+        assertEquals(1.0, meterRegistry.get("auth.activity.dropped").counter().count());
+        verify(userRepository, never()).updateLastLoginTime(3L, time);
+        verify(userRepository, atLeast(3)).updateLastLoginTime(anyLong(), eq(time));
+    }
+}
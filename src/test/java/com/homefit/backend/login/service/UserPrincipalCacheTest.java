@@ -0,0 +1,87 @@
+package com.homefit.backend.login.service;
+
+import com.homefit.backend.login.entity.RoleType;
+import com.homefit.backend.login.entity.User;
+import com.homefit.backend.login.entity.UserPrincipal;
+import com.homefit.backend.login.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class UserPrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserPrincipalCache userPrincipalCache;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        userPrincipalCache = new UserPrincipalCache(userRepository, new SimpleMeterRegistry(), true, 100, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("TTL 동안은 DB 를 다시 조회하지 않고 DB 의 현재 역할을 사용하는지 테스트")
+    void testCachesCurrentRole() {
+        // Given: 토큰은 USER 로 발급됐지만 DB 에서는 ADMIN
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new User(1L, "testUser", "encoded", RoleType.ADMIN)));
+        UserPrincipal tokenPrincipal = UserPrincipal.of(1L, "testUser", RoleType.USER);
+        Date issuedAt = new Date(System.currentTimeMillis() + 1000);
+
+        // When
+        UserPrincipal first = userPrincipalCache.verify(tokenPrincipal, issuedAt);
+        UserPrincipal second = userPrincipalCache.verify(tokenPrincipal, issuedAt);
+
+        // Then
+        assertEquals(RoleType.ADMIN, first.getRole());
+        assertSame(first, second);
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 전에 발급된 토큰과 없는 유저는 거부하는지 테스트")
+    void testRejectsStaleTokenAndMissingUser() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new User(1L, "testUser", "encoded", RoleType.USER)));
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // Then
+        assertNull(userPrincipalCache.verify(UserPrincipal.of(1L, "testUser", RoleType.USER), new Date(System.currentTimeMillis() - 60_000)));
+        assertNull(userPrincipalCache.verify(UserPrincipal.of(2L, "removedUser", RoleType.USER), new Date()));
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 요청에서 DB 를 다시 조회하는지 테스트")
+    void testInvalidate() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new User(1L, "testUser", "encoded", RoleType.USER)));
+        UserPrincipal tokenPrincipal = UserPrincipal.of(1L, "testUser", RoleType.USER);
+        Date issuedAt = new Date(System.currentTimeMillis() + 1000);
+        userPrincipalCache.verify(tokenPrincipal, issuedAt);
+
+        // When
+        userPrincipalCache.invalidate(1L);
+        userPrincipalCache.verify(tokenPrincipal, issuedAt);
+
+        // Then
+        verify(userRepository, times(2)).findById(1L);
+    }
+}
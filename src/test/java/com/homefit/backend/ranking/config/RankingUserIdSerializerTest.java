@@ -0,0 +1,51 @@
+package com.homefit.backend.ranking.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RankingUserIdSerializerTest {
+
+    private final RankingUserIdSerializer decimal = new RankingUserIdSerializer(RankingUserIdSerializer.Encoding.DECIMAL);
+    private final RankingUserIdSerializer binary = new RankingUserIdSerializer(RankingUserIdSerializer.Encoding.BINARY);
+
+    @Test
+    @DisplayName("decimal 인코딩은 기존 문자열 member 와 같은 바이트를 만드는지 테스트")
+    void testDecimalMatchesStringMember() {
+        for (long userId : new long[]{0, 7, 10, 123456789L, Long.MAX_VALUE, -42}) {
+            byte[] bytes = decimal.serialize(userId);
+            assertArrayEquals(String.valueOf(userId).getBytes(StandardCharsets.UTF_8), bytes);
+            assertEquals(userId, decimal.deserialize(bytes));
+        }
+        assertThrows(SerializationException.class, () -> decimal.deserialize("12a".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("decimal 인코딩은 Long 범위를 넘는 19자리 값을 예외로 처리하는지 테스트")
+    void testDecimalOverflow() {
+        assertEquals(Long.MIN_VALUE, decimal.deserialize(decimal.serialize(Long.MIN_VALUE)));
+        assertEquals(Long.MAX_VALUE, decimal.deserialize("9223372036854775807".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(SerializationException.class, () -> decimal.deserialize("9223372036854775808".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(SerializationException.class, () -> decimal.deserialize("9999999999999999999".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(SerializationException.class, () -> decimal.deserialize("-9223372036854775809".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("binary 인코딩은 8바이트이고 바이트 순서가 유저 ID 순서와 같은지 테스트")
+    void testBinaryRoundTripAndOrder() {
+        byte[] small = binary.serialize(255L);
+        byte[] large = binary.serialize(256L);
+
+        assertEquals(8, small.length);
+        assertEquals(255L, binary.deserialize(small));
+        assertEquals(Long.MAX_VALUE, binary.deserialize(binary.serialize(Long.MAX_VALUE)));
+        assertTrue(Arrays.compareUnsigned(small, large) < 0);
+        assertThrows(SerializationException.class, () -> binary.deserialize(new byte[]{1, 2, 3}));
+        assertNull(binary.serialize(null));
+    }
+}
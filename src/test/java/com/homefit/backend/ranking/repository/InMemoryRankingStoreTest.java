@@ -0,0 +1,168 @@
+package com.homefit.backend.ranking.repository;
+
+import com.homefit.backend.ranking.util.RankingWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryRankingStoreTest {
+
+    private static final String KEY = "user_ranking:daily:20240911";
+
+    private InMemoryRankingStore rankingStore;
+
+    @BeforeEach
+    void setUp() {
+        rankingStore = new InMemoryRankingStore();
+    }
+
+    @Test
+    @DisplayName("점수 내림차순, 동점이면 유저 ID 내림차순으로 등수와 범위를 조회하는지 테스트")
+    void testRankAndRange() {
+        // Given
+        rankingStore.addUserScore(1L, 10L, KEY);
+        rankingStore.addUserScore(2L, 20L, KEY);
+        rankingStore.addUserScore(3L, 15L, KEY);
+        rankingStore.addUserScore(4L, 15L, KEY);
+        rankingStore.addUserScore(1L, 30L, KEY);
+
+        // Then
+        assertEquals(List.of("1", "2", "4", "3"), new ArrayList<>(rankingStore.getTopUsers(KEY, 10)));
+        assertEquals(0L, rankingStore.getUserRank(KEY, 1L));
+        assertEquals(3L, rankingStore.getUserRank(KEY, 3L));
+        assertEquals(40.0, rankingStore.getUserScore(KEY, 1L));
+        assertEquals(4L, rankingStore.getUserCount(KEY));
+        assertNull(rankingStore.getUserRank(KEY, 5L));
+
+        List<Object> page = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<Object> tuple : rankingStore.getTopUsersWithScores(KEY, 1, 2)) {
+            page.add(tuple.getValue());
+        }
+        assertEquals(List.of("2", "4"), page);
+    }
+
+    @Test
+    @DisplayName("무작위 갱신 후에도 등수와 범위 조회가 정렬 결과와 일치하는지 테스트")
+    void testMatchesSortedModel() {
+        // Given
+        Random random = new Random(42);
+        Map<String, Double> model = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            long userId = random.nextInt(1_000);
+            long delta = random.nextInt(10);
+            rankingStore.addUserScore(userId, delta, KEY);
+            model.merge(String.valueOf(userId), (double) delta, Double::sum);
+        }
+        List<String> sorted = new ArrayList<>(model.keySet());
+        sorted.sort((a, b) -> {
+            int c = Double.compare(model.get(b), model.get(a));
+            return c != 0 ? c : b.compareTo(a);
+        });
+
+        // Then
+        for (int rank = 0; rank < sorted.size(); rank++) {
+            assertEquals(rank, rankingStore.getUserRank(KEY, Long.valueOf(sorted.get(rank))));
+        }
+        List<Object> range = new ArrayList<>();
+        rankingStore.getTopUsersWithScores(KEY, 100, 50).forEach(tuple -> range.add(tuple.getValue()));
+        assertEquals(sorted.subList(100, 150), range);
+
+        // 상위 10명만 남기기
+        assertEquals(sorted.size() - 10L, rankingStore.trimToTop(KEY, 10));
+        assertEquals(new ArrayList<>(sorted.subList(0, 10)), new ArrayList<>(rankingStore.getTopUsers(KEY, 100)));
+    }
+
+    @Test
+    @DisplayName("유저의 등수와 앞뒤 radius 명을 함께 조회하는지 테스트")
+    void testUsersAround() {
+        // Given: 유저 1~10 이 1~10점 (10번 유저가 1등)
+        for (long userId = 1; userId <= 10; userId++) {
+            rankingStore.addUserScore(userId, userId, KEY);
+        }
+
+        // When
+        RankingNeighbourhood middle = rankingStore.getUsersAround(KEY, 5L, 2);
+        RankingNeighbourhood top = rankingStore.getUsersAround(KEY, 10L, 2);
+
+        // Then
+        assertEquals(5L, middle.getRank());
+        assertEquals(10L, middle.getTotalUsers());
+        assertEquals(3L, middle.getOffset());
+        List<Object> users = new ArrayList<>();
+        middle.getUsers().forEach(tuple -> users.add(tuple.getValue()));
+        assertEquals(List.of("7", "6", "5", "4", "3"), users);
+
+        assertEquals(0L, top.getOffset());
+        assertEquals(3, top.getUsers().size());
+        assertEquals(10.0, top.getUsers().get(0).getScore());
+        assertNull(rankingStore.getUsersAround(KEY, 11L, 2));
+    }
+
+    @Test
+    @DisplayName("없는 주간 key 는 일간 버킷을 합쳐 만들고, 이후에는 증가분만 더하는지 테스트")
+    void testMaterializedWindow() {
+        // Given: 같은 주 어제 버킷에 점수가 있는 상태
+        LocalDate today = LocalDate.now().with(DayOfWeek.WEDNESDAY);
+        rankingStore.addUserScore(1L, 3L, RankingWindow.dayOf(today.minusDays(1)).getRankingKey());
+        RankingWindow week = RankingWindow.weekOf(today);
+
+        // When
+        rankingStore.addUserScores(Map.of(1L, 5L, 2L, 1L), RankingWindow.dayOf(today), List.of(week));
+        rankingStore.addUserScores(Map.of(1L, 5L), RankingWindow.dayOf(today), List.of(week));
+
+        // Then
+        assertEquals(13.0, rankingStore.getUserScore(week.getRankingKey(), 1L));
+        assertEquals(1.0, rankingStore.getUserScore(week.getRankingKey(), 2L));
+        assertEquals(10.0, rankingStore.getUserScore(RankingWindow.dayOf(today).getRankingKey(), 1L));
+        assertEquals(List.of(RankingWindow.dayOf(today.minusDays(1)).getRankingKey()), rankingStore.findKeysWithoutExpiry("user_ranking:*"));
+    }
+
+    @Test
+    @DisplayName("합친 key 는 TTL 이 지나면 사라지는지 테스트")
+    void testUnionStoreExpires() throws InterruptedException {
+        // Given
+        rankingStore.addUserScore(1L, 3L, "a");
+        rankingStore.addUserScore(1L, 4L, "b");
+
+        // When
+        rankingStore.unionStore("ab", List.of("a", "b"), 50);
+
+        // Then
+        assertEquals(7.0, rankingStore.getUserScore("ab", 1L));
+        Thread.sleep(100);
+        assertEquals(0L, rankingStore.getUserCount("ab"));
+    }
+
+    @Test
+    @DisplayName("잠금은 token 이 같을 때만 풀리고, TTL 이 지나면 다른 token 으로 다시 잡히는지 테스트")
+    void testLock() throws InterruptedException {
+        // Given
+        assertTrue(rankingStore.tryLock("lock:test", "a", 50));
+
+        // When
+        boolean lockedByOther = rankingStore.tryLock("lock:test", "b", 50);
+        rankingStore.unlock("lock:test", "b");
+        boolean stillLocked = !rankingStore.tryLock("lock:test", "c", 50);
+        Thread.sleep(100);
+
+        // Then
+        assertFalse(lockedByOther);
+        assertTrue(stillLocked);
+        assertTrue(rankingStore.tryLock("lock:test", "b", 50));
+        rankingStore.unlock("lock:test", "a");
+        assertFalse(rankingStore.tryLock("lock:test", "c", 50));
+        rankingStore.unlock("lock:test", "b");
+        assertTrue(rankingStore.tryLock("lock:test", "c", 50));
+    }
+}
@@ -0,0 +1,89 @@
+package com.homefit.backend.ranking.repository;
+
+import com.homefit.backend.ranking.config.RankingRedisConfig;
+import com.homefit.backend.ranking.config.RankingUserIdSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// reactive 템플릿이 동기 템플릿과 같은 member 인코딩으로 읽고 쓰는지 embedded Redis 에서 확인
+public class ReactiveRedisRankingReaderTest {
+
+    private static final String KEY = "user_ranking:daily:20240911";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Long> redisTemplate;
+    private static RedisRankingStore rankingStore;
+    private static ReactiveRedisRankingReader rankingReader;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = freePort();
+        redisServer = RedisServer.builder().port(port).setting("save \"\"").build();
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        RankingRedisConfig config = new RankingRedisConfig();
+        RankingUserIdSerializer serializer = config.rankingUserIdSerializer("binary");
+        redisTemplate = config.rankingRedisTemplate(connectionFactory, serializer);
+        redisTemplate.afterPropertiesSet();
+        rankingStore = new RedisRankingStore(redisTemplate, serializer);
+        rankingReader = new ReactiveRedisRankingReader(config.rankingReactiveRedisTemplate(connectionFactory, serializer));
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("동기 저장소로 쓴 점수를 reactive 로 조회하고, reactive 로 더한 점수가 동기 저장소에 보이는지 테스트")
+    void testReadAndIncrement() {
+        // Given
+        rankingStore.addUserScore(1L, 10L, KEY);
+        rankingStore.addUserScore(2L, 20L, KEY);
+        rankingStore.addUserScore(3L, 15L, KEY);
+
+        // When
+        Double incremented = rankingReader.addUserScore(KEY, 1L, 30.0).block();
+        List<ZSetOperations.TypedTuple<Long>> top = rankingReader.getTopUsersWithScores(KEY, 1, 2).collectList().block();
+
+        // Then
+        assertEquals(40.0, incremented);
+        assertEquals(40.0, rankingStore.getUserScore(KEY, 1L));
+        assertEquals(List.of(2L, 3L), top.stream().map(ZSetOperations.TypedTuple::getValue).toList());
+        assertEquals(0L, rankingReader.getUserRank(KEY, 1L).block());
+        assertEquals(15.0, rankingReader.getUserScore(KEY, 3L).block());
+        assertNull(rankingReader.getUserRank(KEY, 4L).block());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.homefit.backend.ranking.repository;
+
+import com.homefit.backend.ranking.config.RankingRedisConfig;
+import com.homefit.backend.ranking.config.RankingUserIdSerializer;
+import com.homefit.backend.ranking.util.RankingWindow;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// InMemoryRankingStoreTest 와 같은 계약을 embedded Redis 에서 확인 (스크립트와 RENAME 교체 포함)
+public class RedisRankingStoreTest {
+
+    private static final String KEY = "user_ranking:daily:20240911";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Long> redisTemplate;
+    private static RedisRankingStore rankingStore;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = freePort();
+        redisServer = RedisServer.builder().port(port).setting("save \"\"").build();
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        RankingRedisConfig config = new RankingRedisConfig();
+        RankingUserIdSerializer serializer = config.rankingUserIdSerializer("decimal");
+        redisTemplate = config.rankingRedisTemplate(connectionFactory, serializer);
+        redisTemplate.afterPropertiesSet();
+        rankingStore = new RedisRankingStore(redisTemplate, serializer);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("점수 내림차순, 동점이면 유저 ID 내림차순으로 등수와 범위를 조회하는지 테스트")
+    void testRankAndRange() {
+        // Given
+        rankingStore.addUserScore(1L, 10L, KEY);
+        rankingStore.addUserScore(2L, 20L, KEY);
+        rankingStore.addUserScore(3L, 15L, KEY);
+        rankingStore.addUserScore(4L, 15L, KEY);
+        rankingStore.addUserScore(1L, 30L, KEY);
+
+        // Then
+        assertEquals(List.of("1", "2", "4", "3"), new ArrayList<>(rankingStore.getTopUsers(KEY, 10)));
+        assertEquals(0L, rankingStore.getUserRank(KEY, 1L));
+        assertEquals(3L, rankingStore.getUserRank(KEY, 3L));
+        assertEquals(40.0, rankingStore.getUserScore(KEY, 1L));
+        assertEquals(4L, rankingStore.getUserCount(KEY));
+        assertNull(rankingStore.getUserRank(KEY, 5L));
+        assertEquals(List.of(2L, 4L), userIds(rankingStore.getTopUsersWithScores(KEY, 1, 2)));
+    }
+
+    @Test
+    @DisplayName("유저의 등수와 앞뒤 radius 명을 함께 조회하는지 테스트 (AROUND_SCRIPT)")
+    void testUsersAround() {
+        // Given: 유저 1~10 이 1~10점 (10번 유저가 1등)
+        for (long userId = 1; userId <= 10; userId++) {
+            rankingStore.addUserScore(userId, userId, KEY);
+        }
+
+        // When
+        RankingNeighbourhood middle = rankingStore.getUsersAround(KEY, 5L, 2);
+        RankingNeighbourhood top = rankingStore.getUsersAround(KEY, 10L, 2);
+
+        // Then
+        assertEquals(5L, middle.getRank());
+        assertEquals(10L, middle.getTotalUsers());
+        assertEquals(3L, middle.getOffset());
+        assertEquals(List.of(7L, 6L, 5L, 4L, 3L), userIds(middle.getUsers()));
+
+        assertEquals(0L, top.getOffset());
+        assertEquals(3, top.getUsers().size());
+        assertEquals(10.0, top.getUsers().get(0).getScore());
+        assertNull(rankingStore.getUsersAround(KEY, 11L, 2));
+    }
+
+    @Test
+    @DisplayName("없는 주간 key 는 일간 버킷을 합쳐 만들고, 이후에는 증가분만 더하는지 테스트 (INCREMENT_SCRIPT)")
+    void testMaterializedWindow() {
+        // Given: 같은 주 어제 버킷에 점수가 있는 상태
+        LocalDate today = LocalDate.now().with(DayOfWeek.WEDNESDAY);
+        rankingStore.addUserScore(1L, 3L, RankingWindow.dayOf(today.minusDays(1)).getRankingKey());
+        RankingWindow week = RankingWindow.weekOf(today);
+
+        // When
+        rankingStore.addUserScores(Map.of(1L, 5L, 2L, 1L), RankingWindow.dayOf(today), List.of(week));
+        rankingStore.addUserScores(Map.of(1L, 5L), RankingWindow.dayOf(today), List.of(week));
+
+        // Then
+        assertEquals(13.0, rankingStore.getUserScore(week.getRankingKey(), 1L));
+        assertEquals(1.0, rankingStore.getUserScore(week.getRankingKey(), 2L));
+        assertEquals(10.0, rankingStore.getUserScore(RankingWindow.dayOf(today).getRankingKey(), 1L));
+        assertEquals(List.of(RankingWindow.dayOf(today.minusDays(1)).getRankingKey()), rankingStore.findKeysWithoutExpiry("user_ranking:*"));
+    }
+
+    @Test
+    @DisplayName("key 별 증가분을 반영하고, 음수 증가분으로 0 이하가 된 유저는 제거하는지 테스트 (INCREMENT_SCRIPT)")
+    void testIncrementScores() {
+        // Given
+        long expireAtMillis = System.currentTimeMillis() + 60_000;
+        rankingStore.incrementScores(Map.of(KEY, Map.of(1L, 20.0, 2L, 10.0)), Map.of(KEY, expireAtMillis));
+
+        // When
+        rankingStore.incrementScores(Map.of(KEY, Map.of(1L, -5.0, 2L, -10.0)), Map.of(KEY, expireAtMillis));
+
+        // Then
+        assertEquals(15.0, rankingStore.getUserScore(KEY, 1L));
+        assertNull(rankingStore.getUserScore(KEY, 2L));
+        assertEquals(1L, rankingStore.getUserCount(KEY));
+        assertTrue(rankingStore.findKeysWithoutExpiry("user_ranking:*").isEmpty());
+    }
+
+    @Test
+    @DisplayName("점수 전체를 임시 key 에 채운 뒤 교체하고, 빈 점수면 key 를 지우는지 테스트 (replaceScores)")
+    void testReplaceScores() {
+        // Given
+        String emptyKey = "user_ranking:daily:20240912";
+        rankingStore.addUserScore(1L, 10L, KEY);
+        rankingStore.addUserScore(2L, 20L, KEY);
+        rankingStore.addUserScore(3L, 5L, emptyKey);
+        long expireAtMillis = System.currentTimeMillis() + 60_000;
+        Map<String, Map<Long, Double>> scoresByKey = new HashMap<>();
+        scoresByKey.put(KEY, Map.of(2L, 7.0, 4L, 9.0));
+        scoresByKey.put(emptyKey, Map.of());
+
+        // When
+        rankingStore.replaceScores(scoresByKey, Map.of(KEY, expireAtMillis, emptyKey, expireAtMillis));
+
+        // Then: 이전 유저 1 은 사라지고 새 점수만 남음, 임시 key 는 남지 않음
+        assertEquals(List.of(4L, 2L), userIds(rankingStore.getTopUsersWithScores(KEY, 0, 10)));
+        assertNull(rankingStore.getUserScore(KEY, 1L));
+        assertEquals(0L, rankingStore.getUserCount(emptyKey));
+        assertEquals(Set.of(KEY), redisTemplate.keys("user_ranking:*"));
+        assertTrue(rankingStore.findKeysWithoutExpiry("user_ranking:*").isEmpty());
+    }
+
+    @Test
+    @DisplayName("합친 key 는 이미 있으면 그대로 두고, TTL 이 지나면 사라지는지 테스트 (UNION_STORE_SCRIPT)")
+    void testUnionStoreExpires() throws InterruptedException {
+        // Given
+        rankingStore.addUserScore(1L, 3L, "a");
+        rankingStore.addUserScore(1L, 4L, "b");
+
+        // When
+        rankingStore.unionStore("ab", List.of("a", "b"), 200);
+        rankingStore.addUserScore(1L, 10L, "a");
+        rankingStore.unionStore("ab", List.of("a", "b"), 200);
+
+        // Then
+        assertEquals(7.0, rankingStore.getUserScore("ab", 1L));
+        Thread.sleep(300);
+        assertEquals(0L, rankingStore.getUserCount("ab"));
+    }
+
+    @Test
+    @DisplayName("SET NX PX 잠금은 token 이 같을 때만 풀리고, TTL 이 지나면 다시 잡히는지 테스트")
+    void testLock() throws InterruptedException {
+        // Given
+        assertTrue(rankingStore.tryLock("lock:test", "a", 200));
+
+        // When
+        boolean lockedByOther = rankingStore.tryLock("lock:test", "b", 200);
+        rankingStore.unlock("lock:test", "b");
+        boolean stillLocked = !rankingStore.tryLock("lock:test", "c", 200);
+        Thread.sleep(300);
+
+        // Then
+        assertFalse(lockedByOther);
+        assertTrue(stillLocked);
+        assertTrue(rankingStore.tryLock("lock:test", "b", 60_000));
+        rankingStore.unlock("lock:test", "b");
+        assertTrue(rankingStore.tryLock("lock:test", "c", 60_000));
+    }
+
+    private static List<Long> userIds(Iterable<ZSetOperations.TypedTuple<Object>> tuples) {
+        List<Long> userIds = new ArrayList<>();
+        tuples.forEach(tuple -> userIds.add(RankingStore.toUserId(tuple.getValue())));
+        return userIds;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.exerciselog.event.ExerciseLogCreatedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogDeletedEvent;
+import com.homefit.backend.exerciselog.event.ExerciseLogUpdatedEvent;
+import com.homefit.backend.ranking.repository.InMemoryRankingStore;
+import com.homefit.backend.ranking.repository.RankingStore;
+import com.homefit.backend.ranking.util.RankingKeyUtil;
+import com.homefit.backend.ranking.util.RankingMetric;
+import com.homefit.backend.ranking.util.RankingWindow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+public class ExerciseRankingUpdaterTest {
+
+    private InMemoryRankingStore rankingStore;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ExerciseRankingUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        rankingStore = new InMemoryRankingStore();
+        meterRegistry = new SimpleMeterRegistry();
+        // 주기적 flush 가 테스트 중에 끼어들지 않도록 간격을 길게 설정
+        updater = new ExerciseRankingUpdater(rankingStore, meterRegistry, 60_000, 3, 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        updater.shutdown();
+    }
+
+    @Test
+    @DisplayName("운동 기록을 모아 운동별, 카테고리별 횟수와 칼로리 랭킹에 반영하는지 테스트")
+    void testFlushUpdatesExerciseAndCategoryRankings() {
+        // Given: 같은 카테고리(2)의 두 운동(7, 8) 기록
+        LocalDate today = LocalDate.now();
+        updater.enqueue(new ExerciseLogCreatedEvent(1L, 100L, 7L, 2L, "Pushup", today, 20, 50.0));
+        updater.enqueue(new ExerciseLogCreatedEvent(2L, 100L, 8L, 2L, "Squat", today, 10, 30.5));
+        updater.enqueue(new ExerciseLogCreatedEvent(3L, 200L, 7L, null, "Pushup", today, 15, null));
+
+        // flush 전에는 반영되지 않음
+        RankingWindow week = RankingWindow.weekOf(today);
+        String exerciseCountKey = RankingKeyUtil.getExerciseRankingKey(7L, RankingMetric.COUNT, week);
+        assertEquals(0L, rankingStore.getUserCount(exerciseCountKey));
+
+        // When
+        updater.flush();
+
+        // Then
+        assertEquals(20.0, rankingStore.getUserScore(exerciseCountKey, 100L));
+        assertEquals(15.0, rankingStore.getUserScore(exerciseCountKey, 200L));
+        assertEquals(30.0, rankingStore.getUserScore(RankingKeyUtil.getCategoryRankingKey(2L, RankingMetric.COUNT, RankingWindow.dayOf(today)), 100L));
+        assertEquals(80.5, rankingStore.getUserScore(RankingKeyUtil.getCategoryRankingKey(2L, RankingMetric.CALORIES, RankingWindow.monthOf(today)), 100L));
+        // 칼로리가 없는 기록은 칼로리 랭킹에 넣지 않음
+        assertNull(rankingStore.getUserScore(RankingKeyUtil.getExerciseRankingKey(7L, RankingMetric.CALORIES, week), 200L));
+        assertTrue(rankingStore.findKeysWithoutExpiry("user_ranking:*").isEmpty());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 새 기록은 버리고 개수를 기록하는지 테스트")
+    void testDropsWhenQueueIsFull() {
+        // Given
+        LocalDate today = LocalDate.now();
+        for (long id = 1; id <= 5; id++) {
+            updater.enqueue(new ExerciseLogCreatedEvent(id, id, 7L, 2L, "Pushup", today, 10, 10.0));
+        }
+
+        // When
+        updater.flush();
+
+        // Then: 최대 3건만 반영
+        assertEquals(3L, rankingStore.getUserCount(RankingKeyUtil.getExerciseRankingKey(7L, RankingMetric.COUNT, RankingWindow.dayOf(today))));
+        assertEquals(2.0, meterRegistry.get("ranking.exercise.dropped").counter().count());
+        assertEquals(0.0, meterRegistry.get("ranking.exercise.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("수정된 기록은 이전 값을 빼고 새 값을 더하며, 삭제된 기록의 유저는 랭킹에서 빠지는지 테스트")
+    void testUpdateAndDeleteApplyNegativeDeltas() {
+        // Given
+        LocalDate today = LocalDate.now();
+        RankingWindow day = RankingWindow.dayOf(today);
+        ExerciseLogCreatedEvent pushup = new ExerciseLogCreatedEvent(1L, 100L, 7L, 2L, "Pushup", today, 20, 50.0);
+        ExerciseLogCreatedEvent other = new ExerciseLogCreatedEvent(2L, 200L, 7L, 2L, "Pushup", today, 10, 30.0);
+        updater.enqueue(pushup);
+        updater.enqueue(other);
+        updater.flush();
+
+        // When: 100 의 기록을 20회 -> 5회로 수정, 200 의 기록은 삭제
+        updater.enqueue(new ExerciseLogUpdatedEvent(pushup, new ExerciseLogCreatedEvent(1L, 100L, 7L, 2L, "Pushup", today, 5, 50.0)));
+        updater.enqueue(new ExerciseLogDeletedEvent(other));
+        updater.flush();
+
+        // Then
+        String exerciseCountKey = RankingKeyUtil.getExerciseRankingKey(7L, RankingMetric.COUNT, day);
+        assertEquals(5.0, rankingStore.getUserScore(exerciseCountKey, 100L));
+        assertEquals(50.0, rankingStore.getUserScore(RankingKeyUtil.getExerciseRankingKey(7L, RankingMetric.CALORIES, day), 100L));
+        assertNull(rankingStore.getUserScore(exerciseCountKey, 200L));
+        assertNull(rankingStore.getUserScore(RankingKeyUtil.getCategoryRankingKey(2L, RankingMetric.CALORIES, RankingWindow.weekOf(today)), 200L));
+        assertEquals(1L, rankingStore.getUserCount(exerciseCountKey));
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 배치는 다시 보내지 않고 실패 건수만 기록하는지 테스트")
+    void testFailedBatchIsNotRetried() {
+        // Given
+        RankingStore failingStore = mock(RankingStore.class);
+        doThrow(new RuntimeException("redis down")).when(failingStore).incrementScores(anyMap(), anyMap());
+        SimpleMeterRegistry failingRegistry = new SimpleMeterRegistry();
+        ExerciseRankingUpdater failingUpdater = new ExerciseRankingUpdater(failingStore, failingRegistry, 60_000, 3, 7);
+        LocalDate today = LocalDate.now();
+        failingUpdater.enqueue(new ExerciseLogCreatedEvent(1L, 100L, 7L, 2L, "Pushup", today, 20, 50.0));
+        failingUpdater.enqueue(new ExerciseLogDeletedEvent(new ExerciseLogCreatedEvent(2L, 200L, 7L, 2L, "Pushup", today, 10, 30.0)));
+
+        // When
+        failingUpdater.flush();
+        failingUpdater.flush();
+        failingUpdater.shutdown();
+
+        // Then: 일부 key 만 반영됐을 수 있으므로 재시도하지 않음
+        verify(failingStore, times(1)).incrementScores(anyMap(), anyMap());
+        assertEquals(2.0, failingRegistry.get("ranking.exercise.failed").counter().count());
+        assertEquals(0.0, failingRegistry.get("ranking.exercise.pending").gauge().value());
+    }
+}
@@ -0,0 +1,157 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.ranking.repository.RankingStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class RankingNearCacheTest {
+
+    private static final String KEY = "user_ranking:daily:20240911";
+
+    @Mock
+    private RankingStore rankingStore;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RankingNearCache nearCache;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache = new RankingNearCache(rankingStore, meterRegistry, 2, 60_000);
+
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new LinkedHashSet<>();
+        tuples.add(new DefaultTypedTuple<>("2", 20.0));
+        tuples.add(new DefaultTypedTuple<>("3", 15.0));
+        when(rankingStore.getTopUsersWithScores(KEY, 0, 2)).thenReturn(tuples);
+        when(rankingStore.getUserCount(KEY)).thenReturn(3L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("TTL 동안은 Redis 를 다시 조회하지 않고, 무효화하면 다시 로딩하는지 테스트")
+    void testHitAndInvalidate() {
+        // When
+        RankingNearCache.Snapshot first = nearCache.get(KEY);
+        RankingNearCache.Snapshot second = nearCache.get(KEY);
+        nearCache.invalidate(List.of(KEY));
+        nearCache.get(KEY);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(List.of(2L, 3L), first.getUserIds(0, 10));
+        assertEquals(1, first.indexOf(3L));
+        assertNull(first.indexOf(1L));
+        assertFalse(first.isComplete());
+        verify(rankingStore, times(2)).getTopUsersWithScores(KEY, 0, 2);
+        assertEquals(1.0, meterRegistry.get("ranking.near_cache.requests").tag("result", "hit").counter().count());
+        assertEquals(2.0, meterRegistry.get("ranking.near_cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("동시에 만료된 key 를 조회해도 Redis 는 한 번만 조회하는지 테스트")
+    void testSingleFlight() throws Exception {
+        // Given: 첫 로딩이 끝나지 않도록 대기
+        CountDownLatch release = new CountDownLatch(1);
+        Set<ZSetOperations.TypedTuple<Object>> tuples = rankingStore.getTopUsersWithScores(KEY, 0, 2);
+        reset(rankingStore);
+        when(rankingStore.getUserCount(KEY)).thenReturn(3L);
+        when(rankingStore.getTopUsersWithScores(KEY, 0, 2)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return tuples;
+        });
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<RankingNearCache.Snapshot>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> nearCache.get(KEY)));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        RankingNearCache.Snapshot snapshot = futures.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<RankingNearCache.Snapshot> future : futures) {
+            assertSame(snapshot, future.get(5, TimeUnit.SECONDS));
+        }
+        verify(rankingStore, times(1)).getTopUsersWithScores(anyString(), anyLong(), anyInt());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("로딩 중에 다른 key 를 무효화하면 결과를 캐시하고, 같은 key 를 무효화하면 캐시하지 않는지 테스트")
+    void testInvalidateOnlyAffectsSameKey() throws Exception {
+        // Given: 로딩이 Redis 조회에서 멈춰 있는 동안 무효화
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Set<ZSetOperations.TypedTuple<Object>> tuples = rankingStore.getTopUsersWithScores(KEY, 0, 2);
+        reset(rankingStore);
+        when(rankingStore.getUserCount(KEY)).thenReturn(3L);
+        when(rankingStore.getTopUsersWithScores(KEY, 0, 2)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return tuples;
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // When: 다른 key 무효화
+        Future<RankingNearCache.Snapshot> otherKeyInvalidated = executor.submit(() -> nearCache.get(KEY));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        nearCache.invalidate(List.of("user_ranking:daily:20240912"));
+        release.countDown();
+        otherKeyInvalidated.get(5, TimeUnit.SECONDS);
+        nearCache.get(KEY);
+
+        // Then: 두 번째 조회는 캐시 적중
+        verify(rankingStore, times(1)).getTopUsersWithScores(KEY, 0, 2);
+
+        // When: 같은 key 무효화
+        CountDownLatch secondLoadStarted = new CountDownLatch(1);
+        CountDownLatch secondRelease = new CountDownLatch(1);
+        when(rankingStore.getTopUsersWithScores(KEY, 0, 2)).thenAnswer(invocation -> {
+            secondLoadStarted.countDown();
+            secondRelease.await(5, TimeUnit.SECONDS);
+            return tuples;
+        });
+        nearCache.invalidate(List.of(KEY));
+        Future<RankingNearCache.Snapshot> sameKeyInvalidated = executor.submit(() -> nearCache.get(KEY));
+        assertTrue(secondLoadStarted.await(5, TimeUnit.SECONDS));
+        nearCache.invalidate(List.of(KEY));
+        secondRelease.countDown();
+        sameKeyInvalidated.get(5, TimeUnit.SECONDS);
+        nearCache.get(KEY);
+
+        // Then: 무효화 전에 읽은 결과는 캐시되지 않아 다시 로딩
+        verify(rankingStore, times(3)).getTopUsersWithScores(KEY, 0, 2);
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,114 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.exerciselog.dto.ExerciseLogScoreDto;
+import com.homefit.backend.exerciselog.repository.ExerciseLogRepository;
+import com.homefit.backend.ranking.dto.RankingRebuildResponseDto;
+import com.homefit.backend.ranking.repository.InMemoryRankingStore;
+import com.homefit.backend.ranking.util.RankingWindow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class RankingRebuildServiceTest {
+
+    @Mock
+    private ExerciseLogRepository exerciseLogRepository;
+
+    @Mock
+    private RankingNearCache rankingNearCache;
+
+    private InMemoryRankingStore rankingStore;
+
+    private RankingRebuildService rankingRebuildService;
+
+    private AutoCloseable closeable;
+
+    // 지난주 수요일, 목요일 (주간 key 가 기간 안에 온전히 들어가도록 지난주 기준)
+    private final LocalDate wednesday = LocalDate.now().minusWeeks(1).with(DayOfWeek.WEDNESDAY);
+    private final LocalDate thursday = wednesday.plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        rankingStore = new InMemoryRankingStore();
+        rankingRebuildService = new RankingRebuildService(exerciseLogRepository, rankingStore, rankingNearCache);
+
+        when(exerciseLogRepository.streamScoresByDateBetween(any(), any())).thenAnswer(invocation -> Stream.of(
+                new ExerciseLogScoreDto(1L, wednesday, 10),
+                new ExerciseLogScoreDto(1L, thursday, 5),
+                new ExerciseLogScoreDto(2L, thursday, 7)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("dry-run 은 현재 key 와의 차이만 반환하고 key 는 바꾸지 않는지 테스트")
+    void testDryRunReportsDifferences() {
+        // Given: 수요일 버킷에 유저 1 점수가 틀리고, 운동 기록에 없는 유저 3 이 있음
+        String wednesdayKey = RankingWindow.dayOf(wednesday).getRankingKey();
+        rankingStore.addUserScore(1L, 4L, wednesdayKey);
+        rankingStore.addUserScore(3L, 9L, wednesdayKey);
+
+        // When
+        RankingRebuildResponseDto result = rankingRebuildService.rebuild(wednesday, thursday, true);
+
+        // Then
+        assertEquals(3, result.getScannedLogs());
+        RankingRebuildResponseDto.KeyDiff wednesdayDiff = result.getKeys().stream()
+                .filter(diff -> diff.getRankingKey().equals(wednesdayKey)).findFirst().orElseThrow();
+        assertEquals(1, wednesdayDiff.getRebuiltUsers());
+        assertEquals(2, wednesdayDiff.getLiveUsers());
+        assertEquals(1, wednesdayDiff.getMismatchedScores());
+        assertEquals(1, wednesdayDiff.getExtraUsers());
+        assertEquals(0, wednesdayDiff.getMissingUsers());
+
+        RankingRebuildResponseDto.KeyDiff weekDiff = result.getKeys().stream()
+                .filter(diff -> diff.getRankingKey().equals(RankingWindow.weekOf(wednesday).getRankingKey())).findFirst().orElseThrow();
+        assertEquals(2, weekDiff.getMissingUsers());
+
+        // key 는 그대로
+        assertEquals(4.0, rankingStore.getUserScore(wednesdayKey, 1L));
+        verify(rankingNearCache, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("운동 기록으로 일간 버킷과 주간 key 를 다시 만들어 교체하는지 테스트")
+    void testRebuildReplacesKeys() {
+        // Given
+        String wednesdayKey = RankingWindow.dayOf(wednesday).getRankingKey();
+        rankingStore.addUserScore(3L, 9L, wednesdayKey);
+
+        // When
+        rankingRebuildService.rebuild(wednesday, thursday, false);
+
+        // Then
+        assertEquals(10.0, rankingStore.getUserScore(wednesdayKey, 1L));
+        assertNull(rankingStore.getUserScore(wednesdayKey, 3L));
+        String weekKey = RankingWindow.weekOf(wednesday).getRankingKey();
+        assertEquals(15.0, rankingStore.getUserScore(weekKey, 1L));
+        assertEquals(7.0, rankingStore.getUserScore(weekKey, 2L));
+        assertTrue(rankingStore.findKeysWithoutExpiry("user_ranking:*").isEmpty());
+        verify(rankingNearCache).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("잘못된 기간은 IllegalArgumentException 테스트")
+    void testInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> rankingRebuildService.rebuild(thursday, wednesday, true));
+        assertThrows(IllegalArgumentException.class, () -> rankingRebuildService.rebuild(LocalDate.now().plusDays(1), LocalDate.now().plusDays(2), true));
+    }
+}
@@ -0,0 +1,161 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.ranking.entity.RankingArchive;
+import com.homefit.backend.ranking.repository.RankingArchiveRepository;
+import com.homefit.backend.ranking.repository.RankingStore;
+import com.homefit.backend.ranking.util.RankingWindow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class RankingRetentionServiceTest {
+
+    @Mock
+    private RankingStore rankingStore;
+
+    @Mock
+    private RankingArchiveRepository rankingArchiveRepository;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    private RankingRetentionService rankingRetentionService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        rankingRetentionService = new RankingRetentionService(rankingStore, rankingArchiveRepository,
+                snapshotDirectory.toString(), 2, 35, 7, 30);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("끝난 주간 랭킹의 상위 N명을 테이블과 스냅샷 파일에 보관하고 key 를 삭제하는지 테스트")
+    @SuppressWarnings("unchecked")
+    void testArchiveWeekly() throws Exception {
+        // Given
+        RankingWindow window = RankingWindow.weekOf(LocalDate.of(2024, 9, 18));
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new LinkedHashSet<>();
+        tuples.add(new DefaultTypedTuple<>("2", 20.0));
+        tuples.add(new DefaultTypedTuple<>("3", 15.0));
+        when(rankingArchiveRepository.existsByPeriodTypeAndPeriodStart(RankingWindow.Type.WEEKLY, LocalDate.of(2024, 9, 16))).thenReturn(false);
+        when(rankingStore.getTopUsersWithScores(window.getRankingKey(), 0, 2)).thenReturn(tuples);
+
+        // When
+        rankingRetentionService.archive(window);
+
+        // Then
+        ArgumentCaptor<List<RankingArchive>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rankingArchiveRepository).saveAll(captor.capture());
+        List<RankingArchive> archives = captor.getValue();
+        assertEquals(2, archives.size());
+        assertEquals(1, archives.get(0).getRanking());
+        assertEquals(2L, archives.get(0).getUserId());
+        assertEquals(LocalDate.of(2024, 9, 16), archives.get(0).getPeriodStart());
+        verify(rankingStore).delete(window.getRankingKey());
+
+        Path snapshotFile = rankingRetentionService.getSnapshotPath(window);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(snapshotFile)), StandardCharsets.UTF_8))) {
+            assertEquals(List.of("rank,userId,score", "1,2,20.0", "2,3,15.0"), reader.lines().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    @DisplayName("이미 보관된 기간은 다시 저장하지 않고, 일간 버킷은 삭제하지 않는지 테스트")
+    void testArchiveSkipsArchivedPeriod() throws Exception {
+        // Given
+        RankingWindow window = RankingWindow.dayOf(LocalDate.of(2024, 9, 18));
+        when(rankingArchiveRepository.existsByPeriodTypeAndPeriodStart(RankingWindow.Type.DAILY, LocalDate.of(2024, 9, 18))).thenReturn(true);
+
+        // When
+        rankingRetentionService.archive(window);
+
+        // Then
+        verify(rankingStore, never()).getTopUsersWithScores(anyString(), anyLong(), anyInt());
+        verify(rankingArchiveRepository, never()).saveAll(anyList());
+        verify(rankingStore, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 같은 기간을 보관했으면 저장 충돌을 무시하고 key 는 삭제하는지 테스트")
+    void testArchiveConcurrentInsert() throws Exception {
+        // Given
+        RankingWindow window = RankingWindow.monthOf(LocalDate.of(2024, 9, 18));
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new LinkedHashSet<>();
+        tuples.add(new DefaultTypedTuple<>("2", 20.0));
+        when(rankingArchiveRepository.existsByPeriodTypeAndPeriodStart(RankingWindow.Type.MONTHLY, LocalDate.of(2024, 9, 1))).thenReturn(false);
+        when(rankingStore.getTopUsersWithScores(window.getRankingKey(), 0, 2)).thenReturn(tuples);
+        when(rankingArchiveRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("uk_ranking_archive"));
+
+        // When
+        rankingRetentionService.archive(window);
+
+        // Then
+        verify(rankingStore).delete(window.getRankingKey());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡고 있으면 보관 작업을 실행하지 않는지 테스트")
+    void testRunRetentionSkipsWhenLocked() {
+        // Given
+        when(rankingStore.tryLock(eq(RankingRetentionService.LOCK_KEY), anyString(), eq(30 * 60_000L))).thenReturn(false);
+
+        // When
+        rankingRetentionService.runRetention();
+
+        // Then
+        verify(rankingStore, never()).findKeysWithoutExpiry(anyString());
+        verify(rankingStore, never()).unlock(anyString(), anyString());
+        verifyNoInteractions(rankingArchiveRepository);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없는 일간 버킷에는 날짜 기준 만료 시각을 거는지 테스트")
+    void testExpireOrphanKeys() {
+        // Given
+        LocalDate date = LocalDate.now().minusDays(3);
+        String bucketKey = RankingWindow.dayOf(date).getRankingKey();
+        when(rankingStore.findKeysWithoutExpiry("user_ranking:*")).thenReturn(List.of(bucketKey, "user_ranking:weekly:2024-W5"));
+        when(rankingStore.tryLock(eq(RankingRetentionService.LOCK_KEY), anyString(), anyLong())).thenReturn(true);
+
+        // When
+        rankingRetentionService.runRetention();
+
+        // Then
+        verify(rankingStore).expireAt(bucketKey, RankingWindow.dayOf(date).getExpireAtMillis());
+        verify(rankingStore).expireAt(eq("user_ranking:weekly:2024-W5"), anyLong());
+        verify(rankingStore).trimToTop(RankingWindow.dayOf(LocalDate.now().minusDays(35)).getRankingKey(), 2);
+        verify(rankingStore).unlock(eq(RankingRetentionService.LOCK_KEY), anyString());
+    }
+}
@@ -0,0 +1,122 @@
+package com.homefit.backend.ranking.service;
+
+import com.homefit.backend.ranking.repository.RankingStore;
+import com.homefit.backend.ranking.util.RankingKeyUtil;
+import com.homefit.backend.ranking.util.RankingWindow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class RankingScoreAccumulatorTest {
+
+    @Mock
+    private RankingStore rankingStore;
+
+    @Mock
+    private RankingNearCache rankingNearCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RankingScoreAccumulator accumulator;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        // 주기적 flush 가 테스트 중에 끼어들지 않도록 간격을 길게 설정
+        accumulator = new RankingScoreAccumulator(rankingStore, rankingNearCache, meterRegistry, true, 60_000, Integer.MAX_VALUE);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        accumulator.shutdown();
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("유저별 증가분을 합쳐 한 번에 반영하는지 테스트")
+    void testFlushMergesDeltas() {
+        // Given
+        accumulator.add(1L, 10L);
+        accumulator.add(2L, 5L);
+        accumulator.addAll(Map.of(1L, 7L));
+
+        // When
+        accumulator.flush();
+
+        // Then
+        LocalDate today = LocalDate.now();
+        verify(rankingStore, times(1)).addUserScores(eq(Map.of(1L, 17L, 2L, 5L)),
+                eq(RankingWindow.dayOf(today)), eq(RankingWindow.materializedOf(today)));
+        verify(rankingNearCache, times(1)).invalidate(RankingKeyUtil.getPeriodRankingKeys(today));
+        assertEquals(0.0, meterRegistry.get("ranking.write_behind.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 누적해도 증가분이 유실되지 않는지 테스트")
+    void testConcurrentAddsAreNotLost() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        long[] flushed = new long[1];
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            synchronized (flushed) {
+                flushed[0] += deltas.values().stream().mapToLong(Long::longValue).sum();
+            }
+            return null;
+        }).when(rankingStore).addUserScores(anyMap(), any(RankingWindow.class), anyList());
+
+        // When: 누적과 flush 를 동시에 수행
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    accumulator.add((long) (j % 50), 1L);
+                }
+            });
+        }
+        for (int i = 0; i < 20; i++) {
+            accumulator.flush();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        accumulator.flush();
+
+        // Then
+        assertEquals(80_000L, flushed[0]);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 다시 보내지 않고 버린 수로 기록하는지 테스트")
+    void testFailedFlushIsDropped() {
+        // Given
+        doThrow(new RuntimeException("redis down"))
+                .doNothing()
+                .when(rankingStore).addUserScores(anyMap(), any(RankingWindow.class), anyList());
+        accumulator.add(1L, 3L);
+
+        // When
+        accumulator.flush();
+        accumulator.flush();
+
+        // Then: 일부가 이미 반영됐을 수 있으므로 재전송하지 않음
+        verify(rankingStore, times(1)).addUserScores(eq(Map.of(1L, 3L)), any(RankingWindow.class), anyList());
+        assertEquals(1.0, meterRegistry.get("ranking.write_behind.failed").counter().count());
+        assertEquals(0.0, meterRegistry.get("ranking.write_behind.pending").gauge().value());
+    }
+}
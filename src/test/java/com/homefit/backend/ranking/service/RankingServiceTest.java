@@ -1,45 +1,53 @@
 package com.homefit.backend.ranking.service;
 
+import com.homefit.backend.ranking.dto.RankingAroundResponseDto;
+import com.homefit.backend.ranking.dto.RankingEntryDto;
+import com.homefit.backend.ranking.dto.RankingPercentileResponseDto;
 import com.homefit.backend.ranking.dto.RankingUpdateRequestDto;
+import com.homefit.backend.ranking.repository.InMemoryRankingStore;
 import com.homefit.backend.ranking.util.RankingKeyUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+// 기록 직후 저장소를 바로 확인하므로 write-behind 누적 없이 바로 반영, Redis 없이 프로세스 내부 저장소 사용
+@SpringBootTest(properties = {"ranking.write-behind.enabled=false", "ranking.store=memory"})
 public class RankingServiceTest {
 
     @Autowired
     private RankingService rankingService;
 
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private InMemoryRankingStore rankingStore;
 
     @BeforeEach
     public void setUp() {
-        // Redis 데이터 초기화
-        redisTemplate.getConnectionFactory().getConnection().flushDb();
+        // 랭킹 데이터 초기화
+        rankingStore.clear();
     }
 
     @Test
     @DisplayName("유저 랭킹 기록 테스트")
     public void testUpdateUserExerciseRanking() {
 
-        // 유저 1의 운동 횟수를 업데이트 (일간, 주간, 월간 모두)
+        // 유저 1의 운동 횟수를 업데이트 (일간 버킷, 주간, 월간 모두)
         RankingUpdateRequestDto requestDto = new RankingUpdateRequestDto(1L, 10L);
         rankingService.updateUserExerciseRanking(requestDto);
+        rankingService.updateUserExerciseRanking(requestDto);
 
-        // ZSET에 유저의 점수가 저장되었는지 확인 (일간, 주간, 월간 모두)
-        assertNotNull(redisTemplate.opsForZSet().score(RankingKeyUtil.getDailyRankingKey(), "1"));
-        assertNotNull(redisTemplate.opsForZSet().score(RankingKeyUtil.getWeeklyRankingKey(), "1"));
-        assertNotNull(redisTemplate.opsForZSet().score(RankingKeyUtil.getMonthlyRankingKey(), "1"));
+        // ZSET에 유저의 점수가 저장되었는지 확인 (처음 만든 주간, 월간 key 에도 증가분이 한 번씩만 반영)
+        assertEquals(20.0, rankingStore.getUserScore(RankingKeyUtil.getDailyRankingKey(), 1L));
+        assertEquals(20.0, rankingStore.getUserScore(RankingKeyUtil.getWeeklyRankingKey(), 1L));
+        assertEquals(20.0, rankingStore.getUserScore(RankingKeyUtil.getMonthlyRankingKey(), 1L));
+        assertTrue(rankingStore.findKeysWithoutExpiry("user_ranking:*").isEmpty());
     }
 
     @Test
@@ -130,4 +138,74 @@ public class RankingServiceTest {
         Double monthlyScore = rankingService.getUserScore("monthly", userId);
         assertEquals(10.0, monthlyScore);
     }
+
+    @Test
+    @DisplayName("여러 건의 운동 기록을 유저별로 합산해 한 번에 반영하는 테스트")
+    public void testUpdateUserExerciseRankings() {
+
+        // 같은 유저의 기록이 여러 건 포함된 요청
+        rankingService.updateUserExerciseRankings(List.of(
+                new RankingUpdateRequestDto(1L, 10L),
+                new RankingUpdateRequestDto(2L, 5L),
+                new RankingUpdateRequestDto(1L, 7L)));
+
+        // 유저별 합산 점수가 일간, 주간, 월간 모두 반영되었는지 확인
+        for (String period : List.of("daily", "weekly", "monthly")) {
+            assertEquals(17.0, rankingService.getUserScore(period, 1L));
+            assertEquals(5.0, rankingService.getUserScore(period, 2L));
+        }
+    }
+
+    @Test
+    @DisplayName("일간 버킷을 합친 임의 기간 랭킹 조회 테스트")
+    public void testGetUserScoreForWindow() {
+
+        // 어제 버킷에 미리 점수를 넣고 오늘 점수를 업데이트
+        LocalDate today = LocalDate.now();
+        rankingStore.addUserScore(1L, 5L, RankingKeyUtil.getDailyRankingKey(today.minusDays(1)));
+        rankingService.updateUserExerciseRanking(new RankingUpdateRequestDto(1L, 10L));
+        rankingService.updateUserExerciseRanking(new RankingUpdateRequestDto(2L, 12L));
+
+        // 최근 7일은 어제와 오늘을 합산
+        assertEquals(15.0, rankingService.getUserScore("last7days", 1L));
+        assertEquals(0, rankingService.getUserRank("last7days", 1L));
+
+        // 어제 하루만 지정한 기간
+        String yesterday = today.minusDays(1).toString();
+        assertEquals(5.0, rankingService.getUserScore(yesterday + ".." + yesterday, 1L));
+        assertNull(rankingService.getUserScore(yesterday + ".." + yesterday, 2L));
+
+        // 잘못된 기간
+        assertThrows(IllegalArgumentException.class, () -> rankingService.getUserScore("yearly", 1L));
+        assertThrows(IllegalArgumentException.class, () -> rankingService.getUserScore(today + ".." + today.minusDays(1), 1L));
+    }
+
+    @Test
+    @DisplayName("유저 주변 랭킹과 상위 퍼센트 조회 테스트")
+    public void testGetUsersAroundAndPercentile() {
+
+        // 유저 1~5 가 10, 20, 30, 40, 50 점
+        for (long userId = 1; userId <= 5; userId++) {
+            rankingService.updateUserExerciseRanking(new RankingUpdateRequestDto(userId, userId * 10));
+        }
+
+        // 3번 유저(3등)의 앞뒤 1명
+        RankingAroundResponseDto around = rankingService.getUsersAround("weekly", 3L, 1);
+        assertEquals(3L, around.getRank());
+        assertEquals(5L, around.getTotalUsers());
+        assertEquals(List.of(4L, 3L, 2L), around.getEntries().stream().map(RankingEntryDto::getUserId).toList());
+        assertEquals(List.of(2L, 3L, 4L), around.getEntries().stream().map(RankingEntryDto::getRank).toList());
+        assertEquals(40.0, around.getEntries().get(0).getScore());
+
+        // 랭킹에 없는 유저
+        assertNull(rankingService.getUsersAround("weekly", 6L, 1).getRank());
+        assertThrows(IllegalArgumentException.class, () -> rankingService.getUsersAround("weekly", 3L, 51));
+
+        // 5명 중 2등이면 상위 40%
+        RankingPercentileResponseDto percentile = rankingService.getUserPercentile("daily", 4L);
+        assertEquals(2L, percentile.getRank());
+        assertEquals(40.0, percentile.getScore());
+        assertEquals(40.0, percentile.getTopPercent());
+        assertNull(rankingService.getUserPercentile("daily", 6L).getTopPercent());
+    }
 }